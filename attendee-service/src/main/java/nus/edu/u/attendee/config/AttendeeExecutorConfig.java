@@ -0,0 +1,49 @@
+package nus.edu.u.attendee.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors used by bulk attendee registration.
+ *
+ * <p>Both pools are bounded and fall back to running on the caller once their queue is full, so a
+ * large import slows down instead of piling up work or rejecting attendees.
+ */
+@Configuration
+public class AttendeeExecutorConfig {
+
+    /** CPU-bound QR code rendering; sized to the cores available by default. */
+    @Bean(name = "attendeeQrCodeExecutor")
+    public ThreadPoolTaskExecutor attendeeQrCodeExecutor(
+            @Value("${chronoflow.attendee.qr-code.threads:0}") int threads,
+            @Value("${chronoflow.attendee.qr-code.queue-capacity:1000}") int queueCapacity) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return executor("attendee-qr-", size, queueCapacity);
+    }
+
+    /**
+     * Invitation publishing, run after the attendees of a chunk are stored. Each queued invite keeps
+     * its rendered QR code on the heap, so the queue holds about one import chunk by default.
+     */
+    @Bean(name = "attendeeInviteExecutor")
+    public ThreadPoolTaskExecutor attendeeInviteExecutor(
+            @Value("${chronoflow.attendee.invite.threads:4}") int threads,
+            @Value("${chronoflow.attendee.invite.queue-capacity:500}") int queueCapacity) {
+        return executor("attendee-invite-", threads, queueCapacity);
+    }
+
+    private static ThreadPoolTaskExecutor executor(String prefix, int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(prefix);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,24 @@
+package nus.edu.u.attendee.config;
+
+import java.time.Duration;
+import nus.edu.u.attendee.service.EventSnapshotCache;
+import nus.edu.u.shared.rpc.events.EventRpcService;
+import org.apache.dubbo.config.annotation.DubboReference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Local event snapshots used on the check-in path. */
+@Configuration
+public class EventSnapshotCacheConfig {
+
+    @DubboReference(check = false)
+    private EventRpcService eventRpcService;
+
+    @Bean
+    public EventSnapshotCache eventSnapshotCache(
+            @Value("${chronoflow.event-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${chronoflow.event-cache.maximum-size:1000}") long maximumSize) {
+        return new EventSnapshotCache(eventRpcService, Duration.ofSeconds(ttlSeconds), maximumSize);
+    }
+}
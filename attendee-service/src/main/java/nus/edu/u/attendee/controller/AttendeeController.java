@@ -12,6 +12,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import nus.edu.u.attendee.domain.vo.attendee.AttendeeImportRespVO;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeInfoRespVO;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeQrCodeRespVO;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeReqVO;
@@ -20,7 +21,6 @@ import nus.edu.u.attendee.domain.vo.checkin.CheckInRespVO;
 import nus.edu.u.attendee.domain.vo.checkin.GenerateQrCodesReqVO;
 import nus.edu.u.attendee.domain.vo.checkin.GenerateQrCodesRespVO;
 import nus.edu.u.attendee.service.AttendeeService;
-import nus.edu.u.attendee.service.excel.ExcelService;
 import nus.edu.u.common.core.domain.CommonResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -34,8 +34,6 @@ public class AttendeeController {
 
     @Resource private AttendeeService attendeeService;
 
-    @Resource private ExcelService excelService;
-
     @GetMapping("list/{eventId}")
     public CommonResult<List<AttendeeQrCodeRespVO>> list(
             @PathVariable("eventId") @NotNull Long eventId) {
@@ -76,18 +74,13 @@ public class AttendeeController {
 
     @SaCheckPermission(CREATE_MEMBER)
     @PostMapping("/bulk/{eventId}")
-    public CommonResult<GenerateQrCodesRespVO> generateQrCodeByExcel(
+    public CommonResult<AttendeeImportRespVO> generateQrCodeByExcel(
             @PathVariable("eventId") @NotNull Long eventId,
             @RequestParam("file") MultipartFile file) {
         if (file.isEmpty()) {
             throw exception(BAD_REQUEST);
         }
-        List<AttendeeReqVO> attendees = excelService.importAttendees(file);
-        GenerateQrCodesReqVO reqVO = new GenerateQrCodesReqVO();
-        reqVO.setAttendees(attendees);
-        reqVO.setEventId(eventId);
-        GenerateQrCodesRespVO response = attendeeService.generateQrCodesForAttendees(reqVO);
-        return success(response);
+        return success(attendeeService.importAttendees(eventId, file));
     }
 
     @SaIgnore
@@ -0,0 +1,32 @@
+package nus.edu.u.attendee.domain.vo.attendee;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of an Excel attendee import. Only counts and the first failures are returned; QR codes of
+ * the registered attendees are available through the attendee list.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AttendeeImportRespVO {
+
+    private Long eventId;
+
+    private String eventName;
+
+    /** Data rows read from the sheet */
+    private Integer rowCount;
+
+    private Integer importedCount;
+
+    private Integer failedCount;
+
+    /** The first failures with the reason, at most {@code failedCount} of them */
+    private List<String> failures;
+}
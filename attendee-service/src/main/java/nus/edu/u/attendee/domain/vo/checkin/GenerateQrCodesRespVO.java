@@ -19,4 +19,7 @@ public class GenerateQrCodesRespVO {
     private Integer totalCount;
 
     private List<AttendeeQrCodeRespVO> attendees;
+
+    /** Attendees that were not registered, with the reason */
+    private List<String> failures;
 }
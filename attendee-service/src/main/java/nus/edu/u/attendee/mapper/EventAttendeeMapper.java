@@ -2,9 +2,13 @@ package nus.edu.u.attendee.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import nus.edu.u.attendee.domain.dataobject.EventAttendeeDO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Update;
 
 /**
  * Event Attendee Mapper
@@ -24,6 +28,20 @@ public interface EventAttendeeMapper extends BaseMapper<EventAttendeeDO> {
                         .last("LIMIT 1"));
     }
 
+    /**
+     * Marks the attendee behind {@code token} as checked in, only if it is not already. The status
+     * guard makes concurrent scans of the same code race on the row lock rather than both
+     * succeeding; the unique index on check_in_token keeps this a single-row lookup.
+     *
+     * @return 1 if this call checked the attendee in, 0 if the token is unknown or already used
+     */
+    @Update(
+            "UPDATE event_attendee SET check_in_status = 1, check_in_time = #{checkInTime}"
+                    + " WHERE check_in_token = #{token} AND deleted = 0"
+                    + " AND (check_in_status IS NULL OR check_in_status = 0)")
+    int markCheckedIn(
+            @Param("token") String token, @Param("checkInTime") LocalDateTime checkInTime);
+
     /** 通过 eventId 和 email 查询 */
     default EventAttendeeDO selectByEventAndEmail(Long eventId, String email) {
         return this.selectOne(
@@ -39,4 +57,11 @@ public interface EventAttendeeMapper extends BaseMapper<EventAttendeeDO> {
         return this.selectList(
                 Wrappers.<EventAttendeeDO>lambdaQuery().eq(EventAttendeeDO::getEventId, eventId));
     }
+
+    /** Multi-row insert of a chunk of attendees; generated ids are written back. */
+    int insertBatch(@Param("list") List<EventAttendeeDO> list);
+
+    /** Which of {@code emails} are already registered for the event, deleted rows included. */
+    List<String> selectExistingEmails(
+            @Param("eventId") Long eventId, @Param("emails") Collection<String> emails);
 }
@@ -1,12 +1,14 @@
 package nus.edu.u.attendee.service;
 
 import java.util.List;
+import nus.edu.u.attendee.domain.vo.attendee.AttendeeImportRespVO;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeInfoRespVO;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeQrCodeRespVO;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeReqVO;
 import nus.edu.u.attendee.domain.vo.checkin.CheckInRespVO;
 import nus.edu.u.attendee.domain.vo.checkin.GenerateQrCodesReqVO;
 import nus.edu.u.attendee.domain.vo.checkin.GenerateQrCodesRespVO;
+import org.springframework.web.multipart.MultipartFile;
 
 public interface AttendeeService {
     /**
@@ -26,6 +28,17 @@ public interface AttendeeService {
      */
     GenerateQrCodesRespVO generateQrCodesForAttendees(GenerateQrCodesReqVO reqVO);
 
+    /**
+     * Register the attendees of an Excel sheet, storing them in chunks while the file is still
+     * being read. Invalid and duplicate rows are skipped and reported in the response.
+     *
+     * @param eventId Event the attendees are registered for
+     * @param file Sheet with Email, Name and Mobile columns
+     * @return Counts of imported and failed rows with the first failures; QR codes are fetched
+     *     through {@link #list(Long)}
+     */
+    AttendeeImportRespVO importAttendees(Long eventId, MultipartFile file);
+
     /**
      * Get check-in token for a specific attendee
      *
@@ -4,12 +4,18 @@ import static nus.edu.u.common.enums.ErrorCodeConstants.*;
 import static nus.edu.u.common.utils.exception.ServiceExceptionUtil.exception;
 import static nus.edu.u.framework.mybatis.MybatisPlusConfig.getCurrentTenantId;
 
+import cn.dev33.satoken.stp.StpUtil;
 import cn.hutool.core.util.ObjectUtil;
+import jakarta.annotation.Resource;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import nus.edu.u.attendee.domain.dataobject.EventAttendeeDO;
+import nus.edu.u.attendee.domain.vo.attendee.AttendeeImportRespVO;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeInfoRespVO;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeQrCodeRespVO;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeReqVO;
@@ -19,9 +25,11 @@ import nus.edu.u.attendee.domain.vo.checkin.GenerateQrCodesRespVO;
 import nus.edu.u.attendee.domain.vo.qrcode.QrCodeRespVO;
 import nus.edu.u.attendee.mapper.EventAttendeeMapper;
 import nus.edu.u.attendee.publisher.AttendeeNotificationPublisher;
+import nus.edu.u.attendee.service.excel.ExcelService;
 import nus.edu.u.attendee.service.qrcode.QrCodeService;
 import nus.edu.u.common.enums.EventStatusEnum;
-import nus.edu.u.shared.rpc.events.EventRespDTO;
+import nus.edu.u.common.exception.ServiceException;
+import nus.edu.u.shared.rpc.events.EventBriefDTO;
 import nus.edu.u.shared.rpc.events.EventRpcService;
 import nus.edu.u.shared.rpc.notification.dto.Attendee.AttendeeInviteReqDTO;
 import nus.edu.u.shared.rpc.user.TenantDTO;
@@ -30,12 +38,19 @@ import org.apache.dubbo.config.annotation.DubboReference;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class AttendeeServiceImpl implements AttendeeService {
 
+    /** Attendees registered per duplicate check and multi-row insert during a bulk import. */
+    static final int IMPORT_CHUNK_SIZE = 500;
+
+    /** Failures returned by an Excel import; any beyond this are only counted. */
+    static final int MAX_REPORTED_FAILURES = 100;
+
     private final EventAttendeeMapper attendeeMapper;
 
     @DubboReference(check = false)
@@ -45,7 +60,17 @@ public class AttendeeServiceImpl implements AttendeeService {
 
     private final AttendeeNotificationPublisher attendeeNotificationPublisher;
 
-    @DubboReference private UserRpcService userRpcService;
+    private final UserRpcService userRpcService;
+
+    private final EventSnapshotCache eventSnapshotCache;
+
+    private final ExcelService excelService;
+
+    @Resource(name = "attendeeQrCodeExecutor")
+    private Executor qrCodeExecutor;
+
+    @Resource(name = "attendeeInviteExecutor")
+    private Executor inviteExecutor;
 
     @Value("${app.base-url:http://localhost:8080}")
     private String baseUrl;
@@ -104,7 +129,7 @@ public class AttendeeServiceImpl implements AttendeeService {
         if (ObjectUtil.equals(attendee.getCheckInStatus(), 1)) {
             throw exception(UPDATE_ATTENDEE_FAILED);
         }
-        EventRespDTO event = eventRpcService.getEvent(attendee.getEventId());
+        EventBriefDTO event = getEventBrief(attendee.getEventId());
         System.out.println("get event now" + event);
         if (ObjectUtil.isEmpty(event)) {
             throw exception(EVENT_NOT_FOUND);
@@ -147,7 +172,6 @@ public class AttendeeServiceImpl implements AttendeeService {
     }
 
     @Override
-    @Transactional
     public CheckInRespVO checkIn(String token) {
         // 1. Validate token
         EventAttendeeDO attendee = attendeeMapper.selectByToken(token);
@@ -161,7 +185,7 @@ public class AttendeeServiceImpl implements AttendeeService {
         }
 
         // 3. Validate event status and time
-        EventRespDTO event = eventRpcService.getEvent(attendee.getEventId());
+        EventBriefDTO event = eventSnapshotCache.get(attendee.getEventId());
         if (ObjectUtil.isNull(event)) {
             throw exception(EVENT_NOT_FOUND);
         }
@@ -181,10 +205,12 @@ public class AttendeeServiceImpl implements AttendeeService {
             throw exception(CHECKIN_ENDED);
         }
 
-        // 4. Update check-in status
+        // 4. Update check-in status; only one of several concurrent scans can win
+        if (attendeeMapper.markCheckedIn(token, now) == 0) {
+            throw exception(ALREADY_CHECKED_IN);
+        }
         attendee.setCheckInStatus(1);
         attendee.setCheckInTime(now);
-        attendeeMapper.updateById(attendee);
 
         log.info(
                 "Attendee {} ({}) checked in for event {}",
@@ -204,105 +230,102 @@ public class AttendeeServiceImpl implements AttendeeService {
     }
 
     @Override
-    @Transactional
     public GenerateQrCodesRespVO generateQrCodesForAttendees(GenerateQrCodesReqVO reqVO) {
         Long eventId = reqVO.getEventId();
         List<AttendeeReqVO> attendeeInfos = reqVO.getAttendees();
 
         // 1. Validate event
-        EventRespDTO event = eventRpcService.getEvent(eventId);
+        EventBriefDTO event = getEventBrief(eventId);
         if (ObjectUtil.isNull(event)) {
             throw exception(EVENT_NOT_FOUND);
         }
 
-        // 2. Process each attendee
-        List<AttendeeQrCodeRespVO> successList = new ArrayList<>();
-        List<String> failedList = new ArrayList<>();
-        LocalDateTime now = LocalDateTime.now();
-
+        // 2. Drop rows without email and repeats within the request
+        RegistrationOutcome outcome = RegistrationOutcome.withAttendees();
+        Set<String> seen = new HashSet<>();
+        List<AttendeeReqVO> candidates = new ArrayList<>(attendeeInfos.size());
         for (AttendeeReqVO info : attendeeInfos) {
-            try {
-                if (info.getEmail() == null || info.getEmail().isBlank()) {
-                    failedList.add("email can't be empty");
-                    continue;
-                }
-
-                EventAttendeeDO existing =
-                        attendeeMapper.selectByEventAndEmail(eventId, info.getEmail());
-
-                if (ObjectUtil.isNotNull(existing)) {
-                    failedList.add(info.getEmail() + " - already exist in this event");
-                    log.warn(
-                            "Attendee already exists: email={}, eventId={}",
-                            info.getEmail(),
-                            eventId);
-                    continue;
-                }
-
-                String token = UUID.randomUUID().toString();
-                EventAttendeeDO attendee =
-                        EventAttendeeDO.builder()
-                                .eventId(eventId)
-                                .attendeeEmail(info.getEmail())
-                                .attendeeName(info.getName())
-                                .attendeeMobile(info.getMobile())
-                                .checkInToken(token)
-                                .checkInStatus(0)
-                                .qrCodeGeneratedTime(now)
-                                .build();
-
-                attendeeMapper.insert(attendee);
-
-                QrCodeRespVO qrCode = qrCodeService.generateEventCheckInQrWithToken(token);
-                String qrCodeUrl = baseUrl + "/system/attendee/scan?token=" + token;
-
-                try {
-                    sendEmail(attendee, event, qrCode);
-                } catch (Exception e) {
-                    log.error("Failed to send email to {}: {}", info.getEmail(), e.getMessage());
-                }
+            if (info.getEmail() == null || info.getEmail().isBlank()) {
+                outcome.failed("email can't be empty");
+            } else if (!seen.add(emailKey(info.getEmail()))) {
+                outcome.failed(info.getEmail() + " - already exist in this event");
+            } else {
+                candidates.add(info);
+            }
+        }
 
-                successList.add(
-                        AttendeeQrCodeRespVO.builder()
-                                .id(attendee.getId())
-                                .attendeeEmail(attendee.getAttendeeEmail())
-                                .attendeeName(attendee.getAttendeeName())
-                                .attendeeMobile(attendee.getAttendeeMobile())
-                                .checkInToken(token)
-                                .qrCodeBase64(qrCode.getBase64Image())
-                                .qrCodeUrl(qrCodeUrl)
-                                .checkInStatus(0)
-                                .build());
+        // 3. Register chunk by chunk; each chunk is committed by its own batch insert
+        String organizationName = candidates.isEmpty() ? "" : resolveOrganizationName();
+        for (int from = 0; from < candidates.size(); from += IMPORT_CHUNK_SIZE) {
+            List<AttendeeReqVO> chunk =
+                    candidates.subList(from, Math.min(from + IMPORT_CHUNK_SIZE, candidates.size()));
+            registerChunk(event, chunk, organizationName, outcome);
+        }
 
-            } catch (Exception e) {
-                log.error("Error processing attendee {}: {}", info.getEmail(), e.getMessage(), e);
-                failedList.add(info.getEmail() + " - System error");
-            }
+        logOutcome(event, outcome.registeredCount, outcome.failedCount);
+        if (outcome.registeredCount == 0) {
+            throw creationFailed(outcome.failures);
         }
+        return GenerateQrCodesRespVO.builder()
+                .eventId(event.getId())
+                .eventName(event.getName())
+                .totalCount(outcome.registeredCount)
+                .attendees(outcome.attendees)
+                .failures(outcome.failures)
+                .build();
+    }
 
-        log.info(
-                "Event {}: {} succeeded, {} failed",
-                eventId,
-                successList.size(),
-                failedList.size());
+    @Override
+    public AttendeeImportRespVO importAttendees(Long eventId, MultipartFile file) {
+        EventBriefDTO event = getEventBrief(eventId);
+        if (ObjectUtil.isNull(event)) {
+            throw exception(EVENT_NOT_FOUND);
+        }
 
-        if (!failedList.isEmpty()) {
-            log.warn("Failed attendees: {}", failedList);
+        // Chunks are registered while the rest of the sheet is still being parsed. Only counts
+        // and the first failures are kept, so memory does not grow with the number of rows.
+        RegistrationOutcome outcome = RegistrationOutcome.countsOnly(MAX_REPORTED_FAILURES);
+        String organizationName = resolveOrganizationName();
+        ExcelService.ImportSummary summary =
+                excelService.importAttendees(
+                        file,
+                        IMPORT_CHUNK_SIZE,
+                        chunk -> registerChunk(event, chunk, organizationName, outcome));
+        if (summary.rowCount() == 0) {
+            throw exception(EMPTY_EXCEL);
         }
 
-        if (successList.isEmpty()) {
-            String errorMsg = String.join("; ", failedList);
-            throw exception(ATTENDEE_CREATION_FAILED, "Fail to create" + errorMsg);
+        // Rejected rows come first, as they are reported by row number
+        List<String> failures = new ArrayList<>(summary.errors());
+        failures.addAll(outcome.failures);
+        if (failures.size() > MAX_REPORTED_FAILURES) {
+            failures = new ArrayList<>(failures.subList(0, MAX_REPORTED_FAILURES));
         }
+        int failedCount = summary.errorCount() + outcome.failedCount;
 
-        return GenerateQrCodesRespVO.builder()
-                .eventId(eventId)
+        logOutcome(event, outcome.registeredCount, failedCount);
+        if (outcome.registeredCount == 0) {
+            throw creationFailed(failures);
+        }
+        return AttendeeImportRespVO.builder()
+                .eventId(event.getId())
                 .eventName(event.getName())
-                .totalCount(successList.size())
-                .attendees(successList)
+                .rowCount(summary.rowCount())
+                .importedCount(outcome.registeredCount)
+                .failedCount(failedCount)
+                .failures(failures)
                 .build();
     }
 
+    private static void logOutcome(EventBriefDTO event, int registeredCount, int failedCount) {
+        log.info("Event {}: {} succeeded, {} failed", event.getId(), registeredCount, failedCount);
+    }
+
+    private static ServiceException creationFailed(List<String> failures) {
+        log.warn("Failed attendees: {}", failures);
+        return exception(ATTENDEE_CREATION_FAILED, "Fail to create" + String.join("; ", failures));
+    }
+
     @Override
     @Transactional
     public String getCheckInToken(Long eventId, String email) {
@@ -311,7 +334,7 @@ public class AttendeeServiceImpl implements AttendeeService {
         }
 
         // Validate event exists
-        EventRespDTO event = eventRpcService.getEvent(eventId);
+        EventBriefDTO event = getEventBrief(eventId);
         if (ObjectUtil.isNull(event)) {
             throw exception(EVENT_NOT_FOUND);
         }
@@ -337,8 +360,209 @@ public class AttendeeServiceImpl implements AttendeeService {
         return attendee.getCheckInToken();
     }
 
-    private void sendEmail(EventAttendeeDO attendee, EventRespDTO event, QrCodeRespVO qrCode) {
-        byte[] qrCodeBytes = Base64.getDecoder().decode(qrCode.getBase64Image());
+    private void registerChunk(
+            EventBriefDTO event,
+            List<AttendeeReqVO> chunk,
+            String organizationName,
+            RegistrationOutcome outcome) {
+        Long eventId = event.getId();
+        Set<String> existing = new HashSet<>();
+        attendeeMapper
+                .selectExistingEmails(eventId, chunk.stream().map(AttendeeReqVO::getEmail).toList())
+                .forEach(email -> existing.add(emailKey(email)));
+
+        LocalDateTime now = LocalDateTime.now();
+        Object loginId = StpUtil.getLoginIdDefaultNull();
+        String operator = loginId == null ? null : loginId.toString();
+        List<EventAttendeeDO> attendees = new ArrayList<>(chunk.size());
+        for (AttendeeReqVO info : chunk) {
+            if (existing.contains(emailKey(info.getEmail()))) {
+                outcome.failed(info.getEmail() + " - already exist in this event");
+                log.warn("Attendee already exists: email={}, eventId={}", info.getEmail(), eventId);
+                continue;
+            }
+            EventAttendeeDO attendee =
+                    EventAttendeeDO.builder()
+                            .eventId(eventId)
+                            .attendeeEmail(info.getEmail())
+                            .attendeeName(info.getName())
+                            .attendeeMobile(info.getMobile())
+                            .checkInToken(UUID.randomUUID().toString())
+                            .checkInStatus(0)
+                            .qrCodeGeneratedTime(now)
+                            .build();
+            attendee.setCreator(operator);
+            attendee.setUpdater(operator);
+            attendee.setCreateTime(now);
+            attendee.setUpdateTime(now);
+            attendees.add(attendee);
+        }
+        if (attendees.isEmpty()) {
+            return;
+        }
+
+        // QR rendering is CPU-bound and independent of the database, so it runs on its own pool
+        List<CompletableFuture<QrCodeRespVO>> renders =
+                attendees.stream()
+                        .map(
+                                attendee ->
+                                        CompletableFuture.supplyAsync(
+                                                () ->
+                                                        qrCodeService
+                                                                .generateEventCheckInQrWithToken(
+                                                                        attendee.getCheckInToken()),
+                                                qrCodeExecutor))
+                        .toList();
+        List<EventAttendeeDO> rendered = new ArrayList<>(attendees.size());
+        List<QrCodeRespVO> qrCodes = new ArrayList<>(attendees.size());
+        for (int i = 0; i < attendees.size(); i++) {
+            EventAttendeeDO attendee = attendees.get(i);
+            try {
+                qrCodes.add(renders.get(i).join());
+                rendered.add(attendee);
+            } catch (Exception e) {
+                log.error(
+                        "Error rendering QR code for {}: {}",
+                        attendee.getAttendeeEmail(),
+                        e.getMessage(),
+                        e);
+                outcome.failed(attendee.getAttendeeEmail() + " - System error");
+            }
+        }
+
+        Set<EventAttendeeDO> stored = insertChunk(rendered, outcome);
+        for (int i = 0; i < rendered.size(); i++) {
+            EventAttendeeDO attendee = rendered.get(i);
+            if (!stored.contains(attendee)) {
+                continue;
+            }
+            QrCodeRespVO qrCode = qrCodes.get(i);
+            outcome.registered(
+                    () ->
+                            AttendeeQrCodeRespVO.builder()
+                                    .id(attendee.getId())
+                                    .attendeeEmail(attendee.getAttendeeEmail())
+                                    .attendeeName(attendee.getAttendeeName())
+                                    .attendeeMobile(attendee.getAttendeeMobile())
+                                    .checkInToken(attendee.getCheckInToken())
+                                    .qrCodeBase64(qrCode.getBase64Image())
+                                    .qrCodeUrl(
+                                            baseUrl
+                                                    + "/system/attendee/scan?token="
+                                                    + attendee.getCheckInToken())
+                                    .checkInStatus(0)
+                                    .build());
+            // Decode the PNG on the worker so a queued invite only holds the base64 string
+            inviteExecutor.execute(
+                    () -> publishInvite(inviteRequest(attendee, event, qrCode, organizationName)));
+        }
+    }
+
+    /**
+     * Stores a chunk with one multi-row insert. If that fails, e.g. because another import added
+     * one of the emails in the meantime, rows are retried one by one so only the conflicting ones
+     * are reported.
+     */
+    private Set<EventAttendeeDO> insertChunk(
+            List<EventAttendeeDO> attendees, RegistrationOutcome outcome) {
+        Set<EventAttendeeDO> stored = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (attendees.isEmpty()) {
+            return stored;
+        }
+        try {
+            attendeeMapper.insertBatch(attendees);
+            stored.addAll(attendees);
+            return stored;
+        } catch (Exception e) {
+            log.warn("Batch insert of {} attendees failed, retrying one by one", attendees.size());
+        }
+        for (EventAttendeeDO attendee : attendees) {
+            try {
+                attendeeMapper.insert(attendee);
+                stored.add(attendee);
+            } catch (Exception e) {
+                log.error(
+                        "Error processing attendee {}: {}",
+                        attendee.getAttendeeEmail(),
+                        e.getMessage(),
+                        e);
+                outcome.failed(attendee.getAttendeeEmail() + " - System error");
+            }
+        }
+        return stored;
+    }
+
+    /**
+     * Registered and failed attendees of one bulk registration. An Excel import only counts the
+     * registered attendees and keeps the first failures, so nothing is held per row.
+     */
+    private static final class RegistrationOutcome {
+
+        /** {@code null} when registered attendees are only counted */
+        private final List<AttendeeQrCodeRespVO> attendees;
+
+        private final List<String> failures = new ArrayList<>();
+
+        private final int maxFailures;
+
+        private int registeredCount;
+
+        private int failedCount;
+
+        private RegistrationOutcome(List<AttendeeQrCodeRespVO> attendees, int maxFailures) {
+            this.attendees = attendees;
+            this.maxFailures = maxFailures;
+        }
+
+        static RegistrationOutcome withAttendees() {
+            return new RegistrationOutcome(new ArrayList<>(), Integer.MAX_VALUE);
+        }
+
+        static RegistrationOutcome countsOnly(int maxFailures) {
+            return new RegistrationOutcome(null, maxFailures);
+        }
+
+        void registered(Supplier<AttendeeQrCodeRespVO> attendee) {
+            registeredCount++;
+            if (attendees != null) {
+                attendees.add(attendee.get());
+            }
+        }
+
+        void failed(String reason) {
+            failedCount++;
+            if (failures.size() < maxFailures) {
+                failures.add(reason);
+            }
+        }
+    }
+
+    private void publishInvite(AttendeeInviteReqDTO invite) {
+        try {
+            attendeeNotificationPublisher.sendAttendeeInviteEmail(invite);
+        } catch (Exception e) {
+            log.error("Failed to send email to {}: {}", invite.getToEmail(), e.getMessage());
+        }
+    }
+
+    private static String emailKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private EventBriefDTO getEventBrief(Long eventId) {
+        if (eventId == null) {
+            return null;
+        }
+        Map<Long, EventBriefDTO> events = eventRpcService.getEvents(List.of(eventId));
+        return events == null ? null : events.get(eventId);
+    }
+
+    private void sendEmail(EventAttendeeDO attendee, EventBriefDTO event, QrCodeRespVO qrCode) {
+        attendeeNotificationPublisher.sendAttendeeInviteEmail(
+                inviteRequest(attendee, event, qrCode, resolveOrganizationName()));
+    }
+
+    private String resolveOrganizationName() {
         Long currentTenantId = getCurrentTenantId();
         TenantDTO tenant = null;
 
@@ -353,23 +577,27 @@ public class AttendeeServiceImpl implements AttendeeService {
                 throw exception(ATTENDEE_CREATION_FAILED);
             }
         }
+        return ObjectUtil.isNotNull(tenant) ? tenant.getName() : "";
+    }
 
-        AttendeeInviteReqDTO emailReq =
-                AttendeeInviteReqDTO.builder()
-                        .toEmail(attendee.getAttendeeEmail())
-                        .attendeeMobile(attendee.getAttendeeMobile())
-                        .attendeeName(attendee.getAttendeeName())
-                        .qrCodeBytes(qrCodeBytes)
-                        .qrCodeContentType(qrCode.getContentType())
-                        .eventName(event.getName())
-                        .eventDescription(event.getDescription())
-                        .eventId(event.getId())
-                        .eventLocation(event.getLocation())
-                        .eventDate(event.getStartTime().toString())
-                        .organizationName(ObjectUtil.isNotNull(tenant) ? tenant.getName() : "")
-                        .build();
-
-        attendeeNotificationPublisher.sendAttendeeInviteEmail(emailReq);
+    private AttendeeInviteReqDTO inviteRequest(
+            EventAttendeeDO attendee,
+            EventBriefDTO event,
+            QrCodeRespVO qrCode,
+            String organizationName) {
+        return AttendeeInviteReqDTO.builder()
+                .toEmail(attendee.getAttendeeEmail())
+                .attendeeMobile(attendee.getAttendeeMobile())
+                .attendeeName(attendee.getAttendeeName())
+                .qrCodeBytes(Base64.getDecoder().decode(qrCode.getBase64Image()))
+                .qrCodeContentType(qrCode.getContentType())
+                .eventName(event.getName())
+                .eventDescription(event.getDescription())
+                .eventId(event.getId())
+                .eventLocation(event.getLocation())
+                .eventDate(event.getStartTime().toString())
+                .organizationName(organizationName)
+                .build();
     }
 
     @Override
@@ -383,7 +611,7 @@ public class AttendeeServiceImpl implements AttendeeService {
             throw exception(INVALID_CHECKIN_TOKEN);
         }
 
-        EventRespDTO event = eventRpcService.getEvent(attendee.getEventId());
+        EventBriefDTO event = getEventBrief(attendee.getEventId());
         if (ObjectUtil.isNull(event)) {
             throw exception(EVENT_NOT_FOUND);
         }
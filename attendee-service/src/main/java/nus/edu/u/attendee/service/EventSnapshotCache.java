@@ -0,0 +1,50 @@
+package nus.edu.u.attendee.service;
+
+import cn.hutool.core.util.ObjectUtil;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import nus.edu.u.common.enums.EventStatusEnum;
+import nus.edu.u.shared.rpc.events.EventBriefDTO;
+import nus.edu.u.shared.rpc.events.EventRpcService;
+
+/**
+ * Short-lived local copy of the event snapshots needed to validate check-ins.
+ *
+ * <p>Check-ins for one event arrive in bursts at the door, so each scan would otherwise cost an RPC
+ * to event-service. Only active events are kept: those are the only ones a check-in can succeed
+ * for, and an event that is about to open is always re-read so it becomes usable as soon as
+ * event-service marks it active. The check-in window itself is evaluated against the snapshot times
+ * on every call, so a cached event still stops accepting check-ins at its end time.
+ */
+public class EventSnapshotCache {
+
+    private final EventRpcService eventRpcService;
+
+    private final Cache<Long, EventBriefDTO> cache;
+
+    public EventSnapshotCache(EventRpcService eventRpcService, Duration ttl, long maximumSize) {
+        this.eventRpcService = eventRpcService;
+        this.cache =
+                CacheBuilder.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).build();
+    }
+
+    public EventBriefDTO get(Long eventId) {
+        if (eventId == null) {
+            return null;
+        }
+        EventBriefDTO cached = cache.getIfPresent(eventId);
+        if (cached != null) {
+            return cached;
+        }
+        Map<Long, EventBriefDTO> events = eventRpcService.getEvents(List.of(eventId));
+        EventBriefDTO event = events == null ? null : events.get(eventId);
+        if (event != null
+                && ObjectUtil.equal(event.getStatus(), EventStatusEnum.ACTIVE.getCode())) {
+            cache.put(eventId, event);
+        }
+        return event;
+    }
+}
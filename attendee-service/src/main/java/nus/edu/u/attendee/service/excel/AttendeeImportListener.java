@@ -0,0 +1,108 @@
+package nus.edu.u.attendee.service.excel;
+
+import com.alibaba.excel.context.AnalysisContext;
+import com.alibaba.excel.read.listener.ReadListener;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import nus.edu.u.attendee.domain.vo.attendee.AttendeeReqVO;
+
+/**
+ * Validates attendee rows as EasyExcel parses them and hands valid rows on in fixed-size batches.
+ *
+ * <p>Only the current batch, the emails seen so far (for the in-file duplicate check) and a capped
+ * number of error messages are held, so memory does not grow with the row data of the sheet.
+ */
+class AttendeeImportListener implements ReadListener<AttendeeReqVO> {
+
+    /** Errors beyond this many are only counted. */
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    /** Sheet row of the first data row, below the header. */
+    private static final int FIRST_DATA_ROW = 2;
+
+    private final Validator validator;
+
+    private final int batchSize;
+
+    private final Consumer<List<AttendeeReqVO>> batchHandler;
+
+    private final Set<String> seenEmails = new HashSet<>();
+
+    private final List<String> errors = new ArrayList<>();
+
+    private List<AttendeeReqVO> batch;
+
+    private int rowCount;
+
+    private int validCount;
+
+    private int errorCount;
+
+    AttendeeImportListener(
+            Validator validator, int batchSize, Consumer<List<AttendeeReqVO>> batchHandler) {
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.batchHandler = batchHandler;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void invoke(AttendeeReqVO attendee, AnalysisContext context) {
+        int row = FIRST_DATA_ROW + rowCount++;
+        if (!validator.validate(attendee).isEmpty()) {
+            reject(row, "Invalid data for attendee: " + attendee.getEmail());
+            return;
+        }
+        if (!seenEmails.add(attendee.getEmail().trim().toLowerCase(Locale.ROOT))) {
+            reject(row, "Duplicate email in Excel: " + attendee.getEmail());
+            return;
+        }
+        validCount++;
+        batch.add(attendee);
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void doAfterAllAnalysed(AnalysisContext context) {
+        flush();
+    }
+
+    int getRowCount() {
+        return rowCount;
+    }
+
+    int getValidCount() {
+        return validCount;
+    }
+
+    int getErrorCount() {
+        return errorCount;
+    }
+
+    List<String> getErrors() {
+        return errors;
+    }
+
+    private void reject(int row, String message) {
+        errorCount++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add("Row " + row + ": " + message);
+        }
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<AttendeeReqVO> full = batch;
+        batch = new ArrayList<>(batchSize);
+        batchHandler.accept(full);
+    }
+}
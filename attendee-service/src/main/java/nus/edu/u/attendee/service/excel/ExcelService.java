@@ -1,23 +1,19 @@
 package nus.edu.u.attendee.service.excel;
 
-import static nus.edu.u.common.enums.ErrorCodeConstants.EMPTY_EXCEL;
 import static nus.edu.u.common.exception.enums.GlobalErrorCodeConstants.EXCEL_FORMAT_ERROR;
 import static nus.edu.u.common.utils.exception.ServiceExceptionUtil.exception;
 
-import cn.hutool.core.collection.CollectionUtil;
 import com.alibaba.excel.EasyExcel;
-import com.alibaba.excel.context.AnalysisContext;
-import com.alibaba.excel.event.AnalysisEventListener;
-import jakarta.validation.ConstraintViolation;
+import com.alibaba.excel.exception.ExcelAnalysisException;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.io.InputStream;
 import java.util.List;
-import java.util.Set;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeReqVO;
+import nus.edu.u.common.exception.ServiceException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -27,53 +23,45 @@ public class ExcelService {
 
     private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
-    public List<AttendeeReqVO> importAttendees(MultipartFile file) {
-        try {
-            List<AttendeeReqVO> attendeeList = new ArrayList<>();
-
-            EasyExcel.read(
-                            file.getInputStream(),
-                            AttendeeReqVO.class,
-                            new AnalysisEventListener<AttendeeReqVO>() {
-                                @Override
-                                public void invoke(
-                                        AttendeeReqVO attendee, AnalysisContext context) {
-                                    attendeeList.add(attendee);
-                                }
-
-                                @Override
-                                public void doAfterAllAnalysed(AnalysisContext context) {
-                                    // no-op
-                                }
-                            })
-                    .sheet()
-                    .doRead();
-
-            if (CollectionUtil.isEmpty(attendeeList)) {
-                throw exception(EMPTY_EXCEL);
-            }
-
-            Set<String> emailSet = new HashSet<>();
-            for (AttendeeReqVO attendee : attendeeList) {
-                // 1️⃣ 校验必填字段
-                Set<ConstraintViolation<AttendeeReqVO>> violations = validator.validate(attendee);
-                if (!violations.isEmpty()) {
-                    throw new IllegalArgumentException(
-                            "Invalid data for attendee: " + attendee.getEmail());
-                }
-
-                // 2️⃣ 校验 Excel 内部重复
-                if (!emailSet.add(attendee.getEmail())) {
-                    throw new IllegalArgumentException(
-                            "Duplicate email in Excel: " + attendee.getEmail());
-                }
-            }
-
-            log.info("Imported {} attendees", attendeeList.size());
-
-            return attendeeList;
+    /**
+     * Stream the attendee sheet, passing valid rows to {@code batchHandler} in batches of at most
+     * {@code batchSize} while the rest of the file is still being parsed. Rows with missing fields
+     * or an email already seen earlier in the file are skipped and reported in the summary.
+     */
+    public ImportSummary importAttendees(
+            MultipartFile file, int batchSize, Consumer<List<AttendeeReqVO>> batchHandler) {
+        AttendeeImportListener listener =
+                new AttendeeImportListener(validator, batchSize, batchHandler);
+        try (InputStream in = file.getInputStream()) {
+            EasyExcel.read(in, AttendeeReqVO.class, listener).sheet().doRead();
         } catch (IOException e) {
             throw exception(EXCEL_FORMAT_ERROR);
+        } catch (ExcelAnalysisException e) {
+            // EasyExcel wraps whatever the batch handler threw
+            if (e.getCause() instanceof ServiceException serviceException) {
+                throw serviceException;
+            }
+            log.warn("Failed to parse attendee Excel: {}", e.getMessage());
+            throw exception(EXCEL_FORMAT_ERROR);
         }
+
+        log.info(
+                "Imported {} of {} attendee rows, {} rejected",
+                listener.getValidCount(),
+                listener.getRowCount(),
+                listener.getErrorCount());
+        return new ImportSummary(
+                listener.getRowCount(),
+                listener.getValidCount(),
+                listener.getErrorCount(),
+                listener.getErrors());
     }
+
+    /**
+     * Outcome of a streamed import.
+     *
+     * @param errors the first {@link AttendeeImportListener#MAX_REPORTED_ERRORS} rejections
+     */
+    public record ImportSummary(
+            int rowCount, int validCount, int errorCount, List<String> errors) {}
 }
@@ -1,12 +1,12 @@
 package nus.edu.u.attendee.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import nus.edu.u.attendee.domain.vo.attendee.AttendeeImportRespVO;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeInfoRespVO;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeQrCodeRespVO;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeReqVO;
@@ -15,7 +15,6 @@ import nus.edu.u.attendee.domain.vo.checkin.CheckInRespVO;
 import nus.edu.u.attendee.domain.vo.checkin.GenerateQrCodesReqVO;
 import nus.edu.u.attendee.domain.vo.checkin.GenerateQrCodesRespVO;
 import nus.edu.u.attendee.service.AttendeeService;
-import nus.edu.u.attendee.service.excel.ExcelService;
 import nus.edu.u.common.core.domain.CommonResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,8 +29,6 @@ class AttendeeControllerTest {
 
     @Mock private AttendeeService attendeeService;
 
-    @Mock private ExcelService excelService;
-
     @InjectMocks private AttendeeController controller;
 
     private AttendeeQrCodeRespVO sampleQr;
@@ -186,25 +183,20 @@ class AttendeeControllerTest {
     void generateQrCodeByExcel_success() {
         MockMultipartFile file = new MockMultipartFile("file", "content".getBytes());
 
-        AttendeeReqVO a1 = new AttendeeReqVO();
-        a1.setEmail("x@x.com");
-        a1.setName("X");
-        a1.setMobile("1");
-
-        when(excelService.importAttendees(file)).thenReturn(List.of(a1));
-
-        GenerateQrCodesRespVO resp =
-                GenerateQrCodesRespVO.builder()
+        AttendeeImportRespVO resp =
+                AttendeeImportRespVO.builder()
                         .eventId(7L)
-                        .totalCount(1)
-                        .attendees(List.of(sampleQr))
+                        .rowCount(1)
+                        .importedCount(1)
+                        .failedCount(0)
+                        .failures(List.of())
                         .build();
 
-        when(attendeeService.generateQrCodesForAttendees(any())).thenReturn(resp);
+        when(attendeeService.importAttendees(7L, file)).thenReturn(resp);
 
-        CommonResult<GenerateQrCodesRespVO> res = controller.generateQrCodeByExcel(7L, file);
+        CommonResult<AttendeeImportRespVO> res = controller.generateQrCodeByExcel(7L, file);
 
         assertTrue(res.isSuccess());
-        assertEquals(1, res.getData().getTotalCount());
+        assertEquals(1, res.getData().getImportedCount());
     }
 }
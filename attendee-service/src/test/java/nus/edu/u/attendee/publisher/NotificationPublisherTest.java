@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.cloud.spring.pubsub.core.PubSubTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import nus.edu.u.shared.rpc.notification.dto.common.NotificationRequestDTO;
@@ -20,6 +21,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +29,7 @@ class NotificationPublisherTest {
 
     @Mock private PubSubTemplate pubSubTemplate;
     @Mock private ObjectMapper objectMapper;
+    @Spy private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks private NotificationPublisher publisher;
 
@@ -153,6 +156,13 @@ class NotificationPublisherTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Pub/Sub publish failed")
                 .hasCause(root);
+        assertThat(
+                        meterRegistry
+                                .get(NotificationPublisher.METRIC_NAME)
+                                .tag("outcome", "error")
+                                .timer()
+                                .count())
+                .isEqualTo(1);
     }
 
     private static final class StubFuture extends CompletableFuture<String> {
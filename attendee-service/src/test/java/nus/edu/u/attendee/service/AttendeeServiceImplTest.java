@@ -5,6 +5,7 @@ import static nus.edu.u.common.enums.ErrorCodeConstants.ATTENDEE_CREATION_FAILED
 import static nus.edu.u.common.enums.ErrorCodeConstants.ATTENDEE_NOT_EXIST;
 import static nus.edu.u.common.enums.ErrorCodeConstants.CHECKIN_ENDED;
 import static nus.edu.u.common.enums.ErrorCodeConstants.CHECKIN_NOT_STARTED;
+import static nus.edu.u.common.enums.ErrorCodeConstants.EMPTY_EXCEL;
 import static nus.edu.u.common.enums.ErrorCodeConstants.EVENT_ATTENDEE_NOT_FOUND;
 import static nus.edu.u.common.enums.ErrorCodeConstants.EVENT_NOT_ACTIVE;
 import static nus.edu.u.common.enums.ErrorCodeConstants.EVENT_NOT_FOUND;
@@ -13,6 +14,10 @@ import static nus.edu.u.common.enums.ErrorCodeConstants.UPDATE_ATTENDEE_FAILED;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -21,10 +26,18 @@ import static org.mockito.Mockito.when;
 
 import cn.dev33.satoken.context.mock.SaTokenContextMockUtil;
 import cn.dev33.satoken.stp.StpUtil;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import nus.edu.u.attendee.domain.dataobject.EventAttendeeDO;
+import nus.edu.u.attendee.domain.vo.attendee.AttendeeImportRespVO;
+import nus.edu.u.attendee.domain.vo.attendee.AttendeeQrCodeRespVO;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeReqVO;
 import nus.edu.u.attendee.domain.vo.checkin.CheckInRespVO;
 import nus.edu.u.attendee.domain.vo.checkin.GenerateQrCodesReqVO;
@@ -32,12 +45,12 @@ import nus.edu.u.attendee.domain.vo.checkin.GenerateQrCodesRespVO;
 import nus.edu.u.attendee.domain.vo.qrcode.QrCodeRespVO;
 import nus.edu.u.attendee.mapper.EventAttendeeMapper;
 import nus.edu.u.attendee.publisher.AttendeeNotificationPublisher;
+import nus.edu.u.attendee.service.excel.ExcelService;
 import nus.edu.u.attendee.service.qrcode.QrCodeService;
 import nus.edu.u.common.constant.Constants;
 import nus.edu.u.common.enums.EventStatusEnum;
 import nus.edu.u.common.exception.ServiceException;
-import nus.edu.u.shared.rpc.events.EventRespDTO;
-import nus.edu.u.shared.rpc.events.EventRespDTO.GroupVO;
+import nus.edu.u.shared.rpc.events.EventBriefDTO;
 import nus.edu.u.shared.rpc.events.EventRpcService;
 import nus.edu.u.shared.rpc.user.TenantDTO;
 import nus.edu.u.shared.rpc.user.UserRpcService;
@@ -47,6 +60,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +71,7 @@ class AttendeeServiceImplTest {
     @Mock private QrCodeService qrCodeService;
     @Mock private UserRpcService userRpcService;
     @Mock private AttendeeNotificationPublisher attendeeNotificationPublisher;
+    @Mock private ExcelService excelService;
 
     @InjectMocks private AttendeeServiceImpl service;
 
@@ -67,8 +82,14 @@ class AttendeeServiceImplTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(service, "eventRpcService", eventRpcService);
+        ReflectionTestUtils.setField(
+                service,
+                "eventSnapshotCache",
+                new EventSnapshotCache(eventRpcService, Duration.ofSeconds(30), 100));
         ReflectionTestUtils.setField(service, "userRpcService", userRpcService);
         ReflectionTestUtils.setField(service, "baseUrl", BASE_URL);
+        ReflectionTestUtils.setField(service, "qrCodeExecutor", (Executor) Runnable::run);
+        ReflectionTestUtils.setField(service, "inviteExecutor", (Executor) Runnable::run);
         ReflectionTestUtils.setField(
                 service, "attendeeNotificationPublisher", attendeeNotificationPublisher);
     }
@@ -156,14 +177,14 @@ class AttendeeServiceImplTest {
         ServiceException ex =
                 assertThrows(ServiceException.class, () -> service.update(11L, req()));
         assertThat(ex.getCode()).isEqualTo(UPDATE_ATTENDEE_FAILED.getCode());
-        verify(eventRpcService, never()).getEvent(any());
+        verify(eventRpcService, never()).getEvents(any());
     }
 
     @Test
     void update_eventMissingThrows() {
         EventAttendeeDO attendee = attendee(11L, 3L);
         when(attendeeMapper.selectById(11L)).thenReturn(attendee);
-        when(eventRpcService.getEvent(attendee.getEventId())).thenReturn(null);
+        when(eventRpcService.getEvents(List.of(attendee.getEventId()))).thenReturn(Map.of());
 
         ServiceException ex =
                 assertThrows(ServiceException.class, () -> service.update(11L, req()));
@@ -174,7 +195,8 @@ class AttendeeServiceImplTest {
     void update_updateFailureThrows() {
         EventAttendeeDO attendee = attendee(11L, 3L);
         when(attendeeMapper.selectById(11L)).thenReturn(attendee);
-        when(eventRpcService.getEvent(attendee.getEventId())).thenReturn(event(3L));
+        when(eventRpcService.getEvents(List.of(attendee.getEventId())))
+                .thenReturn(Map.of(attendee.getEventId(), event(3L)));
         when(attendeeMapper.updateById(attendee)).thenReturn(0);
 
         ServiceException ex =
@@ -187,8 +209,9 @@ class AttendeeServiceImplTest {
         EventAttendeeDO attendee = attendee(11L, 3L);
         attendee.setCheckInToken(null);
         when(attendeeMapper.selectById(11L)).thenReturn(attendee);
-        EventRespDTO event = event(3L);
-        when(eventRpcService.getEvent(attendee.getEventId())).thenReturn(event);
+        EventBriefDTO event = event(3L);
+        when(eventRpcService.getEvents(List.of(attendee.getEventId())))
+                .thenReturn(Map.of(attendee.getEventId(), event));
         when(attendeeMapper.updateById(attendee)).thenReturn(1);
         when(qrCodeService.generateEventCheckInQrWithToken(any())).thenReturn(qrCodeResponse());
         when(userRpcService.getTenantById(1L)).thenReturn(tenant());
@@ -215,8 +238,9 @@ class AttendeeServiceImplTest {
         EventAttendeeDO attendee = attendee(21L, 4L);
         attendee.setCheckInToken(null);
         when(attendeeMapper.selectById(21L)).thenReturn(attendee);
-        EventRespDTO event = event(4L);
-        when(eventRpcService.getEvent(attendee.getEventId())).thenReturn(event);
+        EventBriefDTO event = event(4L);
+        when(eventRpcService.getEvents(List.of(attendee.getEventId())))
+                .thenReturn(Map.of(attendee.getEventId(), event));
         when(attendeeMapper.updateById(attendee)).thenReturn(1);
         when(qrCodeService.generateEventCheckInQrWithToken(any())).thenReturn(qrCodeResponse());
         when(userRpcService.getTenantById(1L)).thenReturn(null);
@@ -241,8 +265,9 @@ class AttendeeServiceImplTest {
         EventAttendeeDO attendee = attendee(31L, 6L);
         attendee.setCheckInToken(null);
         when(attendeeMapper.selectById(31L)).thenReturn(attendee);
-        EventRespDTO event = event(6L);
-        when(eventRpcService.getEvent(attendee.getEventId())).thenReturn(event);
+        EventBriefDTO event = event(6L);
+        when(eventRpcService.getEvents(List.of(attendee.getEventId())))
+                .thenReturn(Map.of(attendee.getEventId(), event));
         when(attendeeMapper.updateById(attendee)).thenReturn(1);
         when(qrCodeService.generateEventCheckInQrWithToken(any())).thenReturn(qrCodeResponse());
         when(userRpcService.getTenantById(1L)).thenThrow(new RuntimeException("rpc down"));
@@ -286,7 +311,7 @@ class AttendeeServiceImplTest {
         EventAttendeeDO attendee = attendee(1L, 5L);
         attendee.setCheckInStatus(0);
         when(attendeeMapper.selectByToken("token")).thenReturn(attendee);
-        when(eventRpcService.getEvent(attendee.getEventId())).thenReturn(null);
+        when(eventRpcService.getEvents(List.of(attendee.getEventId()))).thenReturn(Map.of());
 
         ServiceException ex = assertThrows(ServiceException.class, () -> service.checkIn("token"));
         assertThat(ex.getCode()).isEqualTo(EVENT_NOT_FOUND.getCode());
@@ -297,9 +322,10 @@ class AttendeeServiceImplTest {
         EventAttendeeDO attendee = attendee(1L, 5L);
         attendee.setCheckInStatus(0);
         when(attendeeMapper.selectByToken("token")).thenReturn(attendee);
-        EventRespDTO event = event(5L);
+        EventBriefDTO event = event(5L);
         event.setStatus(EventStatusEnum.COMPLETED.getCode());
-        when(eventRpcService.getEvent(attendee.getEventId())).thenReturn(event);
+        when(eventRpcService.getEvents(List.of(attendee.getEventId())))
+                .thenReturn(Map.of(attendee.getEventId(), event));
 
         ServiceException ex = assertThrows(ServiceException.class, () -> service.checkIn("token"));
         assertThat(ex.getCode()).isEqualTo(EVENT_NOT_ACTIVE.getCode());
@@ -309,10 +335,11 @@ class AttendeeServiceImplTest {
     void checkIn_notStartedThrows() {
         EventAttendeeDO attendee = attendee(1L, 5L);
         when(attendeeMapper.selectByToken("token")).thenReturn(attendee);
-        EventRespDTO event = event(5L);
+        EventBriefDTO event = event(5L);
         event.setStartTime(LocalDateTime.now().plusHours(3));
         event.setEndTime(event.getStartTime().plusHours(2));
-        when(eventRpcService.getEvent(attendee.getEventId())).thenReturn(event);
+        when(eventRpcService.getEvents(List.of(attendee.getEventId())))
+                .thenReturn(Map.of(attendee.getEventId(), event));
 
         ServiceException ex = assertThrows(ServiceException.class, () -> service.checkIn("token"));
         assertThat(ex.getCode()).isEqualTo(CHECKIN_NOT_STARTED.getCode());
@@ -322,10 +349,11 @@ class AttendeeServiceImplTest {
     void checkIn_endedThrows() {
         EventAttendeeDO attendee = attendee(1L, 5L);
         when(attendeeMapper.selectByToken("token")).thenReturn(attendee);
-        EventRespDTO event = event(5L);
+        EventBriefDTO event = event(5L);
         event.setStartTime(LocalDateTime.now().minusHours(3));
         event.setEndTime(LocalDateTime.now().minusHours(1));
-        when(eventRpcService.getEvent(attendee.getEventId())).thenReturn(event);
+        when(eventRpcService.getEvents(List.of(attendee.getEventId())))
+                .thenReturn(Map.of(attendee.getEventId(), event));
 
         ServiceException ex = assertThrows(ServiceException.class, () -> service.checkIn("token"));
         assertThat(ex.getCode()).isEqualTo(CHECKIN_ENDED.getCode());
@@ -335,17 +363,47 @@ class AttendeeServiceImplTest {
     void checkIn_successUpdatesStatus() {
         EventAttendeeDO attendee = attendee(1L, 5L);
         when(attendeeMapper.selectByToken("token")).thenReturn(attendee);
-        EventRespDTO event = event(5L);
+        EventBriefDTO event = event(5L);
         event.setStartTime(LocalDateTime.now().minusHours(1));
         event.setEndTime(LocalDateTime.now().plusHours(1));
-        when(eventRpcService.getEvent(attendee.getEventId())).thenReturn(event);
-        when(attendeeMapper.updateById(attendee)).thenReturn(1);
+        when(eventRpcService.getEvents(List.of(attendee.getEventId())))
+                .thenReturn(Map.of(attendee.getEventId(), event));
+        when(attendeeMapper.markCheckedIn(eq("token"), any(LocalDateTime.class))).thenReturn(1);
 
         CheckInRespVO resp = service.checkIn("token");
 
         assertThat(resp.getSuccess()).isTrue();
         assertThat(attendee.getCheckInStatus()).isEqualTo(1);
-        verify(attendeeMapper).updateById(attendee);
+        verify(attendeeMapper).markCheckedIn("token", resp.getCheckInTime());
+        verify(attendeeMapper, never()).updateById(any(EventAttendeeDO.class));
+    }
+
+    @Test
+    void checkIn_concurrentScanLosesRace() {
+        EventAttendeeDO attendee = attendee(1L, 5L);
+        when(attendeeMapper.selectByToken("token")).thenReturn(attendee);
+        EventBriefDTO event = event(5L);
+        when(eventRpcService.getEvents(List.of(5L))).thenReturn(Map.of(5L, event));
+        when(attendeeMapper.markCheckedIn(eq("token"), any(LocalDateTime.class))).thenReturn(0);
+
+        ServiceException ex = assertThrows(ServiceException.class, () -> service.checkIn("token"));
+        assertThat(ex.getCode()).isEqualTo(ALREADY_CHECKED_IN.getCode());
+    }
+
+    @Test
+    void checkIn_reusesActiveEventSnapshot() {
+        EventAttendeeDO first = attendee(1L, 5L);
+        EventAttendeeDO second = attendee(2L, 5L);
+        when(attendeeMapper.selectByToken("t1")).thenReturn(first);
+        when(attendeeMapper.selectByToken("t2")).thenReturn(second);
+        EventBriefDTO event = event(5L);
+        when(eventRpcService.getEvents(List.of(5L))).thenReturn(Map.of(5L, event));
+        when(attendeeMapper.markCheckedIn(anyString(), any(LocalDateTime.class))).thenReturn(1);
+
+        service.checkIn("t1");
+        service.checkIn("t2");
+
+        verify(eventRpcService, times(1)).getEvents(List.of(5L));
     }
 
     @Test
@@ -353,7 +411,7 @@ class AttendeeServiceImplTest {
         GenerateQrCodesReqVO req = new GenerateQrCodesReqVO();
         req.setEventId(8L);
         req.setAttendees(List.of(req("a@test.com")));
-        when(eventRpcService.getEvent(8L)).thenReturn(null);
+        when(eventRpcService.getEvents(List.of(8L))).thenReturn(Map.of());
 
         ServiceException ex =
                 assertThrows(
@@ -370,7 +428,7 @@ class AttendeeServiceImplTest {
         bad.setName("NoEmail");
         bad.setMobile("123");
         req.setAttendees(List.of(bad));
-        when(eventRpcService.getEvent(8L)).thenReturn(event(8L));
+        when(eventRpcService.getEvents(List.of(8L))).thenReturn(Map.of(8L, event(8L)));
 
         ServiceException ex =
                 assertThrows(
@@ -384,29 +442,174 @@ class AttendeeServiceImplTest {
         req.setEventId(8L);
         AttendeeReqVO duplicate = req("dup@test.com");
         AttendeeReqVO fresh = req("fresh@test.com");
-        req.setAttendees(List.of(duplicate, fresh));
+        AttendeeReqVO repeated = req("FRESH@test.com");
+        req.setAttendees(List.of(duplicate, fresh, repeated));
 
-        EventRespDTO event = event(8L);
-        when(eventRpcService.getEvent(8L)).thenReturn(event);
-        when(attendeeMapper.selectByEventAndEmail(8L, "dup@test.com"))
-                .thenReturn(attendee(100L, 8L));
-        when(attendeeMapper.selectByEventAndEmail(8L, "fresh@test.com")).thenReturn(null);
+        EventBriefDTO event = event(8L);
+        when(eventRpcService.getEvents(List.of(8L))).thenReturn(Map.of(8L, event));
+        when(attendeeMapper.selectExistingEmails(8L, List.of("dup@test.com", "fresh@test.com")))
+                .thenReturn(List.of("dup@test.com"));
         when(qrCodeService.generateEventCheckInQrWithToken(any())).thenReturn(qrCodeResponse());
         doAnswer(
                         invocation -> {
-                            EventAttendeeDO attendee = invocation.getArgument(0);
-                            attendee.setId(200L);
-                            return 1;
+                            List<EventAttendeeDO> attendees = invocation.getArgument(0);
+                            attendees.forEach(attendee -> attendee.setId(200L));
+                            return attendees.size();
                         })
                 .when(attendeeMapper)
-                .insert(any(EventAttendeeDO.class));
+                .insertBatch(anyList());
 
-        GenerateQrCodesRespVO resp = service.generateQrCodesForAttendees(req);
+        GenerateQrCodesRespVO resp = withLogin(() -> service.generateQrCodesForAttendees(req));
 
         assertThat(resp.getTotalCount()).isEqualTo(1);
         assertThat(resp.getAttendees())
                 .extracting("attendeeEmail")
                 .containsExactly("fresh@test.com");
+        assertThat(resp.getAttendees().get(0).getId()).isEqualTo(200L);
+        verify(attendeeNotificationPublisher).sendAttendeeInviteEmail(any());
+        verify(attendeeMapper, never()).insert(any(EventAttendeeDO.class));
+    }
+
+    @Test
+    void generateQrCodes_largeImportIsChunked() {
+        GenerateQrCodesReqVO req = new GenerateQrCodesReqVO();
+        req.setEventId(8L);
+        List<AttendeeReqVO> attendees = new ArrayList<>();
+        for (int i = 0; i <= AttendeeServiceImpl.IMPORT_CHUNK_SIZE; i++) {
+            attendees.add(req("user" + i + "@test.com"));
+        }
+        req.setAttendees(attendees);
+        when(eventRpcService.getEvents(List.of(8L))).thenReturn(Map.of(8L, event(8L)));
+        when(attendeeMapper.selectExistingEmails(eq(8L), anyList())).thenReturn(List.of());
+        when(qrCodeService.generateEventCheckInQrWithToken(any())).thenReturn(qrCodeResponse());
+        when(attendeeMapper.insertBatch(anyList()))
+                .thenAnswer(i -> i.<List<?>>getArgument(0).size());
+
+        GenerateQrCodesRespVO resp = withLogin(() -> service.generateQrCodesForAttendees(req));
+
+        assertThat(resp.getTotalCount()).isEqualTo(attendees.size());
+        verify(attendeeMapper, times(2)).selectExistingEmails(eq(8L), anyList());
+        verify(attendeeMapper, times(2)).insertBatch(anyList());
+        verify(userRpcService, times(1)).getTenantById(1L);
+    }
+
+    @Test
+    void generateQrCodes_failedBatchFallsBackToSingleInserts() {
+        GenerateQrCodesReqVO req = new GenerateQrCodesReqVO();
+        req.setEventId(8L);
+        req.setAttendees(List.of(req("taken@test.com"), req("ok@test.com")));
+        when(eventRpcService.getEvents(List.of(8L))).thenReturn(Map.of(8L, event(8L)));
+        when(attendeeMapper.selectExistingEmails(eq(8L), anyList())).thenReturn(List.of());
+        when(qrCodeService.generateEventCheckInQrWithToken(any())).thenReturn(qrCodeResponse());
+        when(attendeeMapper.insertBatch(anyList()))
+                .thenThrow(new IllegalStateException("duplicate key"));
+        doAnswer(
+                        invocation -> {
+                            EventAttendeeDO attendee = invocation.getArgument(0);
+                            if ("taken@test.com".equals(attendee.getAttendeeEmail())) {
+                                throw new IllegalStateException("duplicate key");
+                            }
+                            return 1;
+                        })
+                .when(attendeeMapper)
+                .insert(any(EventAttendeeDO.class));
+
+        GenerateQrCodesRespVO resp = withLogin(() -> service.generateQrCodesForAttendees(req));
+
+        assertThat(resp.getAttendees()).extracting("attendeeEmail").containsExactly("ok@test.com");
+        verify(attendeeNotificationPublisher, times(1)).sendAttendeeInviteEmail(any());
+    }
+
+    @Test
+    void importAttendees_registersChunksAsTheyAreRead() {
+        MockMultipartFile file = new MockMultipartFile("file", "content".getBytes());
+        when(eventRpcService.getEvents(List.of(8L))).thenReturn(Map.of(8L, event(8L)));
+        when(attendeeMapper.selectExistingEmails(eq(8L), anyList())).thenReturn(List.of());
+        when(qrCodeService.generateEventCheckInQrWithToken(any())).thenReturn(qrCodeResponse());
+        when(attendeeMapper.insertBatch(anyList()))
+                .thenAnswer(i -> i.<List<?>>getArgument(0).size());
+        doAnswer(
+                        invocation -> {
+                            Consumer<List<AttendeeReqVO>> handler = invocation.getArgument(2);
+                            handler.accept(List.of(req("a@test.com")));
+                            handler.accept(List.of(req("b@test.com")));
+                            return new ExcelService.ImportSummary(
+                                    3, 2, 1, List.of("Row 4: Invalid data for attendee: "));
+                        })
+                .when(excelService)
+                .importAttendees(eq(file), eq(AttendeeServiceImpl.IMPORT_CHUNK_SIZE), any());
+
+        AttendeeImportRespVO resp = withLogin(() -> service.importAttendees(8L, file));
+
+        assertThat(resp.getRowCount()).isEqualTo(3);
+        assertThat(resp.getImportedCount()).isEqualTo(2);
+        assertThat(resp.getFailedCount()).isEqualTo(1);
+        assertThat(resp.getFailures()).containsExactly("Row 4: Invalid data for attendee: ");
+        verify(attendeeMapper, times(2)).insertBatch(anyList());
+        verify(attendeeNotificationPublisher, times(2)).sendAttendeeInviteEmail(any());
+    }
+
+    @Test
+    void importAttendees_keepsOnlyCountsAndCappedFailures() {
+        MockMultipartFile file = new MockMultipartFile("file", "content".getBytes());
+        int chunks = 3;
+        int rows = chunks * AttendeeServiceImpl.IMPORT_CHUNK_SIZE;
+        when(eventRpcService.getEvents(List.of(8L))).thenReturn(Map.of(8L, event(8L)));
+        // Every other row is already registered, so half of each chunk fails
+        when(attendeeMapper.selectExistingEmails(eq(8L), anyList()))
+                .thenAnswer(
+                        i ->
+                                i.<List<String>>getArgument(1).stream()
+                                        .filter(email -> email.startsWith("taken"))
+                                        .toList());
+        when(qrCodeService.generateEventCheckInQrWithToken(any())).thenReturn(qrCodeResponse());
+        when(attendeeMapper.insertBatch(anyList()))
+                .thenAnswer(i -> i.<List<?>>getArgument(0).size());
+        doAnswer(
+                        invocation -> {
+                            Consumer<List<AttendeeReqVO>> handler = invocation.getArgument(2);
+                            int row = 0;
+                            for (int c = 0; c < chunks; c++) {
+                                List<AttendeeReqVO> chunk = new ArrayList<>();
+                                for (int i = 0; i < AttendeeServiceImpl.IMPORT_CHUNK_SIZE; i++) {
+                                    String prefix = row % 2 == 0 ? "taken" : "new";
+                                    chunk.add(req(prefix + row++ + "@test.com"));
+                                }
+                                handler.accept(chunk);
+                            }
+                            return new ExcelService.ImportSummary(
+                                    rows + 1, rows, 1, List.of("Row 2: Invalid data"));
+                        })
+                .when(excelService)
+                .importAttendees(eq(file), eq(AttendeeServiceImpl.IMPORT_CHUNK_SIZE), any());
+
+        AttendeeImportRespVO resp = withLogin(() -> service.importAttendees(8L, file));
+
+        assertThat(resp.getRowCount()).isEqualTo(rows + 1);
+        assertThat(resp.getImportedCount()).isEqualTo(rows / 2);
+        assertThat(resp.getFailedCount()).isEqualTo(rows / 2 + 1);
+        assertThat(resp.getFailures())
+                .hasSize(AttendeeServiceImpl.MAX_REPORTED_FAILURES)
+                .startsWith("Row 2: Invalid data", "taken0@test.com - already exist in this event");
+        // The response carries no per-row QR payload; those are served by the attendee list
+        assertThat(AttendeeImportRespVO.class.getDeclaredFields())
+                .extracting("type")
+                .doesNotContain(AttendeeQrCodeRespVO.class);
+        verify(attendeeNotificationPublisher, times(rows / 2)).sendAttendeeInviteEmail(any());
+    }
+
+    @Test
+    void importAttendees_emptySheetThrows() {
+        MockMultipartFile file = new MockMultipartFile("file", "content".getBytes());
+        when(eventRpcService.getEvents(List.of(8L))).thenReturn(Map.of(8L, event(8L)));
+        when(excelService.importAttendees(eq(file), anyInt(), any()))
+                .thenReturn(new ExcelService.ImportSummary(0, 0, 0, List.of()));
+
+        ServiceException ex =
+                assertThrows(
+                        ServiceException.class,
+                        () -> withLogin(() -> service.importAttendees(8L, file)));
+        assertThat(ex.getCode()).isEqualTo(EMPTY_EXCEL.getCode());
     }
 
     @Test
@@ -416,7 +619,7 @@ class AttendeeServiceImplTest {
 
     @Test
     void getCheckInToken_eventMissingThrows() {
-        when(eventRpcService.getEvent(1L)).thenReturn(null);
+        when(eventRpcService.getEvents(List.of(1L))).thenReturn(Map.of());
 
         ServiceException ex =
                 assertThrows(
@@ -426,7 +629,7 @@ class AttendeeServiceImplTest {
 
     @Test
     void getCheckInToken_attendeeMissingThrows() {
-        when(eventRpcService.getEvent(1L)).thenReturn(event(1L));
+        when(eventRpcService.getEvents(List.of(1L))).thenReturn(Map.of(1L, event(1L)));
         when(attendeeMapper.selectByEventAndEmail(1L, "a@test.com")).thenReturn(null);
 
         ServiceException ex =
@@ -439,7 +642,7 @@ class AttendeeServiceImplTest {
     void getCheckInToken_generatesNewTokenWhenMissing() {
         EventAttendeeDO attendee = attendee(10L, 1L);
         attendee.setCheckInToken(null);
-        when(eventRpcService.getEvent(1L)).thenReturn(event(1L));
+        when(eventRpcService.getEvents(List.of(1L))).thenReturn(Map.of(1L, event(1L)));
         when(attendeeMapper.selectByEventAndEmail(1L, "a@test.com")).thenReturn(attendee);
         when(attendeeMapper.updateById(attendee)).thenReturn(1);
 
@@ -453,7 +656,7 @@ class AttendeeServiceImplTest {
     void getCheckInToken_returnsExistingToken() {
         EventAttendeeDO attendee = attendee(10L, 1L);
         attendee.setCheckInToken("existing");
-        when(eventRpcService.getEvent(1L)).thenReturn(event(1L));
+        when(eventRpcService.getEvents(List.of(1L))).thenReturn(Map.of(1L, event(1L)));
         when(attendeeMapper.selectByEventAndEmail(1L, "a@test.com")).thenReturn(attendee);
 
         String token = service.getCheckInToken(1L, "a@test.com");
@@ -482,7 +685,7 @@ class AttendeeServiceImplTest {
     void getAttendeeInfo_eventMissingThrows() {
         EventAttendeeDO attendee = attendee(1L, 2L);
         when(attendeeMapper.selectByToken("token")).thenReturn(attendee);
-        when(eventRpcService.getEvent(attendee.getEventId())).thenReturn(null);
+        when(eventRpcService.getEvents(List.of(attendee.getEventId()))).thenReturn(Map.of());
 
         ServiceException ex =
                 assertThrows(ServiceException.class, () -> service.getAttendeeInfo("token"));
@@ -497,9 +700,10 @@ class AttendeeServiceImplTest {
         attendee.setCheckInStatus(1);
         attendee.setCheckInTime(LocalDateTime.now());
         when(attendeeMapper.selectByToken("token")).thenReturn(attendee);
-        EventRespDTO event = event(2L);
+        EventBriefDTO event = event(2L);
         event.setName("Event");
-        when(eventRpcService.getEvent(attendee.getEventId())).thenReturn(event);
+        when(eventRpcService.getEvents(List.of(attendee.getEventId())))
+                .thenReturn(Map.of(attendee.getEventId(), event));
 
         var resp = service.getAttendeeInfo("token");
 
@@ -523,8 +727,8 @@ class AttendeeServiceImplTest {
         return attendee;
     }
 
-    private EventRespDTO event(Long id) {
-        EventRespDTO dto = new EventRespDTO();
+    private EventBriefDTO event(Long id) {
+        EventBriefDTO dto = new EventBriefDTO();
         dto.setId(id);
         dto.setName("Event-" + id);
         dto.setDescription("desc");
@@ -532,10 +736,21 @@ class AttendeeServiceImplTest {
         dto.setStatus(EventStatusEnum.ACTIVE.getCode());
         dto.setStartTime(LocalDateTime.now().minusHours(1));
         dto.setEndTime(LocalDateTime.now().plusHours(1));
-        dto.setGroups(List.of(new GroupVO()));
         return dto;
     }
 
+    private <T> T withLogin(Supplier<T> action) {
+        SaTokenContextMockUtil.setMockContext();
+        StpUtil.login(123L);
+        StpUtil.getSession().set(Constants.SESSION_TENANT_ID, 1L);
+        try {
+            return action.get();
+        } finally {
+            StpUtil.logout(123L);
+            SaTokenContextMockUtil.clearContext();
+        }
+    }
+
     private AttendeeReqVO req() {
         AttendeeReqVO req = new AttendeeReqVO();
         req.setEmail("updated@test.com");
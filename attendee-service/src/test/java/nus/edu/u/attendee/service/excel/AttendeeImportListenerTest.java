@@ -0,0 +1,65 @@
+package nus.edu.u.attendee.service.excel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.validation.Validation;
+import java.util.ArrayList;
+import java.util.List;
+import nus.edu.u.attendee.domain.vo.attendee.AttendeeReqVO;
+import org.junit.jupiter.api.Test;
+
+class AttendeeImportListenerTest {
+
+    private final List<List<AttendeeReqVO>> batches = new ArrayList<>();
+
+    private final AttendeeImportListener listener =
+            new AttendeeImportListener(
+                    Validation.buildDefaultValidatorFactory().getValidator(), 2, batches::add);
+
+    @Test
+    void flushesFullBatchesWhileReadingAndRemainderAtEnd() {
+        listener.invoke(row("a@x.com"), null);
+        listener.invoke(row("b@x.com"), null);
+        assertThat(batches).hasSize(1);
+
+        listener.invoke(row("c@x.com"), null);
+        listener.doAfterAllAnalysed(null);
+
+        assertThat(batches).extracting(List::size).containsExactly(2, 1);
+        assertThat(listener.getValidCount()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsInvalidAndDuplicateRowsWithTheirSheetRow() {
+        listener.invoke(row("a@x.com"), null);
+        listener.invoke(row(""), null);
+        listener.invoke(row("A@x.com"), null);
+        listener.doAfterAllAnalysed(null);
+
+        assertThat(batches).singleElement().asList().hasSize(1);
+        assertThat(listener.getRowCount()).isEqualTo(3);
+        assertThat(listener.getErrors())
+                .containsExactly(
+                        "Row 3: Invalid data for attendee: ",
+                        "Row 4: Duplicate email in Excel: A@x.com");
+    }
+
+    @Test
+    void countsErrorsBeyondTheReportedOnes() {
+        for (int i = 0; i < AttendeeImportListener.MAX_REPORTED_ERRORS + 5; i++) {
+            listener.invoke(row(""), null);
+        }
+
+        assertThat(listener.getErrorCount())
+                .isEqualTo(AttendeeImportListener.MAX_REPORTED_ERRORS + 5);
+        assertThat(listener.getErrors()).hasSize(AttendeeImportListener.MAX_REPORTED_ERRORS);
+    }
+
+    private static AttendeeReqVO row(String email) {
+        AttendeeReqVO row = new AttendeeReqVO();
+        row.setEmail(email);
+        row.setName("Name");
+        row.setMobile("123");
+        return row;
+    }
+}
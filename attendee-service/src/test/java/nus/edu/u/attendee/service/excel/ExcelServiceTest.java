@@ -1,10 +1,11 @@
 package nus.edu.u.attendee.service.excel;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.alibaba.excel.EasyExcel;
 import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
 import java.util.List;
 import nus.edu.u.attendee.domain.vo.attendee.AttendeeReqVO;
 import org.junit.jupiter.api.Test;
@@ -31,14 +32,16 @@ class ExcelServiceTest {
                         "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
                         out.toByteArray());
 
-        List<AttendeeReqVO> list = excelService.importAttendees(file);
+        List<AttendeeReqVO> list = new ArrayList<>();
+        ExcelService.ImportSummary summary = excelService.importAttendees(file, 10, list::addAll);
 
+        assertEquals(1, summary.validCount());
         assertEquals(1, list.size());
         assertEquals("x@x.com", list.get(0).getEmail());
     }
 
     @Test
-    void importAttendees_duplicateEmail_throws() throws Exception {
+    void importAttendees_duplicateEmail_isReported() throws Exception {
         AttendeeReqVO a1 = new AttendeeReqVO();
         a1.setEmail("dup@x.com");
         a1.setName("A");
@@ -59,14 +62,16 @@ class ExcelServiceTest {
                         "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
                         out.toByteArray());
 
-        IllegalArgumentException ex =
-                assertThrows(
-                        IllegalArgumentException.class, () -> excelService.importAttendees(file));
-        assertEquals(true, ex.getMessage().contains("Duplicate email"));
+        List<AttendeeReqVO> list = new ArrayList<>();
+        ExcelService.ImportSummary summary = excelService.importAttendees(file, 10, list::addAll);
+
+        assertEquals(1, list.size());
+        assertEquals(1, summary.errorCount());
+        assertTrue(summary.errors().get(0).contains("Duplicate email"));
     }
 
     @Test
-    void importAttendees_missingField_throws() throws Exception {
+    void importAttendees_missingField_isReported() throws Exception {
         AttendeeReqVO a = new AttendeeReqVO();
         a.setEmail(""); // missing email
         a.setName("N");
@@ -82,10 +87,11 @@ class ExcelServiceTest {
                         "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
                         out.toByteArray());
 
-        IllegalArgumentException ex =
-                assertThrows(
-                        IllegalArgumentException.class, () -> excelService.importAttendees(file));
-        // message contains the problematic email (empty string)
-        assertEquals(true, ex.getMessage().contains("Invalid data for attendee"));
+        List<AttendeeReqVO> list = new ArrayList<>();
+        ExcelService.ImportSummary summary = excelService.importAttendees(file, 10, list::addAll);
+
+        assertTrue(list.isEmpty());
+        assertEquals(1, summary.rowCount());
+        assertTrue(summary.errors().get(0).contains("Invalid data for attendee"));
     }
 }
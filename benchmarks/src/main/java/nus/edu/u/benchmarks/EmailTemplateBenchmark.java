@@ -0,0 +1,74 @@
+package nus.edu.u.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import nus.edu.u.domain.dto.common.RenderedTemplateDTO;
+import nus.edu.u.services.template.email.EmailTemplateServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+/**
+ * Thymeleaf rendering of the email templates shipped with notification-service.
+ *
+ * <p>The engine mirrors what Spring Boot auto-configures in the service: SpEL expressions and
+ * cached templates under {@code classpath:templates/}, so only steady-state rendering is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    @Param({"new-task-assigned", "attendee-qr-invite"})
+    private String templateKey;
+
+    private final Map<String, Object> variables =
+            Map.of(
+                    "subject", "You have been invited",
+                    "eventId", "1024",
+                    "eventName", "NUS Open Day 2026",
+                    "eventDate", "2026-03-01 09:00",
+                    "eventLocation", "University Town, Stephen Riady Centre",
+                    "eventDescription", "Campus tours, talks and booths for prospective students.",
+                    "organizationName", "NUS Computing Club",
+                    "attendeeName", "Alice Tan",
+                    "assignerName", "Bob Lim",
+                    "taskName", "Set up registration desk");
+
+    private EmailTemplateServiceImpl service;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resolver.setCacheable(true);
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        service = new EmailTemplateServiceImpl(engine);
+    }
+
+    @Benchmark
+    public RenderedTemplateDTO render() {
+        return service.render(templateKey, variables, Locale.ENGLISH);
+    }
+}
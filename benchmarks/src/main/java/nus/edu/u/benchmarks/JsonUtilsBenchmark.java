@@ -0,0 +1,107 @@
+package nus.edu.u.benchmarks;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import nus.edu.u.common.utils.json.JsonUtils;
+import nus.edu.u.shared.rpc.notification.dto.common.AttachmentDTO;
+import nus.edu.u.shared.rpc.notification.dto.common.NotificationRequestDTO;
+import nus.edu.u.shared.rpc.notification.enums.NotificationChannel;
+import nus.edu.u.shared.rpc.notification.enums.NotificationEventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JSON round trip of the notification requests that producers publish to Pub/Sub and
+ * notification-service parses back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonUtilsBenchmark {
+
+    private NotificationRequestDTO taskAssigned;
+
+    private NotificationRequestDTO attendeeInvite;
+
+    private String taskAssignedJson;
+
+    private String attendeeInviteJson;
+
+    @Setup
+    public void setUp() {
+        taskAssigned =
+                NotificationRequestDTO.builder()
+                        .channel(NotificationChannel.EMAIL)
+                        .to("alice.tan@example.com")
+                        .userId("1843920175")
+                        .templateId(NotificationEventType.NEW_TASK_ASSIGN.getCode())
+                        .variables(
+                                Map.of(
+                                        "assignerName", "Bob Lim",
+                                        "taskName", "Set up registration desk",
+                                        "eventName", "NUS Open Day 2026",
+                                        "eventId", 1024L))
+                        .locale(Locale.ENGLISH)
+                        .eventId(
+                                NotificationEventType.buildEventId(
+                                        NotificationEventType.NEW_TASK_ASSIGN, 1024L, 4242L))
+                        .type(NotificationEventType.NEW_TASK_ASSIGN)
+                        .build();
+
+        // Inline QR attachment, the largest payload producers publish
+        byte[] png = new byte[6 * 1024];
+        for (int i = 0; i < png.length; i++) {
+            png[i] = (byte) (i * 31);
+        }
+        attendeeInvite =
+                taskAssigned.toBuilder()
+                        .templateId(NotificationEventType.ATTENDEE_INVITE.getCode())
+                        .type(NotificationEventType.ATTENDEE_INVITE)
+                        .attachments(
+                                List.of(
+                                        AttachmentDTO.builder()
+                                                .filename("check-in-qr.png")
+                                                .contentType("image/png")
+                                                .bytes(png)
+                                                .inline(true)
+                                                .contentId("qr")
+                                                .build()))
+                        .build();
+
+        taskAssignedJson = JsonUtils.toJsonString(taskAssigned);
+        attendeeInviteJson = JsonUtils.toJsonString(attendeeInvite);
+    }
+
+    @Benchmark
+    public String serializeTaskAssigned() {
+        return JsonUtils.toJsonString(taskAssigned);
+    }
+
+    @Benchmark
+    public String serializeAttendeeInvite() {
+        return JsonUtils.toJsonString(attendeeInvite);
+    }
+
+    @Benchmark
+    public NotificationRequestDTO parseTaskAssigned() {
+        return JsonUtils.parseObject(taskAssignedJson, NotificationRequestDTO.class);
+    }
+
+    @Benchmark
+    public NotificationRequestDTO parseAttendeeInvite() {
+        return JsonUtils.parseObject(attendeeInviteJson, NotificationRequestDTO.class);
+    }
+}
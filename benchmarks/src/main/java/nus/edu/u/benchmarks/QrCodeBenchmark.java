@@ -0,0 +1,50 @@
+package nus.edu.u.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import nus.edu.u.attendee.domain.vo.qrcode.QrCodeReqVO;
+import nus.edu.u.attendee.domain.vo.qrcode.QrCodeRespVO;
+import nus.edu.u.attendee.service.qrcode.QrCodeServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Check-in QR code generation done once per invited attendee. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QrCodeBenchmark {
+
+    /** Same shape as the URL built by {@code generateEventCheckInQrWithToken}. */
+    private static final String CHECK_IN_URL =
+            "https://chronoflow.example.com/system/attendee/scan?token="
+                    + "3f1c9e2a-7b4d-4c8e-9a61-0d5b2f7e8c13";
+
+    /** Default size and the size used for check-in codes. */
+    @Param({"300", "400"})
+    private int size;
+
+    private final QrCodeServiceImpl service = new QrCodeServiceImpl();
+
+    @Benchmark
+    public byte[] pngBytes() throws IOException {
+        return service.generateQrCodeBytes(CHECK_IN_URL, size, "PNG");
+    }
+
+    /** PNG generation plus the Base64 response returned to clients. */
+    @Benchmark
+    public QrCodeRespVO base64Response() {
+        return service.generateQrCode(
+                QrCodeReqVO.builder().content(CHECK_IN_URL).size(size).format("PNG").build());
+    }
+}
@@ -0,0 +1,51 @@
+package nus.edu.u.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import nus.edu.u.gateway.filter.SecurityHeadersFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/** Response header assembly that the gateway performs on every routed request. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityHeadersFilterBenchmark {
+
+    private static final GatewayFilterChain NO_OP_CHAIN = exchange -> Mono.empty();
+
+    private final SecurityHeadersFilter filter = new SecurityHeadersFilter();
+
+    private MockServerWebExchange exchange;
+
+    private HttpHeaders responseHeaders;
+
+    @Setup
+    public void setUp() {
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/events/1024").build());
+        responseHeaders = exchange.getResponse().getHeaders();
+    }
+
+    /** Reuses one exchange; clearing the headers is part of the measured cost. */
+    @Benchmark
+    public HttpHeaders addHeaders() {
+        responseHeaders.clear();
+        filter.filter(exchange, NO_OP_CHAIN);
+        return responseHeaders;
+    }
+}
@@ -0,0 +1,40 @@
+package nus.edu.u.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import nus.edu.u.framework.sentinel.SentinelUrlCleaner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Resource name resolution that Sentinel runs on every servlet request. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SentinelUrlCleanerBenchmark {
+
+    /** Deep template, shallow template, literal tail after an id, and a URL with no template. */
+    @Param({
+        "/events/groups/1024/members/2048",
+        "/tasks/77",
+        "/events/1024/assignable-groups",
+        "/users/organizer/list"
+    })
+    private String url;
+
+    private final SentinelUrlCleaner cleaner = new SentinelUrlCleaner();
+
+    @Benchmark
+    public String clean() {
+        return cleaner.clean(url);
+    }
+}
@@ -0,0 +1,50 @@
+package nus.edu.u.benchmarks;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import nus.edu.u.notification.service.TemplateRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Placeholder expansion applied to push and WebSocket notification texts. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateRendererBenchmark {
+
+    private static final String TEMPLATE =
+            "Hi {{userName}}, {{assignerName}} assigned you \"{{taskName}}\" in {{eventName}}."
+                    + " It is due on {{deadline}}; open {{link}} for details. {{unknown.key}}";
+
+    private static final Map<String, Object> VARIABLES =
+            Map.of(
+                    "userName", "Alice Tan",
+                    "assignerName", "Bob Lim",
+                    "taskName", "Set up registration desk",
+                    "eventName", "NUS Open Day 2026",
+                    "deadline", "2026-03-01 09:00",
+                    "link", "https://chronoflow.example.com/tasks/4242");
+
+    private final TemplateRenderer renderer = new TemplateRenderer();
+
+    @Benchmark
+    public String render() {
+        return renderer.render(TEMPLATE, VARIABLES);
+    }
+
+    @Benchmark
+    public Set<String> extractPlaceholders() {
+        return renderer.extractPlaceholders(TEMPLATE);
+    }
+}
@@ -7,4 +7,7 @@ public class CacheConstants {
     public static final String USER_ROLE_KEY = "roles";
 
     public static final String USER_PERMISSION_KEY = "permissions";
+
+    /** Redis pub/sub channel carrying the values of logged-out, kicked-out or replaced tokens */
+    public static final String TOKEN_REVOKED_CHANNEL = "chronoflow:token:revoked";
 }
@@ -0,0 +1,15 @@
+-- Secondary indexes for the task lookups (task database)
+-- Every query on these tables carries tenant_id (added by the tenant interceptor) and deleted = 0
+-- (logical delete), so both are part of each index. The trailing columns let the pending-task
+-- check and the id lookups be answered from the index alone.
+
+-- Tasks of an event: listTasksByEvent, getTasksByEventIds, deleteTasksByEventId
+CREATE INDEX idx_task_tenant_event_status ON task (tenant_id, event_id, status, deleted);
+
+-- Tasks of a member: listTasksByMember, the member dashboard, hasPendingTasks
+CREATE INDEX idx_task_tenant_user_event_status ON task (tenant_id, user_id, event_id, status, deleted);
+
+-- History of a task: getTaskLog, log removal on event deletion
+CREATE INDEX idx_task_log_tenant_task ON task_log (tenant_id, task_id, deleted);
+
+-- Note: mysql/init/task.sql already creates these indexes on a fresh database
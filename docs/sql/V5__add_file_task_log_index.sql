@@ -0,0 +1,7 @@
+-- Secondary index for task log attachments (file database)
+-- downloadFilesByTaskLogIds loads the files of a whole task history with task_log_id IN (...),
+-- which scans the file table without this index.
+
+CREATE INDEX idx_file_task_log_id ON file (task_log_id);
+
+-- Note: mysql/init/file.sql already creates this index on a fresh database
@@ -0,0 +1,10 @@
+-- Secondary indexes for the event status job (event database)
+-- EventStatusSyncJob runs markNotStarted, markActive and markCompleted across all tenants on every
+-- tick. Each UPDATE filters on the stale status plus start_time or end_time, so without these
+-- indexes every run scans the whole event table.
+
+CREATE INDEX idx_event_status_start_time ON event (status, start_time);
+
+CREATE INDEX idx_event_status_end_time ON event (status, end_time);
+
+-- Note: mysql/init/event.sql already creates these indexes on a fresh database
@@ -7,6 +7,7 @@ import nus.edu.u.event.domain.dto.event.EventDTO;
 import nus.edu.u.event.domain.dto.event.EventRespVO;
 import nus.edu.u.event.domain.dto.event.EventUpdateReqVO;
 import nus.edu.u.event.domain.dto.event.UpdateEventRespVO;
+import nus.edu.u.shared.rpc.events.EventBriefDTO;
 import nus.edu.u.shared.rpc.events.EventRespDTO;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
@@ -74,4 +75,7 @@ public interface EventConvert {
     UpdateEventRespVO toUpdateResp(EventDO bean);
 
     EventRespDTO toRpc(EventRespVO bean);
+
+    @Mapping(target = "organizerId", source = "userId")
+    EventBriefDTO toBrief(EventDO bean);
 }
@@ -0,0 +1,45 @@
+package nus.edu.u.event.job;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nus.edu.u.event.mapper.EventMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves events between not started, active and completed as their start and end times pass.
+ *
+ * <p>Runs as three set-based UPDATEs instead of touching events one by one on the read path. The
+ * statements are idempotent, so overlapping runs on several instances are harmless. Readers derive
+ * the status from the time range as well, which covers the gap until the next run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventStatusSyncJob {
+
+    private final EventMapper eventMapper;
+
+    @Scheduled(
+            initialDelayString = "${chronoflow.event.status-sync.initial-delay-ms:10000}",
+            fixedDelayString = "${chronoflow.event.status-sync.interval-ms:60000}")
+    public void syncStatuses() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int notStarted = eventMapper.markNotStarted(now);
+            int active = eventMapper.markActive(now);
+            int completed = eventMapper.markCompleted(now);
+            if (notStarted + active + completed > 0) {
+                log.info(
+                        "Event status sync: {} not started, {} active, {} completed",
+                        notStarted,
+                        active,
+                        completed);
+            }
+        } catch (Exception e) {
+            // Next run retries; readers derive the status in the meantime
+            log.warn("Event status sync failed", e);
+        }
+    }
+}
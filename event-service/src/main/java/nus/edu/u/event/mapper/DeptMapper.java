@@ -1,8 +1,38 @@
 package nus.edu.u.event.mapper;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import java.util.Collection;
+import java.util.List;
 import nus.edu.u.event.domain.dataobject.group.DeptDO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
 
 @Mapper
-public interface DeptMapper extends BaseMapper<DeptDO> {}
+public interface DeptMapper extends BaseMapper<DeptDO> {
+
+    /*
+     * Groups of one user in the given events, led or joined. The membership side is resolved
+     * through uk_user_event (user_id, event_id, deleted) so only the user's own rows are read.
+     */
+    @Select({
+        "<script>",
+        "SELECT * FROM sys_dept",
+        "WHERE deleted = 0",
+        "AND event_id IN",
+        "<foreach collection='eventIds' item='eventId' open='(' separator=',' close=')'>",
+        "#{eventId}",
+        "</foreach>",
+        "AND (lead_user_id = #{userId} OR id IN (",
+        "SELECT dept_id FROM sys_user_group",
+        "WHERE user_id = #{userId} AND deleted = 0 AND event_id IN",
+        "<foreach collection='eventIds' item='eventId' open='(' separator=',' close=')'>",
+        "#{eventId}",
+        "</foreach>",
+        "))",
+        "ORDER BY event_id, id",
+        "</script>"
+    })
+    List<DeptDO> selectGroupsOfUser(
+            @Param("userId") Long userId, @Param("eventIds") Collection<Long> eventIds);
+}
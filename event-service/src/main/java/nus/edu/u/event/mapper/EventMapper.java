@@ -1,6 +1,8 @@
 package nus.edu.u.event.mapper;
 
+import com.baomidou.mybatisplus.annotation.InterceptorIgnore;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import java.time.LocalDateTime;
 import nus.edu.u.event.domain.dataobject.event.EventDO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -18,4 +20,30 @@ public interface EventMapper extends BaseMapper<EventDO> {
                     + "SET deleted = 0, update_time = NOW() "
                     + "WHERE id = #{id} AND deleted = 1")
     int restoreById(@Param("id") Long id);
+
+    /*
+     * Set-based status transitions for the scheduled sync, across all tenants. Each statement only
+     * touches rows whose stored status is stale, so a run with nothing to do writes nothing.
+     */
+
+    @InterceptorIgnore(tenantLine = "true")
+    @Update(
+            "UPDATE event SET status = 0, update_time = NOW() "
+                    + "WHERE deleted = 0 AND status IN (1, 2) AND start_time > #{now} "
+                    + "AND end_time IS NOT NULL")
+    int markNotStarted(@Param("now") LocalDateTime now);
+
+    @InterceptorIgnore(tenantLine = "true")
+    @Update(
+            "UPDATE event SET status = 1, update_time = NOW() "
+                    + "WHERE deleted = 0 AND status IN (0, 2) AND start_time <= #{now} "
+                    + "AND end_time >= #{now}")
+    int markActive(@Param("now") LocalDateTime now);
+
+    @InterceptorIgnore(tenantLine = "true")
+    @Update(
+            "UPDATE event SET status = 2, update_time = NOW() "
+                    + "WHERE deleted = 0 AND status IN (0, 1) AND end_time < #{now} "
+                    + "AND start_time <= #{now}")
+    int markCompleted(@Param("now") LocalDateTime now);
 }
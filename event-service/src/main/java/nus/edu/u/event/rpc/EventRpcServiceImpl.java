@@ -4,7 +4,10 @@ import static nus.edu.u.common.enums.ErrorCodeConstants.EVENT_NOT_FOUND;
 import static nus.edu.u.common.utils.exception.ServiceExceptionUtil.exception;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +19,7 @@ import nus.edu.u.event.domain.dto.group.GroupRespVO;
 import nus.edu.u.event.mapper.EventMapper;
 import nus.edu.u.event.mapper.UserGroupMapper;
 import nus.edu.u.event.service.GroupApplicationService;
+import nus.edu.u.shared.rpc.events.EventBriefDTO;
 import nus.edu.u.shared.rpc.events.EventRespDTO;
 import nus.edu.u.shared.rpc.events.EventRpcService;
 import org.apache.dubbo.config.annotation.DubboService;
@@ -46,6 +50,26 @@ public class EventRpcServiceImpl implements EventRpcService {
         return eventConvert.toRpc(eventResp);
     }
 
+    @Override
+    public Map<Long, EventBriefDTO> getEvents(Collection<Long> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> distinctIds = eventIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, EventBriefDTO> events = new LinkedHashMap<>();
+        for (EventDO event : eventMapper.selectBatchIds(distinctIds)) {
+            EventBriefDTO brief = eventConvert.toBrief(event);
+            if (brief != null) {
+                events.put(event.getId(), brief);
+            }
+        }
+        return events;
+    }
+
     @Override
     public boolean exists(Long eventId) {
         if (eventId == null) {
@@ -19,4 +19,10 @@ public class GroupRpcServiceImpl implements GroupRpcService {
     public Map<Long, List<GroupDTO>> getGroupsByEventIds(Collection<Long> eventIds) {
         return groupApplicationService.getGroupDTOsByEventIds(eventIds);
     }
+
+    @Override
+    public Map<Long, List<GroupDTO>> getUserGroupsByEventIds(
+            Long userId, Collection<Long> eventIds) {
+        return groupApplicationService.getUserGroupDTOsByEventIds(userId, eventIds);
+    }
 }
@@ -4,6 +4,7 @@ import static nus.edu.u.common.enums.ErrorCodeConstants.*;
 import static nus.edu.u.common.utils.exception.ServiceExceptionUtil.exception;
 
 import cn.dev33.satoken.stp.StpUtil;
+import com.baomidou.dynamic.datasource.annotation.DS;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -31,6 +32,7 @@ import nus.edu.u.event.domain.dto.event.EventUpdateReqVO;
 import nus.edu.u.event.domain.dto.event.UpdateEventRespVO;
 import nus.edu.u.event.domain.dto.group.GroupRespVO;
 import nus.edu.u.event.enums.TaskStatusEnum;
+import nus.edu.u.event.job.EventStatusSyncJob;
 import nus.edu.u.event.mapper.EventMapper;
 import nus.edu.u.event.mapper.UserGroupMapper;
 import nus.edu.u.event.service.validation.EventValidationContext;
@@ -81,7 +83,8 @@ public class EventApplicationServiceImpl implements EventApplicationService {
     }
 
     @Override
-    @Transactional
+    @DS("slave")
+    @Transactional(readOnly = true)
     public List<EventRespVO> list() {
         Long organizerId = StpUtil.getLoginIdAsLong();
         if (!userRpcService.exists(organizerId)) {
@@ -147,7 +150,9 @@ public class EventApplicationServiceImpl implements EventApplicationService {
         Map<Long, EventRespVO.TaskStatusVO> taskStatusByEventId =
                 fetchTaskStatusesByEventIds(eventIds);
 
-        updateStatusesIfNecessary(orderedEvents);
+        // Read-only: report the time-derived status without writing it back
+        LocalDateTime now = LocalDateTime.now();
+        orderedEvents.forEach(event -> event.setStatus(currentStatus(event, now)));
 
         return orderedEvents.stream()
                 .map(
@@ -272,21 +277,21 @@ public class EventApplicationServiceImpl implements EventApplicationService {
         return event;
     }
 
-    private void updateStatusesIfNecessary(List<EventDO> events) {
-        LocalDateTime now = LocalDateTime.now();
-        for (EventDO event : events) {
-            if (event.getStartTime() == null || event.getEndTime() == null) {
-                continue;
-            }
-            if (now.isBefore(event.getStartTime())) {
-                event.setStatus(EventStatusEnum.NOT_STARTED.getCode());
-            } else if (now.isAfter(event.getEndTime())) {
-                event.setStatus(EventStatusEnum.COMPLETED.getCode());
-            } else {
-                event.setStatus(EventStatusEnum.ACTIVE.getCode());
-            }
-            eventMapper.updateById(event);
+    /**
+     * Status implied by the event's time range. The stored column is kept in sync by {@link
+     * EventStatusSyncJob}, but may lag behind by up to one sync interval.
+     */
+    private static Integer currentStatus(EventDO event, LocalDateTime now) {
+        if (event.getStartTime() == null || event.getEndTime() == null) {
+            return event.getStatus();
+        }
+        if (now.isBefore(event.getStartTime())) {
+            return EventStatusEnum.NOT_STARTED.getCode();
+        }
+        if (now.isAfter(event.getEndTime())) {
+            return EventStatusEnum.COMPLETED.getCode();
         }
+        return EventStatusEnum.ACTIVE.getCode();
     }
 
     private EventRespVO toResponse(EventDO event) {
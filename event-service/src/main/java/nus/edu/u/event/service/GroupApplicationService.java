@@ -33,5 +33,8 @@ public interface GroupApplicationService {
 
     Map<Long, List<GroupDTO>> getGroupDTOsByEventIds(Collection<Long> eventIds);
 
+    /** Groups the user leads or has joined in the given events, without member lists. */
+    Map<Long, List<GroupDTO>> getUserGroupDTOsByEventIds(Long userId, Collection<Long> eventIds);
+
     List<UserProfileRespVO> getAllUserProfiles();
 }
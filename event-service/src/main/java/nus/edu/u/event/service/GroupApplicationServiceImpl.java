@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -46,7 +47,6 @@ import nus.edu.u.shared.rpc.user.RoleBriefDTO;
 import nus.edu.u.shared.rpc.user.UserInfoDTO;
 import nus.edu.u.shared.rpc.user.UserProfileDTO;
 import nus.edu.u.shared.rpc.user.UserRpcService;
-import org.apache.dubbo.config.annotation.DubboReference;
 import org.springframework.aop.framework.AopContext;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -57,8 +57,7 @@ import org.springframework.util.CollectionUtils;
 @Slf4j
 public class GroupApplicationServiceImpl implements GroupApplicationService {
 
-    @DubboReference(check = false)
-    private UserRpcService userRpcService;
+    private final UserRpcService userRpcService;
     private final DeptMapper deptMapper;
     private final EventMapper eventMapper;
     private final UserGroupMapper userGroupMapper;
@@ -438,6 +437,41 @@ public class GroupApplicationServiceImpl implements GroupApplicationService {
         return result;
     }
 
+    @Override
+    public Map<Long, List<GroupDTO>> getUserGroupDTOsByEventIds(
+            Long userId, Collection<Long> eventIds) {
+        if (userId == null || CollectionUtils.isEmpty(eventIds)) {
+            return Collections.emptyMap();
+        }
+        List<Long> distinctEventIds =
+                eventIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctEventIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<DeptDO> groups = deptMapper.selectGroupsOfUser(userId, distinctEventIds);
+        if (groups == null || groups.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, List<GroupDTO>> result = new LinkedHashMap<>();
+        for (DeptDO group : groups) {
+            result.computeIfAbsent(group.getEventId(), key -> new ArrayList<>())
+                    .add(
+                            GroupDTO.builder()
+                                    .eventId(group.getEventId())
+                                    .id(group.getId())
+                                    .name(group.getName())
+                                    .sort(group.getSort())
+                                    .leadUserId(group.getLeadUserId())
+                                    .remark(group.getRemark())
+                                    .status(group.getStatus())
+                                    .members(List.of())
+                                    .build());
+        }
+        return result;
+    }
+
     @Override
     public List<UserProfileRespVO> getAllUserProfiles() {
         List<UserProfileDTO> dtos = userRpcService.getEnabledUserProfiles();
@@ -0,0 +1,43 @@
+package nus.edu.u.event.job;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import nus.edu.u.event.mapper.EventMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class EventStatusSyncJobTest {
+
+    @Mock private EventMapper eventMapper;
+
+    @InjectMocks private EventStatusSyncJob job;
+
+    @Test
+    void syncStatuses_runsAllTransitionsWithSameClock() {
+        job.syncStatuses();
+
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(eventMapper).markNotStarted(now.capture());
+        verify(eventMapper).markActive(now.getValue());
+        verify(eventMapper).markCompleted(now.getValue());
+    }
+
+    @Test
+    void syncStatuses_swallowsFailuresUntilNextRun() {
+        when(eventMapper.markNotStarted(any())).thenThrow(new IllegalStateException("db down"));
+
+        job.syncStatuses();
+
+        verify(eventMapper, never()).markActive(any());
+        verify(eventMapper, never()).markCompleted(any());
+    }
+}
@@ -4,10 +4,14 @@ import static nus.edu.u.common.enums.ErrorCodeConstants.EVENT_NOT_FOUND;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import nus.edu.u.common.exception.ServiceException;
 import nus.edu.u.event.convert.EventConvert;
 import nus.edu.u.event.domain.dataobject.event.EventDO;
@@ -17,6 +21,7 @@ import nus.edu.u.event.domain.dto.group.GroupRespVO;
 import nus.edu.u.event.mapper.EventMapper;
 import nus.edu.u.event.mapper.UserGroupMapper;
 import nus.edu.u.event.service.GroupApplicationService;
+import nus.edu.u.shared.rpc.events.EventBriefDTO;
 import nus.edu.u.shared.rpc.events.EventRespDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -131,6 +136,33 @@ class EventRpcServiceImplTest {
                 .isEqualTo(EVENT_NOT_FOUND.getCode());
     }
 
+    @Test
+    void getEvents_returnsBriefsWithoutLoadingGroupsOrParticipants() {
+        when(eventMapper.selectBatchIds(List.of(event.getId()))).thenReturn(List.of(event));
+        when(eventConvert.toBrief(event))
+                .thenReturn(
+                        EventBriefDTO.builder()
+                                .id(event.getId())
+                                .organizerId(event.getUserId())
+                                .status(event.getStatus())
+                                .build());
+
+        Map<Long, EventBriefDTO> events =
+                rpcService.getEvents(Arrays.asList(event.getId(), null, event.getId()));
+
+        assertThat(events).containsOnlyKeys(event.getId());
+        assertThat(events.get(event.getId()).getOrganizerId()).isEqualTo(44L);
+        verify(eventMapper).selectBatchIds(List.of(event.getId()));
+        verifyNoInteractions(userGroupMapper, groupApplicationService);
+    }
+
+    @Test
+    void getEvents_returnsEmptyForEmptyInput() {
+        assertThat(rpcService.getEvents(null)).isEmpty();
+        assertThat(rpcService.getEvents(List.of())).isEmpty();
+        verifyNoInteractions(eventMapper);
+    }
+
     @Test
     void exists_returnsFalseWhenNullOrMissing() {
         assertThat(rpcService.exists(null)).isFalse();
@@ -33,4 +33,17 @@ class GroupRpcServiceImplTest {
         assertThat(result).isSameAs(expected);
         verify(groupApplicationService).getGroupDTOsByEventIds(ids);
     }
+
+    @Test
+    void getUserGroupsByEventIds_delegatesToApplicationService() {
+        Collection<Long> ids = List.of(1L, 2L);
+        Map<Long, List<GroupDTO>> expected =
+                Map.of(2L, List.of(GroupDTO.builder().id(20L).build()));
+        when(groupApplicationService.getUserGroupDTOsByEventIds(7L, ids)).thenReturn(expected);
+
+        Map<Long, List<GroupDTO>> result = rpcService.getUserGroupsByEventIds(7L, ids);
+
+        assertThat(result).isSameAs(expected);
+        verify(groupApplicationService).getUserGroupDTOsByEventIds(7L, ids);
+    }
 }
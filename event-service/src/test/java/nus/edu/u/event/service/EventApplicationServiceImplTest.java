@@ -16,10 +16,11 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import cn.dev33.satoken.context.mock.SaTokenContextMockUtil;
+import cn.dev33.satoken.stp.StpUtil;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -185,6 +186,51 @@ class EventApplicationServiceImplTest {
         assertThat(resp.getStatus()).isEqualTo(db.getStatus());
     }
 
+    @Test
+    void list_derivesStatusFromTimeRangeWithoutWriting() {
+        LocalDateTime now = LocalDateTime.now();
+        EventDO past =
+                EventDO.builder()
+                        .id(1L)
+                        .userId(7L)
+                        .startTime(now.minusDays(2))
+                        .endTime(now.minusDays(1))
+                        .status(EventStatusEnum.ACTIVE.getCode())
+                        .build();
+        EventDO upcoming =
+                EventDO.builder()
+                        .id(2L)
+                        .userId(7L)
+                        .startTime(now.plusDays(1))
+                        .endTime(now.plusDays(2))
+                        .status(EventStatusEnum.ACTIVE.getCode())
+                        .build();
+
+        when(userRpcService.exists(7L)).thenReturn(true);
+        when(eventMapper.selectList(any())).thenReturn(List.of(past, upcoming));
+        when(userGroupMapper.selectList(any())).thenReturn(Collections.emptyList());
+        when(groupApplicationService.getGroupsByEventIds(anyCollection()))
+                .thenReturn(Collections.emptyMap());
+        when(taskRpcService.getTasksByEventIds(anyList())).thenReturn(Collections.emptyMap());
+
+        List<EventRespVO> result;
+        SaTokenContextMockUtil.setMockContext();
+        try {
+            StpUtil.login(7L);
+            result = service.list();
+        } finally {
+            StpUtil.logout();
+            SaTokenContextMockUtil.clearContext();
+        }
+
+        assertThat(result)
+                .extracting(EventRespVO::getId, EventRespVO::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, EventStatusEnum.COMPLETED.getCode()),
+                        tuple(2L, EventStatusEnum.NOT_STARTED.getCode()));
+        verify(eventMapper, never()).updateById(any(EventDO.class));
+    }
+
     @Test
     void deleteEvent_taskDeletionFailure_throwsServiceException() {
         long eventId = 200L;
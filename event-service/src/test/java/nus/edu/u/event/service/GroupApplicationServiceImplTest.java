@@ -14,15 +14,18 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -536,6 +539,30 @@ class GroupApplicationServiceImplTest {
         verify(userGroupMapper, never()).selectList(any());
     }
 
+    @Test
+    void getUserGroupDTOsByEventIds_groupsTheUsersGroupsByEvent() {
+        DeptDO led = DeptDO.builder().id(11L).eventId(1L).name("Ops").leadUserId(7L).build();
+        DeptDO joined = DeptDO.builder().id(22L).eventId(2L).name("Dev").leadUserId(9L).build();
+        when(deptMapper.selectGroupsOfUser(eq(7L), anyCollection()))
+                .thenReturn(List.of(led, joined));
+
+        Map<Long, List<GroupDTO>> result =
+                service.getUserGroupDTOsByEventIds(7L, Arrays.asList(1L, null, 2L, 1L));
+
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        assertThat(result.get(1L)).extracting(GroupDTO::getId).containsExactly(11L);
+        assertThat(result.get(2L).get(0).getMembers()).isEmpty();
+        verify(deptMapper).selectGroupsOfUser(7L, List.of(1L, 2L));
+        verifyNoInteractions(userGroupMapper, userRpcService);
+    }
+
+    @Test
+    void getUserGroupDTOsByEventIds_whenInputMissing_skipsQuery() {
+        assertThat(service.getUserGroupDTOsByEventIds(null, List.of(1L))).isEmpty();
+        assertThat(service.getUserGroupDTOsByEventIds(7L, List.of())).isEmpty();
+        verify(deptMapper, never()).selectGroupsOfUser(any(), any());
+    }
+
     @Test
     void getAllUserProfiles_convertsDtoAndMapPayloads() {
         UserProfileDTO dto = new UserProfileDTO();
@@ -1,5 +1,6 @@
 package nus.edu.u.file.config;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
@@ -17,4 +18,23 @@ public class GcsPropertiesConfig {
 
     @Min(1)
     private long signedUrlExpiryMinutes;
+
+    @Valid private UrlCache urlCache = new UrlCache();
+
+    /** Reuse of signed URLs across requests, see {@code SignedUrlCache}. */
+    @Data
+    public static class UrlCache {
+
+        private boolean enabled = true;
+
+        /** Minimum validity a URL must have left when it is handed out again. */
+        @Min(1)
+        private long refreshMarginMinutes = 5;
+
+        @Min(1)
+        private long maximumSize = 10_000;
+
+        /** Share signed URLs between file-service instances through Redis. */
+        private boolean redisEnabled = false;
+    }
 }
@@ -7,9 +7,11 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import nus.edu.u.file.domain.vo.FileUploadTicketVO;
 import nus.edu.u.shared.rpc.file.FileResultDTO;
 import nus.edu.u.shared.rpc.file.FileUploadReqDTO;
 import nus.edu.u.shared.rpc.file.FileUploadReqDTO.FileResource;
+import nus.edu.u.shared.rpc.file.FileUploadTicketDTO;
 import org.mapstruct.Builder;
 import org.mapstruct.Mapper;
 import org.mapstruct.ReportingPolicy;
@@ -25,6 +27,10 @@ public interface FileRpcConvert {
 
     List<FileResultDTO> toRpcList(List<nus.edu.u.file.domain.vo.FileResultVO> list);
 
+    List<FileUploadTicketDTO> toRpcTickets(List<FileUploadTicketVO> list);
+
+    List<FileUploadTicketVO> toDomainTickets(List<FileUploadTicketDTO> list);
+
     default nus.edu.u.file.domain.vo.FileUploadReqVO toDomain(FileUploadReqDTO req) {
         if (req == null) {
             return null;
@@ -0,0 +1,23 @@
+package nus.edu.u.file.domain.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileUploadTicketVO {
+
+    private String name;
+
+    private String contentType;
+
+    private Long size;
+
+    private String objectName;
+
+    private String uploadUrl;
+}
@@ -18,6 +18,7 @@ public class GcsFileClient implements FileClient {
 
     private final Storage storage;
     private final GcsPropertiesConfig gcsConfig;
+    private final SignedUrlCache signedUrlCache;
 
     @Override
     public FileUploadResult uploadFile(MultipartFile file) {
@@ -25,12 +26,8 @@ public class GcsFileClient implements FileClient {
             throw new IllegalArgumentException("File cannot be null or empty");
 
         try {
-            String original = file.getOriginalFilename();
-            String contentType =
-                    file.getContentType() != null
-                            ? file.getContentType()
-                            : "application/octet-stream";
-            String objectName = UUID.randomUUID() + "-" + (original != null ? original : "file");
+            String contentType = contentTypeOrDefault(file.getContentType());
+            String objectName = newObjectName(file.getOriginalFilename());
 
             BlobInfo info =
                     BlobInfo.newBuilder(BlobId.of(gcsConfig.getBucket(), objectName))
@@ -48,8 +45,12 @@ public class GcsFileClient implements FileClient {
         }
     }
 
-    /** Generate a fresh signed URL for an existing object. */
+    /** Signed URL for an existing object, reused from {@link SignedUrlCache} while still valid. */
     public String generateSignedUrl(String objectName) {
+        return signedUrlCache.get(objectName, this::signUrl);
+    }
+
+    private String signUrl(String objectName) {
         BlobInfo blobInfo =
                 BlobInfo.newBuilder(BlobId.of(gcsConfig.getBucket(), objectName)).build();
         URL signedUrl =
@@ -61,8 +62,43 @@ public class GcsFileClient implements FileClient {
         return signedUrl.toString();
     }
 
+    /** Object name for a new upload of {@code originalFilename}. */
+    public String newObjectName(String originalFilename) {
+        return UUID.randomUUID() + "-" + (originalFilename != null ? originalFilename : "file");
+    }
+
+    public String contentTypeOrDefault(String contentType) {
+        return contentType != null ? contentType : "application/octet-stream";
+    }
+
+    /**
+     * Signed URL accepting one HTTP PUT of the object content. The uploader must send the same
+     * {@code Content-Type} header the URL was signed for.
+     */
+    public String generateUploadUrl(String objectName, String contentType) {
+        BlobInfo blobInfo =
+                BlobInfo.newBuilder(BlobId.of(gcsConfig.getBucket(), objectName))
+                        .setContentType(contentType)
+                        .build();
+        URL uploadUrl =
+                storage.signUrl(
+                        blobInfo,
+                        gcsConfig.getSignedUrlExpiryMinutes(),
+                        TimeUnit.MINUTES,
+                        Storage.SignUrlOption.httpMethod(HttpMethod.PUT),
+                        Storage.SignUrlOption.withContentType(),
+                        Storage.SignUrlOption.withV4Signature());
+        return uploadUrl.toString();
+    }
+
+    /** Stored object, or {@code null} when nothing was uploaded under {@code objectName}. */
+    public Blob getObject(String objectName) {
+        return storage.get(BlobId.of(gcsConfig.getBucket(), objectName));
+    }
+
     @Override
     public void deleteQuietly(String objectName) {
+        signedUrlCache.evict(objectName);
         try {
             storage.delete(BlobId.of(gcsConfig.getBucket(), objectName));
             log.info("Rolled back uploaded object '{}'", objectName);
@@ -0,0 +1,161 @@
+package nus.edu.u.file.provider;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import nus.edu.u.file.config.GcsPropertiesConfig;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reuses signed download URLs per object instead of signing on every request.
+ *
+ * <p>A URL is handed out again only while it still has at least {@code refreshMarginMinutes} of
+ * validity left, so the reuse window is {@code signedUrlExpiryMinutes - refreshMarginMinutes}. The
+ * local tier is always used when caching is enabled; the Redis tier is optional and lets instances
+ * share URLs signed by each other. Entries carry their own deadline so a URL picked up from Redis
+ * late in its window is not kept locally for a full window again.
+ */
+@Slf4j
+@Component
+public class SignedUrlCache {
+
+    static final String REDIS_KEY_PREFIX = "file:signed-url:";
+
+    private final GcsPropertiesConfig gcsConfig;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Duration reuseWindow;
+
+    private final Cache<String, Entry> local;
+
+    public SignedUrlCache(GcsPropertiesConfig gcsConfig, StringRedisTemplate stringRedisTemplate) {
+        this.gcsConfig = gcsConfig;
+        this.stringRedisTemplate = stringRedisTemplate;
+        GcsPropertiesConfig.UrlCache cfg = gcsConfig.getUrlCache();
+        this.reuseWindow =
+                Duration.ofMinutes(
+                        gcsConfig.getSignedUrlExpiryMinutes() - cfg.getRefreshMarginMinutes());
+        this.local =
+                CacheBuilder.newBuilder()
+                        .expireAfterWrite(reuseWindow.isNegative() ? Duration.ZERO : reuseWindow)
+                        .maximumSize(cfg.getMaximumSize())
+                        .build();
+    }
+
+    /** Cached URL for {@code objectName}, signing a fresh one through {@code signer} on a miss. */
+    public String get(String objectName, Function<String, String> signer) {
+        if (!isEnabled()) {
+            return signer.apply(objectName);
+        }
+        Entry cached = local.getIfPresent(objectName);
+        if (cached != null) {
+            if (cached.isReusable()) {
+                return cached.url();
+            }
+            local.invalidate(objectName);
+        }
+        try {
+            // Concurrent misses for the same object share one signing call
+            return local.get(objectName, () -> load(objectName, signer)).url();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to sign URL for " + objectName, e.getCause());
+        }
+    }
+
+    /** Drop the URL of an object that no longer exists. */
+    public void evict(String objectName) {
+        local.invalidate(objectName);
+        if (isEnabled() && gcsConfig.getUrlCache().isRedisEnabled()) {
+            try {
+                stringRedisTemplate.delete(redisKey(objectName));
+            } catch (Exception e) {
+                log.warn("Failed to evict signed URL for '{}': {}", objectName, e.getMessage());
+            }
+        }
+    }
+
+    private boolean isEnabled() {
+        return gcsConfig.getUrlCache().isEnabled() && reuseWindow.compareTo(Duration.ZERO) > 0;
+    }
+
+    private Entry load(String objectName, Function<String, String> signer) {
+        boolean shared = gcsConfig.getUrlCache().isRedisEnabled();
+        if (shared) {
+            Entry remote = readRedis(objectName);
+            if (remote != null && remote.isReusable()) {
+                return remote;
+            }
+        }
+        Entry signed =
+                new Entry(
+                        signer.apply(objectName),
+                        System.currentTimeMillis() + reuseWindow.toMillis());
+        if (shared) {
+            writeRedis(objectName, signed);
+        }
+        return signed;
+    }
+
+    private Entry readRedis(String objectName) {
+        try {
+            return Entry.decode(stringRedisTemplate.opsForValue().get(redisKey(objectName)));
+        } catch (Exception e) {
+            // Redis is only an optimisation here; fall back to signing locally
+            log.warn("Failed to read signed URL for '{}': {}", objectName, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String objectName, Entry entry) {
+        try {
+            stringRedisTemplate
+                    .opsForValue()
+                    .set(
+                            redisKey(objectName),
+                            entry.encode(),
+                            reuseWindow.toMillis(),
+                            TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("Failed to share signed URL for '{}': {}", objectName, e.getMessage());
+        }
+    }
+
+    private String redisKey(String objectName) {
+        return REDIS_KEY_PREFIX + gcsConfig.getBucket() + ":" + objectName;
+    }
+
+    /** Signed URL together with the time until which it may be handed out. */
+    record Entry(String url, long reuseUntilMillis) {
+
+        boolean isReusable() {
+            return System.currentTimeMillis() < reuseUntilMillis;
+        }
+
+        String encode() {
+            return reuseUntilMillis + "|" + url;
+        }
+
+        static Entry decode(String value) {
+            if (value == null) {
+                return null;
+            }
+            int separator = value.indexOf('|');
+            if (separator <= 0) {
+                return null;
+            }
+            try {
+                return new Entry(
+                        value.substring(separator + 1),
+                        Long.parseLong(value.substring(0, separator)));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
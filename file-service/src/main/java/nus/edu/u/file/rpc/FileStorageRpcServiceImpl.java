@@ -1,13 +1,17 @@
 package nus.edu.u.file.rpc;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import nus.edu.u.file.convert.FileRpcConvert;
 import nus.edu.u.file.service.FileStorageService;
 import nus.edu.u.shared.rpc.file.FileResultDTO;
 import nus.edu.u.shared.rpc.file.FileStorageRpcService;
 import nus.edu.u.shared.rpc.file.FileUploadReqDTO;
+import nus.edu.u.shared.rpc.file.FileUploadTicketDTO;
 import org.apache.dubbo.config.annotation.DubboService;
 
 @DubboService(retries = 0, cluster = "failfast")
@@ -24,6 +28,18 @@ public class FileStorageRpcServiceImpl implements FileStorageRpcService {
     }
 
     @Override
+    public Map<Long, List<FileResultDTO>> downloadFilesByTaskLogIds(Collection<Long> taskLogIds) {
+        Map<Long, List<FileResultDTO>> result = new LinkedHashMap<>();
+        fileStorageService
+                .downloadFilesByTaskLogIds(taskLogIds)
+                .forEach(
+                        (id, files) ->
+                                result.put(id, defaultList(fileRpcConvert.toRpcList(files))));
+        return result;
+    }
+
+    @Override
+    @Deprecated
     public void uploadToTaskLog(FileUploadReqDTO req) {
         if (req == null) {
             throw new IllegalArgumentException("req must not be null");
@@ -31,6 +47,24 @@ public class FileStorageRpcServiceImpl implements FileStorageRpcService {
         fileStorageService.uploadToTaskLog(fileRpcConvert.toDomain(req));
     }
 
+    @Override
+    public List<FileUploadTicketDTO> prepareUploads(List<FileUploadTicketDTO> files) {
+        return fileRpcConvert.toRpcTickets(
+                fileStorageService.prepareUploads(fileRpcConvert.toDomainTickets(files)));
+    }
+
+    @Override
+    public void completeUploadToTaskLog(
+            Long taskLogId, Long eventId, List<FileUploadTicketDTO> files) {
+        fileStorageService.completeUploads(
+                taskLogId, eventId, fileRpcConvert.toDomainTickets(files));
+    }
+
+    @Override
+    public void discardUploads(List<String> objectNames) {
+        fileStorageService.discardUploads(objectNames);
+    }
+
     private List<FileResultDTO> defaultList(List<FileResultDTO> source) {
         return source == null ? Collections.emptyList() : source;
     }
@@ -1,8 +1,11 @@
 package nus.edu.u.file.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import nus.edu.u.file.domain.vo.FileResultVO;
 import nus.edu.u.file.domain.vo.FileUploadReqVO;
+import nus.edu.u.file.domain.vo.FileUploadTicketVO;
 
 public interface FileStorageService {
     List<FileResultVO> uploadToTaskLog(FileUploadReqVO req);
@@ -10,4 +13,12 @@ public interface FileStorageService {
     FileResultVO downloadFile(Long fileId);
 
     List<FileResultVO> downloadFilesByTaskLogId(Long taskLogId);
+
+    Map<Long, List<FileResultVO>> downloadFilesByTaskLogIds(Collection<Long> taskLogIds);
+
+    List<FileUploadTicketVO> prepareUploads(List<FileUploadTicketVO> files);
+
+    void completeUploads(Long taskLogId, Long eventId, List<FileUploadTicketVO> files);
+
+    void discardUploads(List<String> objectNames);
 }
@@ -2,23 +2,33 @@ package nus.edu.u.file.service;
 
 import cn.dev33.satoken.stp.StpUtil;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.google.cloud.storage.Blob;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import nus.edu.u.file.config.FileProviderPropertiesConfig;
 import nus.edu.u.file.domain.dataobject.FileDO;
 import nus.edu.u.file.domain.vo.FileResultVO;
 import nus.edu.u.file.domain.vo.FileUploadReqVO;
+import nus.edu.u.file.domain.vo.FileUploadTicketVO;
 import nus.edu.u.file.mapper.FileMapper;
 import nus.edu.u.file.provider.FileClient;
 import nus.edu.u.file.provider.FileClientFactory;
 import nus.edu.u.file.provider.GcsFileClient;
+import nus.edu.u.framework.mybatis.MybatisPlusConfig;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -79,21 +89,15 @@ public class FileStorageServiceImpl implements FileStorageService {
                 MultipartFile file = req.getFiles().get(i);
                 FileClient.FileUploadResult r = uploaded.get(i);
 
-                FileDO fileDO =
-                        FileDO.builder()
-                                .taskLogId(req.getTaskLogId())
-                                .eventId(req.getEventId())
-                                .provider(provider)
-                                .name(file.getOriginalFilename())
-                                .objectName(r.objectName())
-                                .type(r.contentType())
-                                .size(r.size())
-                                .build();
-                fileDO.setCreator(StpUtil.getLoginId().toString());
-                fileDO.setUpdater(StpUtil.getLoginId().toString());
-                fileDO.setCreateTime(LocalDateTime.now());
-                fileDO.setUpdateTime(LocalDateTime.now());
-                batchEntities.add(fileDO);
+                batchEntities.add(
+                        newFileDO(
+                                req.getTaskLogId(),
+                                req.getEventId(),
+                                provider,
+                                file.getOriginalFilename(),
+                                r.objectName(),
+                                r.contentType(),
+                                r.size()));
             }
 
             if (!batchEntities.isEmpty()) {
@@ -153,29 +157,194 @@ public class FileStorageServiceImpl implements FileStorageService {
 
     @Override
     public List<FileResultVO> downloadFilesByTaskLogId(Long taskLogId) {
+        return downloadFilesByTaskLogIds(List.of(taskLogId))
+                .getOrDefault(taskLogId, Collections.emptyList());
+    }
+
+    @Override
+    public Map<Long, List<FileResultVO>> downloadFilesByTaskLogIds(Collection<Long> taskLogIds) {
+        if (taskLogIds == null || taskLogIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
         List<FileDO> files =
                 fileMapper.selectList(
-                        new LambdaQueryWrapper<FileDO>().eq(FileDO::getTaskLogId, taskLogId));
+                        new LambdaQueryWrapper<FileDO>()
+                                .in(FileDO::getTaskLogId, new LinkedHashSet<>(taskLogIds)));
 
-        if (files.isEmpty()) return Collections.emptyList();
+        if (files.isEmpty()) return Collections.emptyMap();
 
-        FileClient client = fileClientFactory.create(files.get(0).getProvider());
+        Map<String, GcsFileClient> clients = new HashMap<>();
+        Map<Long, List<FileResultVO>> result = new LinkedHashMap<>();
+        for (FileDO f : files) {
+            GcsFileClient gcs =
+                    clients.computeIfAbsent(
+                            f.getProvider(),
+                            provider -> {
+                                if (fileClientFactory.create(provider)
+                                        instanceof GcsFileClient client) {
+                                    return client;
+                                }
+                                throw new UnsupportedOperationException(
+                                        "Signed URL generation not supported for provider: "
+                                                + provider);
+                            });
+            result.computeIfAbsent(f.getTaskLogId(), id -> new ArrayList<>())
+                    .add(
+                            FileResultVO.builder()
+                                    .objectName(f.getObjectName())
+                                    .contentType(f.getType())
+                                    .name(f.getName())
+                                    .size(f.getSize())
+                                    .signedUrl(gcs.generateSignedUrl(f.getObjectName()))
+                                    .build());
+        }
+        return result;
+    }
 
-        if (client instanceof GcsFileClient gcs) {
-            return files.stream()
-                    .map(
-                            f ->
-                                    FileResultVO.builder()
-                                            .objectName(f.getObjectName())
-                                            .contentType(f.getType())
-                                            .name(f.getName())
-                                            .size(f.getSize())
-                                            .signedUrl(gcs.generateSignedUrl(f.getObjectName()))
-                                            .build())
-                    .toList();
+    @Override
+    public List<FileUploadTicketVO> prepareUploads(List<FileUploadTicketVO> files) {
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("files must not be empty");
         }
+        GcsFileClient gcs = directUploadClient(providerConfig.getProvider());
+        String prefix = tenantPrefix();
 
+        List<FileUploadTicketVO> tickets = new ArrayList<>(files.size());
+        for (FileUploadTicketVO file : files) {
+            String contentType = gcs.contentTypeOrDefault(file.getContentType());
+            String objectName = prefix + gcs.newObjectName(file.getName());
+            tickets.add(
+                    FileUploadTicketVO.builder()
+                            .name(file.getName())
+                            .contentType(contentType)
+                            .size(file.getSize())
+                            .objectName(objectName)
+                            .uploadUrl(gcs.generateUploadUrl(objectName, contentType))
+                            .build());
+        }
+        return tickets;
+    }
+
+    @Override
+    @Transactional
+    public void completeUploads(Long taskLogId, Long eventId, List<FileUploadTicketVO> files) {
+        if (taskLogId == null || eventId == null) {
+            throw new IllegalArgumentException("taskLogId and eventId are required");
+        }
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("files must not be empty");
+        }
+        final String provider = providerConfig.getProvider();
+        GcsFileClient gcs = directUploadClient(provider);
+
+        // Only names issued to this tenant by prepareUploads, each attached at most once
+        String prefix = tenantPrefix();
+        Set<String> names = new LinkedHashSet<>(files.size());
+        for (FileUploadTicketVO file : files) {
+            String name = file.getObjectName();
+            if (name == null || !name.startsWith(prefix) || !names.add(name)) {
+                throw new IllegalArgumentException(
+                        "Object was not issued for this upload: " + name);
+            }
+        }
+        Set<String> attached = attachedObjectNames(names);
+        if (!attached.isEmpty()) {
+            throw new IllegalArgumentException("Objects already attached: " + attached);
+        }
+
+        List<FileDO> batchEntities = new ArrayList<>(files.size());
+        for (FileUploadTicketVO file : files) {
+            // Trust what actually landed in the bucket, not what the caller declared
+            Blob blob = gcs.getObject(file.getObjectName());
+            if (blob == null) {
+                throw new IllegalArgumentException(
+                        "Uploaded object not found: " + file.getObjectName());
+            }
+            batchEntities.add(
+                    newFileDO(
+                            taskLogId,
+                            eventId,
+                            provider,
+                            file.getName(),
+                            file.getObjectName(),
+                            gcs.contentTypeOrDefault(blob.getContentType()),
+                            blob.getSize() != null ? blob.getSize() : 0L));
+        }
+        fileMapper.insertBatch(batchEntities);
+    }
+
+    @Override
+    public void discardUploads(List<String> objectNames) {
+        if (objectNames == null || objectNames.isEmpty()) {
+            return;
+        }
+        // Only names issued to this tenant, so a caller cannot delete another tenant's objects
+        String prefix = tenantPrefix();
+        List<String> names =
+                objectNames.stream()
+                        .filter(name -> name != null && name.startsWith(prefix))
+                        .distinct()
+                        .toList();
+        if (names.isEmpty()) {
+            return;
+        }
+        // Never delete objects that already belong to a task log
+        Set<String> attached = attachedObjectNames(names);
+        FileClient client = fileClientFactory.create(providerConfig.getProvider());
+        for (String name : names) {
+            if (!attached.contains(name)) {
+                client.deleteQuietly(name);
+            }
+        }
+    }
+
+    /** Object names recorded for any task log, whichever tenant owns it. */
+    private Set<String> attachedObjectNames(Collection<String> names) {
+        return MybatisPlusConfig.executeWithoutTenantFilter(
+                        () ->
+                                fileMapper.selectList(
+                                        new LambdaQueryWrapper<FileDO>()
+                                                .in(FileDO::getObjectName, names)))
+                .stream()
+                .map(FileDO::getObjectName)
+                .collect(Collectors.toSet());
+    }
+
+    /** Directory of the direct-upload object names issued to the current tenant. */
+    private static String tenantPrefix() {
+        return "tenant-" + MybatisPlusConfig.getCurrentTenantId() + "/";
+    }
+
+    private GcsFileClient directUploadClient(String provider) {
+        if (fileClientFactory.create(provider) instanceof GcsFileClient gcs) {
+            return gcs;
+        }
         throw new UnsupportedOperationException(
-                "Signed URL generation not supported for this provider");
+                "Direct uploads not supported for provider: " + provider);
+    }
+
+    private FileDO newFileDO(
+            Long taskLogId,
+            Long eventId,
+            String provider,
+            String name,
+            String objectName,
+            String type,
+            long size) {
+        FileDO fileDO =
+                FileDO.builder()
+                        .taskLogId(taskLogId)
+                        .eventId(eventId)
+                        .provider(provider)
+                        .name(name)
+                        .objectName(objectName)
+                        .type(type)
+                        .size(size)
+                        .build();
+        fileDO.setCreator(StpUtil.getLoginId().toString());
+        fileDO.setUpdater(StpUtil.getLoginId().toString());
+        fileDO.setCreateTime(LocalDateTime.now());
+        fileDO.setUpdateTime(LocalDateTime.now());
+        return fileDO;
     }
 }
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,12 +23,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.mock.web.MockMultipartFile;
 
 @ExtendWith(MockitoExtension.class)
 class GcsFileClientTest {
 
     @Mock private Storage storage;
+    @Mock private StringRedisTemplate stringRedisTemplate;
 
     private GcsPropertiesConfig config;
     private GcsFileClient client;
@@ -37,7 +40,8 @@ class GcsFileClientTest {
         config = new GcsPropertiesConfig();
         config.setBucket("bucket");
         config.setSignedUrlExpiryMinutes(15L);
-        client = new GcsFileClient(storage, config);
+        client =
+                new GcsFileClient(storage, config, new SignedUrlCache(config, stringRedisTemplate));
     }
 
     @Test
@@ -90,6 +94,56 @@ class GcsFileClientTest {
         assertThat(url).isEqualTo("https://gcs.example/object");
     }
 
+    @Test
+    void generateSignedUrl_reusesUrlUntilObjectIsDeleted() throws Exception {
+        when(storage.signUrl(
+                        any(BlobInfo.class),
+                        eq(15L),
+                        eq(TimeUnit.MINUTES),
+                        any(Storage.SignUrlOption.class)))
+                .thenReturn(new URL("https://gcs.example/v1"), new URL("https://gcs.example/v2"));
+
+        assertThat(client.generateSignedUrl("objectName")).isEqualTo("https://gcs.example/v1");
+        assertThat(client.generateSignedUrl("objectName")).isEqualTo("https://gcs.example/v1");
+
+        client.deleteQuietly("objectName");
+
+        assertThat(client.generateSignedUrl("objectName")).isEqualTo("https://gcs.example/v2");
+        verify(storage, times(2))
+                .signUrl(
+                        any(BlobInfo.class),
+                        eq(15L),
+                        eq(TimeUnit.MINUTES),
+                        any(Storage.SignUrlOption.class));
+    }
+
+    @Test
+    void generateUploadUrl_signsPutWithContentType() throws Exception {
+        when(storage.signUrl(
+                        any(BlobInfo.class),
+                        eq(15L),
+                        eq(TimeUnit.MINUTES),
+                        any(Storage.SignUrlOption.class),
+                        any(Storage.SignUrlOption.class),
+                        any(Storage.SignUrlOption.class)))
+                .thenReturn(new URL("https://gcs.example/upload"));
+
+        String url = client.generateUploadUrl("objectName", "image/png");
+
+        assertThat(url).isEqualTo("https://gcs.example/upload");
+        ArgumentCaptor<BlobInfo> infoCaptor = ArgumentCaptor.forClass(BlobInfo.class);
+        verify(storage)
+                .signUrl(
+                        infoCaptor.capture(),
+                        eq(15L),
+                        eq(TimeUnit.MINUTES),
+                        any(Storage.SignUrlOption.class),
+                        any(Storage.SignUrlOption.class),
+                        any(Storage.SignUrlOption.class));
+        assertThat(infoCaptor.getValue().getContentType()).isEqualTo("image/png");
+        assertThat(infoCaptor.getValue().getName()).isEqualTo("objectName");
+    }
+
     @Test
     void deleteQuietly_swallowExceptions() {
         doThrow(new RuntimeException("delete failed")).when(storage).delete(any(BlobId.class));
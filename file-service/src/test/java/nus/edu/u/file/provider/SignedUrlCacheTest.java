@@ -0,0 +1,129 @@
+package nus.edu.u.file.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import nus.edu.u.file.config.GcsPropertiesConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SignedUrlCacheTest {
+
+    private static final String KEY = SignedUrlCache.REDIS_KEY_PREFIX + "bucket:obj";
+
+    @Mock private StringRedisTemplate stringRedisTemplate;
+    @Mock private ValueOperations<String, String> valueOps;
+
+    private GcsPropertiesConfig config;
+    private final AtomicInteger signed = new AtomicInteger();
+    private final Function<String, String> signer =
+            name -> "https://signed/" + name + "?v=" + signed.incrementAndGet();
+
+    @BeforeEach
+    void setUp() {
+        config = new GcsPropertiesConfig();
+        config.setBucket("bucket");
+        config.setSignedUrlExpiryMinutes(15L);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOps);
+    }
+
+    @Test
+    void localTierSignsOncePerObject() {
+        SignedUrlCache cache = new SignedUrlCache(config, stringRedisTemplate);
+
+        assertThat(cache.get("obj", signer)).isEqualTo("https://signed/obj?v=1");
+        assertThat(cache.get("obj", signer)).isEqualTo("https://signed/obj?v=1");
+        assertThat(cache.get("other", signer)).isEqualTo("https://signed/other?v=2");
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    @Test
+    void disabledCacheSignsEveryTime() {
+        config.getUrlCache().setEnabled(false);
+        SignedUrlCache cache = new SignedUrlCache(config, stringRedisTemplate);
+
+        cache.get("obj", signer);
+        cache.get("obj", signer);
+
+        assertThat(signed).hasValue(2);
+    }
+
+    @Test
+    void marginNotShorterThanExpiryDisablesReuse() {
+        config.getUrlCache().setRefreshMarginMinutes(15L);
+        SignedUrlCache cache = new SignedUrlCache(config, stringRedisTemplate);
+
+        cache.get("obj", signer);
+        cache.get("obj", signer);
+
+        assertThat(signed).hasValue(2);
+    }
+
+    @Test
+    void redisTierReusesUrlSignedByAnotherInstance() {
+        config.getUrlCache().setRedisEnabled(true);
+        long reuseUntil = System.currentTimeMillis() + 60_000;
+        when(valueOps.get(KEY)).thenReturn(reuseUntil + "|https://shared/obj");
+        SignedUrlCache cache = new SignedUrlCache(config, stringRedisTemplate);
+
+        assertThat(cache.get("obj", signer)).isEqualTo("https://shared/obj");
+        assertThat(signed).hasValue(0);
+        verify(valueOps, never())
+                .set(anyString(), anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void redisTierIgnoresExpiredEntryAndSharesFreshUrl() {
+        config.getUrlCache().setRedisEnabled(true);
+        when(valueOps.get(KEY)).thenReturn((System.currentTimeMillis() - 1) + "|https://old");
+        SignedUrlCache cache = new SignedUrlCache(config, stringRedisTemplate);
+
+        assertThat(cache.get("obj", signer)).isEqualTo("https://signed/obj?v=1");
+        verify(valueOps)
+                .set(
+                        eq(KEY),
+                        endsWith("|https://signed/obj?v=1"),
+                        eq(TimeUnit.MINUTES.toMillis(10)),
+                        eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void redisFailureFallsBackToSigning() {
+        config.getUrlCache().setRedisEnabled(true);
+        when(valueOps.get(KEY)).thenThrow(new IllegalStateException("redis down"));
+        SignedUrlCache cache = new SignedUrlCache(config, stringRedisTemplate);
+
+        assertThat(cache.get("obj", signer)).isEqualTo("https://signed/obj?v=1");
+    }
+
+    @Test
+    void evictDropsBothTiers() {
+        config.getUrlCache().setRedisEnabled(true);
+        SignedUrlCache cache = new SignedUrlCache(config, stringRedisTemplate);
+        cache.get("obj", signer);
+
+        cache.evict("obj");
+
+        assertThat(cache.get("obj", signer)).isEqualTo("https://signed/obj?v=2");
+        verify(stringRedisTemplate).delete(KEY);
+    }
+}
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import nus.edu.u.file.domain.vo.FileResultVO;
 import nus.edu.u.file.domain.vo.FileUploadReqVO;
 import nus.edu.u.file.service.FileStorageService;
@@ -61,6 +62,20 @@ class FileStorageRpcServiceImplTest {
         verify(fileRpcConvert).toRpcList(domainList);
     }
 
+    @Test
+    void downloadFilesByTaskLogIds_convertsEachGroup() {
+        List<FileResultVO> domainList = List.of(FileResultVO.builder().objectName("obj").build());
+        List<FileResultDTO> rpcList = List.of(FileResultDTO.builder().objectName("obj").build());
+        when(fileStorageService.downloadFilesByTaskLogIds(List.of(1L, 2L)))
+                .thenReturn(Map.of(1L, domainList));
+        when(fileRpcConvert.toRpcList(domainList)).thenReturn(rpcList);
+
+        Map<Long, List<FileResultDTO>> result =
+                rpcService.downloadFilesByTaskLogIds(List.of(1L, 2L));
+
+        assertThat(result).containsExactly(Map.entry(1L, rpcList));
+    }
+
     @Test
     void downloadFilesByTaskLogId_defaultsToEmptyListWhenConverterReturnsNull() {
         when(fileStorageService.downloadFilesByTaskLogId(1L))
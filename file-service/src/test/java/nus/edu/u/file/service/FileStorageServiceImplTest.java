@@ -3,6 +3,7 @@ package nus.edu.u.file.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -10,17 +11,24 @@ import static org.mockito.Mockito.when;
 
 import cn.dev33.satoken.context.mock.SaTokenContextMockUtil;
 import cn.dev33.satoken.stp.StpUtil;
+import com.google.cloud.storage.Blob;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import nus.edu.u.file.config.FileProviderPropertiesConfig;
 import nus.edu.u.file.domain.dataobject.FileDO;
 import nus.edu.u.file.domain.vo.FileResultVO;
 import nus.edu.u.file.domain.vo.FileUploadReqVO;
+import nus.edu.u.file.domain.vo.FileUploadTicketVO;
 import nus.edu.u.file.mapper.FileMapper;
 import nus.edu.u.file.provider.FileClient;
 import nus.edu.u.file.provider.FileClientFactory;
 import nus.edu.u.file.provider.GcsFileClient;
+import nus.edu.u.framework.mybatis.MybatisPlusConfig;
+import nus.edu.u.framework.tenant.TenantContext;
+import nus.edu.u.framework.tenant.TenantContextHolder;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -39,8 +47,16 @@ class FileStorageServiceImplTest {
 
     @InjectMocks private FileStorageServiceImpl service;
 
+    private TenantContext previousTenant;
+
+    @BeforeEach
+    void openTenantScope() {
+        previousTenant = TenantContextHolder.open(new TenantContext(5L));
+    }
+
     @AfterEach
     void tearDownContext() {
+        TenantContextHolder.restore(previousTenant);
         try {
             if (StpUtil.isLogin()) {
                 StpUtil.logout();
@@ -253,6 +269,38 @@ class FileStorageServiceImplTest {
         assertThat(results).extracting(FileResultVO::getSignedUrl).containsExactly("url1", "url2");
     }
 
+    @Test
+    void downloadFilesByTaskLogIds_groupsFilesByTaskLogInOneQuery() {
+        FileDO first =
+                FileDO.builder().taskLogId(1L).provider("gcs").objectName("obj1").size(1L).build();
+        FileDO second =
+                FileDO.builder().taskLogId(2L).provider("gcs").objectName("obj2").size(2L).build();
+        FileDO third =
+                FileDO.builder().taskLogId(1L).provider("gcs").objectName("obj3").size(3L).build();
+
+        when(fileMapper.selectList(any())).thenReturn(List.of(first, second, third));
+        when(fileClientFactory.create("gcs")).thenReturn(gcsClient);
+        when(gcsClient.generateSignedUrl(any()))
+                .thenAnswer(invocation -> "url-" + invocation.getArgument(0));
+
+        Map<Long, List<FileResultVO>> results =
+                service.downloadFilesByTaskLogIds(List.of(1L, 2L, 3L));
+
+        assertThat(results).containsOnlyKeys(1L, 2L);
+        assertThat(results.get(1L))
+                .extracting(FileResultVO::getSignedUrl)
+                .containsExactly("url-obj1", "url-obj3");
+        assertThat(results.get(2L)).extracting(FileResultVO::getObjectName).containsExactly("obj2");
+        verify(fileMapper, times(1)).selectList(any());
+        verify(fileClientFactory, times(1)).create("gcs");
+    }
+
+    @Test
+    void downloadFilesByTaskLogIds_whenIdsEmpty_skipsQuery() {
+        assertThat(service.downloadFilesByTaskLogIds(List.of())).isEmpty();
+        verify(fileMapper, never()).selectList(any());
+    }
+
     @Test
     void downloadFilesByTaskLogId_whenProviderUnsupported_throwsException() {
         FileDO file =
@@ -278,4 +326,132 @@ class FileStorageServiceImplTest {
         assertThrows(
                 UnsupportedOperationException.class, () -> service.downloadFilesByTaskLogId(1L));
     }
+
+    @Test
+    void prepareUploads_issuesSignedPutUrlPerFile() {
+        when(providerConfig.getProvider()).thenReturn("gcs");
+        when(fileClientFactory.create("gcs")).thenReturn(gcsClient);
+        when(gcsClient.contentTypeOrDefault(any())).thenReturn("application/octet-stream");
+        when(gcsClient.newObjectName("a.bin")).thenReturn("obj-a.bin");
+        when(gcsClient.generateUploadUrl("tenant-5/obj-a.bin", "application/octet-stream"))
+                .thenReturn("https://upload/obj-a.bin");
+
+        List<FileUploadTicketVO> tickets =
+                service.prepareUploads(
+                        List.of(FileUploadTicketVO.builder().name("a.bin").size(3L).build()));
+
+        assertThat(tickets)
+                .singleElement()
+                .satisfies(
+                        t -> {
+                            assertThat(t.getObjectName()).isEqualTo("tenant-5/obj-a.bin");
+                            assertThat(t.getUploadUrl()).isEqualTo("https://upload/obj-a.bin");
+                            assertThat(t.getContentType()).isEqualTo("application/octet-stream");
+                        });
+    }
+
+    @Test
+    void completeUploads_recordsStoredObjectMetadata() {
+        when(providerConfig.getProvider()).thenReturn("gcs");
+        when(fileClientFactory.create("gcs")).thenReturn(gcsClient);
+        Blob blob = mock(Blob.class);
+        when(blob.getContentType()).thenReturn("text/plain");
+        when(blob.getSize()).thenReturn(42L);
+        when(gcsClient.getObject("tenant-5/obj-a.txt")).thenReturn(blob);
+        when(gcsClient.contentTypeOrDefault("text/plain")).thenReturn("text/plain");
+
+        SaTokenContextMockUtil.setMockContext();
+        StpUtil.login(7L);
+
+        service.completeUploads(
+                10L,
+                50L,
+                List.of(
+                        FileUploadTicketVO.builder()
+                                .name("a.txt")
+                                .objectName("tenant-5/obj-a.txt")
+                                .size(1L)
+                                .build()));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FileDO>> batchCaptor =
+                (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+        verify(fileMapper).insertBatch(batchCaptor.capture());
+        assertThat(batchCaptor.getValue())
+                .singleElement()
+                .satisfies(
+                        entity -> {
+                            assertThat(entity.getTaskLogId()).isEqualTo(10L);
+                            assertThat(entity.getObjectName()).isEqualTo("tenant-5/obj-a.txt");
+                            assertThat(entity.getName()).isEqualTo("a.txt");
+                            assertThat(entity.getSize()).isEqualTo(42L);
+                            assertThat(entity.getCreator()).isEqualTo("7");
+                        });
+    }
+
+    @Test
+    void completeUploads_whenObjectMissing_throwsException() {
+        when(providerConfig.getProvider()).thenReturn("gcs");
+        when(fileClientFactory.create("gcs")).thenReturn(gcsClient);
+        when(gcsClient.getObject("tenant-5/missing")).thenReturn(null);
+
+        List<FileUploadTicketVO> files =
+                List.of(FileUploadTicketVO.builder().objectName("tenant-5/missing").build());
+
+        assertThrows(IllegalArgumentException.class, () -> service.completeUploads(1L, 2L, files));
+        verify(fileMapper, never()).insertBatch(any());
+    }
+
+    @Test
+    void completeUploads_whenNameNotIssuedToTenant_throwsException() {
+        when(providerConfig.getProvider()).thenReturn("gcs");
+        when(fileClientFactory.create("gcs")).thenReturn(gcsClient);
+
+        List<FileUploadTicketVO> files =
+                List.of(FileUploadTicketVO.builder().objectName("tenant-6/obj-a.txt").build());
+
+        assertThrows(IllegalArgumentException.class, () -> service.completeUploads(1L, 2L, files));
+        verify(gcsClient, never()).getObject(any());
+        verify(fileMapper, never()).insertBatch(any());
+    }
+
+    @Test
+    void completeUploads_whenObjectAlreadyAttached_throwsException() {
+        when(providerConfig.getProvider()).thenReturn("gcs");
+        when(fileClientFactory.create("gcs")).thenReturn(gcsClient);
+        when(fileMapper.selectList(any()))
+                .thenAnswer(
+                        inv -> {
+                            // Attached to any tenant's task log counts
+                            assertThat(MybatisPlusConfig.isTenantFilterBypassed()).isTrue();
+                            return List.of(
+                                    FileDO.builder().objectName("tenant-5/obj-a.txt").build());
+                        });
+
+        List<FileUploadTicketVO> files =
+                List.of(FileUploadTicketVO.builder().objectName("tenant-5/obj-a.txt").build());
+
+        assertThrows(IllegalArgumentException.class, () -> service.completeUploads(1L, 2L, files));
+        verify(fileMapper, never()).insertBatch(any());
+    }
+
+    @Test
+    void discardUploads_keepsObjectsAlreadyAttached() {
+        when(providerConfig.getProvider()).thenReturn("gcs");
+        when(fileClientFactory.create("gcs")).thenReturn(gcsClient);
+        when(fileMapper.selectList(any()))
+                .thenAnswer(
+                        inv -> {
+                            assertThat(MybatisPlusConfig.isTenantFilterBypassed()).isTrue();
+                            return List.of(
+                                    FileDO.builder().objectName("tenant-5/attached").build());
+                        });
+
+        service.discardUploads(
+                List.of("tenant-5/attached", "tenant-5/orphan", "tenant-6/other", " "));
+
+        verify(gcsClient).deleteQuietly("tenant-5/orphan");
+        verify(gcsClient, never()).deleteQuietly("tenant-5/attached");
+        verify(gcsClient, never()).deleteQuietly("tenant-6/other");
+    }
 }
@@ -0,0 +1,78 @@
+package nus.edu.u.framework.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.apache.dubbo.rpc.Filter;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+import org.apache.dubbo.rpc.support.RpcUtils;
+
+/**
+ * Times every Dubbo invocation per interface and method, split by outcome.
+ *
+ * <p>Filters are created by Dubbo's extension loader rather than Spring, so meters go to {@link
+ * Metrics#globalRegistry}, which Spring Boot binds its Prometheus registry to. The clock stops in
+ * the listener callbacks, so asynchronous calls are timed until their result arrives. The timer
+ * count doubles as the call counter. As for SQL statements, no percentile histogram is published:
+ * with one series per method, side and outcome the bucket count would dominate the scrape.
+ */
+public abstract class AbstractDubboMetricsFilter implements Filter, Filter.Listener {
+
+    static final String OUTCOME_SUCCESS = "success";
+
+    /** The invoked method threw, including business {@code ServiceException}s. */
+    static final String OUTCOME_ERROR = "error";
+
+    /** Dubbo itself failed: timeout, no provider, serialization. */
+    static final String OUTCOME_RPC_ERROR = "rpc_error";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final String metricName;
+
+    private final String startKey;
+
+    private final MeterRegistry registry = Metrics.globalRegistry;
+
+    protected AbstractDubboMetricsFilter(String metricName) {
+        this.metricName = metricName;
+        this.startKey = metricName + ".start";
+    }
+
+    @Override
+    public Result invoke(Invoker<?> invoker, Invocation invocation) throws RpcException {
+        invocation.put(startKey, System.nanoTime());
+        return invoker.invoke(invocation);
+    }
+
+    @Override
+    public void onResponse(Result appResponse, Invoker<?> invoker, Invocation invocation) {
+        Throwable exception = appResponse.hasException() ? appResponse.getException() : null;
+        record(invoker, invocation, exception == null ? OUTCOME_SUCCESS : OUTCOME_ERROR, exception);
+    }
+
+    @Override
+    public void onError(Throwable t, Invoker<?> invoker, Invocation invocation) {
+        record(invoker, invocation, OUTCOME_RPC_ERROR, t);
+    }
+
+    private void record(
+            Invoker<?> invoker, Invocation invocation, String outcome, Throwable exception) {
+        if (!(invocation.get(startKey) instanceof Long start)) {
+            return;
+        }
+        Timer.builder(metricName)
+                .tag("service", invoker.getInterface().getName())
+                .tag("method", RpcUtils.getMethodName(invocation))
+                .tag("outcome", outcome)
+                .tag(
+                        "exception",
+                        exception == null ? NO_EXCEPTION : exception.getClass().getSimpleName())
+                .register(registry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,15 @@
+package nus.edu.u.framework.metrics;
+
+import org.apache.dubbo.common.constants.CommonConstants;
+import org.apache.dubbo.common.extension.Activate;
+
+/** Client-side time of each Dubbo method this service calls, network and queueing included. */
+@Activate(group = CommonConstants.CONSUMER, order = Integer.MIN_VALUE + 1000)
+public class DubboConsumerMetricsFilter extends AbstractDubboMetricsFilter {
+
+    public static final String METRIC_NAME = "chronoflow.dubbo.consumer";
+
+    public DubboConsumerMetricsFilter() {
+        super(METRIC_NAME);
+    }
+}
@@ -0,0 +1,15 @@
+package nus.edu.u.framework.metrics;
+
+import org.apache.dubbo.common.constants.CommonConstants;
+import org.apache.dubbo.common.extension.Activate;
+
+/** Server-side time of each Dubbo method this service exposes. */
+@Activate(group = CommonConstants.PROVIDER, order = Integer.MIN_VALUE + 1000)
+public class DubboProviderMetricsFilter extends AbstractDubboMetricsFilter {
+
+    public static final String METRIC_NAME = "chronoflow.dubbo.provider";
+
+    public DubboProviderMetricsFilter() {
+        super(METRIC_NAME);
+    }
+}
@@ -11,8 +11,10 @@ import com.baomidou.mybatisplus.extension.plugins.handler.TenantLineHandler;
 import com.baomidou.mybatisplus.extension.plugins.inner.BlockAttackInnerInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.TenantLineInnerInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.LongValue;
+import nus.edu.u.framework.tenant.TenantContextHolder;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.context.annotation.Bean;
 
@@ -116,7 +118,21 @@ public class MybatisPlusConfig {
         return new MybatisMetaObjectHandler();
     }
 
+    /** Picked up by the MyBatis-Plus auto-configuration like any other {@code Interceptor} bean. */
+    @Bean
+    public MybatisMetricsInterceptor mybatisMetricsInterceptor(MeterRegistry meterRegistry) {
+        return new MybatisMetricsInterceptor(meterRegistry);
+    }
+
+    /**
+     * Tenant of the current request or Dubbo invocation. The session is only read on the first call
+     * within a {@link TenantContextHolder} scope; later calls reuse the resolved value.
+     */
     public static Long getCurrentTenantId() {
+        return TenantContextHolder.getTenantId(MybatisPlusConfig::loadTenantIdFromSession);
+    }
+
+    private static Long loadTenantIdFromSession() {
         try {
             Object tenantIdObject = StpUtil.getSession().get(SESSION_TENANT_ID);
             Long tenantId = Long.parseLong(tenantIdObject.toString());
@@ -1,13 +1,21 @@
 package nus.edu.u.framework.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import nus.edu.u.framework.security.audit.SecurityAuditLogger;
 import nus.edu.u.framework.security.ratelimit.RateLimiter;
+import nus.edu.u.framework.security.satoken.PermissionSnapshotCache;
 import nus.edu.u.framework.security.satoken.StpPermissionHandler;
+import nus.edu.u.framework.security.satoken.TokenRevocationPublisher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 /**
  * @author Lu Shuwen
@@ -17,15 +25,46 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 public class SecurityAutoConfiguration {
 
     @Bean
-    public StpPermissionHandler stpPermissionHandler() {
-        return new StpPermissionHandler();
+    @ConditionalOnMissingBean
+    public PermissionSnapshotCache permissionSnapshotCache(
+            @Value("${chronoflow.permission-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${chronoflow.permission-cache.maximum-size:10000}") long maximumSize) {
+        return new PermissionSnapshotCache(Duration.ofSeconds(ttlSeconds), maximumSize);
+    }
+
+    @Bean
+    public StpPermissionHandler stpPermissionHandler(
+            PermissionSnapshotCache permissionSnapshotCache) {
+        return new StpPermissionHandler(permissionSnapshotCache);
+    }
+
+    @Bean
+    public MessageListener permissionChangeListener(
+            RedisMessageListenerContainer container,
+            PermissionSnapshotCache permissionSnapshotCache) {
+        MessageListener listener =
+                (message, pattern) ->
+                        permissionSnapshotCache.invalidate(
+                                new String(message.getBody(), StandardCharsets.UTF_8));
+        container.addMessageListener(
+                listener, new ChannelTopic(PermissionSnapshotCache.CHANGE_CHANNEL));
+        return listener;
+    }
+
+    @Bean
+    public TokenRevocationPublisher tokenRevocationPublisher(
+            StringRedisTemplate stringRedisTemplate) {
+        return new TokenRevocationPublisher(stringRedisTemplate);
     }
 
     @Bean
     @ConditionalOnMissingBean
     public SecurityAuditLogger securityAuditLogger(
-            StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
-        return new SecurityAuditLogger(redisTemplate, objectMapper);
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${chronoflow.security-audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${chronoflow.security-audit.batch-size:200}") int batchSize) {
+        return new SecurityAuditLogger(redisTemplate, objectMapper, queueCapacity, batchSize);
     }
 
     @Bean
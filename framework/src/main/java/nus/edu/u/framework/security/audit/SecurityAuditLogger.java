@@ -2,29 +2,95 @@ package nus.edu.u.framework.security.audit;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Builder;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 /**
- * Security audit logger for tracking authentication and authorization events.
- * Logs to both structured log output and Redis for retention.
+ * Security audit logger for tracking authentication and authorization events. Logs to both
+ * structured log output and Redis for retention.
+ *
+ * <p>The Redis write is taken off the request thread: entries go into a bounded queue that a single
+ * background writer drains, sending each batch as one pipelined {@code RPUSH} and {@code EXPIRE}
+ * per day key. When the queue is full the entry is dropped rather than blocking the caller and
+ * {@link #getDroppedCount()} is incremented; the structured log line is still written.
+ *
+ * <p>As a {@link MeterBinder} it publishes the dropped entries as {@value #DROPPED_METRIC}.
  */
-@RequiredArgsConstructor
 @Slf4j
-public class SecurityAuditLogger {
+public class SecurityAuditLogger implements DisposableBean, MeterBinder {
+
+    static final String DROPPED_METRIC = "chronoflow.security.audit.dropped";
 
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final Clock clock;
 
-    private static final String AUDIT_KEY_PREFIX = "security:audit:log:";
+    static final String AUDIT_KEY_PREFIX = "security:audit:log:";
     private static final long AUDIT_RETENTION_DAYS = 7;
 
+    private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+    private static final int DEFAULT_BATCH_SIZE = 200;
+
+    /** Warn once per this many dropped entries. */
+    private static final long DROP_WARN_INTERVAL = 1_000;
+
+    private final BlockingQueue<PendingEntry> queue;
+    private final int batchSize;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+
+    private volatile boolean running = true;
+
+    public SecurityAuditLogger(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this(redisTemplate, objectMapper, DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    public SecurityAuditLogger(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            int queueCapacity,
+            int batchSize) {
+        this(redisTemplate, objectMapper, queueCapacity, batchSize, Clock.systemDefaultZone());
+    }
+
+    SecurityAuditLogger(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            int queueCapacity,
+            int batchSize,
+            Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        CustomizableThreadFactory threadFactory =
+                new CustomizableThreadFactory("security-audit-writer-");
+        threadFactory.setDaemon(true);
+        this.writer = threadFactory.newThread(this::drain);
+        this.writer.start();
+    }
+
     /** Security events to track. */
     public enum SecurityEvent {
         // Authentication events
@@ -68,17 +134,21 @@ public class SecurityAuditLogger {
                         .userId(userId)
                         .clientIp(clientIp)
                         .detail(detail)
-                        .timestamp(Instant.now().toString())
+                        .timestamp(Instant.now(clock).toString())
                         .build();
 
         try {
             String json = objectMapper.writeValueAsString(entry);
             log.info("[SECURITY_AUDIT] {}", json);
 
-            // Store in Redis for retention
-            String dateKey = AUDIT_KEY_PREFIX + LocalDate.now().toString();
-            redisTemplate.opsForList().rightPush(dateKey, json);
-            redisTemplate.expire(dateKey, AUDIT_RETENTION_DAYS, TimeUnit.DAYS);
+            // Store in Redis for retention, written by the background writer
+            String dateKey = AUDIT_KEY_PREFIX + LocalDate.now(clock).toString();
+            if (!queue.offer(new PendingEntry(dateKey, json))) {
+                long dropped = droppedCount.incrementAndGet();
+                if (dropped % DROP_WARN_INTERVAL == 1) {
+                    log.warn("[SECURITY_AUDIT] queue full, {} entries dropped so far", dropped);
+                }
+            }
 
         } catch (JsonProcessingException e) {
             log.warn(
@@ -96,6 +166,78 @@ public class SecurityAuditLogger {
         }
     }
 
+    /** Number of entries not stored in Redis because the queue was full. */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(DROPPED_METRIC, droppedCount, AtomicLong::get)
+                .description(
+                        "Security audit entries not stored in Redis because the queue was full")
+                .register(registry);
+    }
+
+    /** Stop accepting new work and flush what is already queued. */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void drain() {
+        List<PendingEntry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingEntry first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                // Woken up for shutdown, flush whatever is left
+                if (running) {
+                    continue;
+                }
+            }
+            queue.drainTo(batch, batchSize - batch.size());
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<PendingEntry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<String, List<String>> byKey = new LinkedHashMap<>();
+        for (PendingEntry entry : batch) {
+            byKey.computeIfAbsent(entry.key(), key -> new ArrayList<>()).add(entry.json());
+        }
+        try {
+            redisTemplate.executePipelined(
+                    (RedisCallback<Object>)
+                            connection -> {
+                                StringRedisConnection redis = (StringRedisConnection) connection;
+                                byKey.forEach(
+                                        (key, values) -> {
+                                            redis.rPush(key, values.toArray(new String[0]));
+                                            redis.expire(
+                                                    key,
+                                                    TimeUnit.DAYS.toSeconds(AUDIT_RETENTION_DAYS));
+                                        });
+                                return null;
+                            });
+        } catch (Exception e) {
+            // Entries were already written to the structured log
+            log.warn("[SECURITY_AUDIT] failed to store {} entries in Redis", batch.size(), e);
+        }
+    }
+
+    private record PendingEntry(String key, String json) {}
+
     /** Audit log entry structure. */
     @Data
     @Builder
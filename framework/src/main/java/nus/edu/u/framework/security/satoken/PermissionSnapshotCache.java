@@ -0,0 +1,114 @@
+package nus.edu.u.framework.security.satoken;
+
+import static nus.edu.u.common.constant.CacheConstants.USER_PERMISSION_KEY;
+import static nus.edu.u.common.constant.CacheConstants.USER_ROLE_KEY;
+
+import cn.dev33.satoken.session.SaSession;
+import cn.dev33.satoken.stp.StpUtil;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * In-process snapshot of the roles and permissions held in each login's Sa-Token session.
+ *
+ * <p>The session lives in Redis, so reading it on every {@code @SaCheckPermission} costs a round
+ * trip. Snapshots are resolved once per login id and served from memory until user-service
+ * publishes a change on {@link #CHANGE_CHANNEL}: either the ids of users whose session lists it has
+ * rewritten, or {@link #INVALIDATE_ALL}. Every invalidation bumps a version so that a session read
+ * that was already in flight cannot put the pre-change lists back. The TTL only bounds how long a
+ * lost message can leave a snapshot stale.
+ */
+public class PermissionSnapshotCache {
+
+    /** Redis pub/sub channel carrying permission change messages. */
+    public static final String CHANGE_CHANNEL = "chronoflow:permission:changed";
+
+    /** Change payload that drops every snapshot. */
+    public static final String INVALIDATE_ALL = "*";
+
+    private static final String ID_SEPARATOR = ",";
+
+    private final Cache<String, Snapshot> snapshots;
+
+    private final AtomicLong version = new AtomicLong();
+
+    public PermissionSnapshotCache(Duration ttl, long maximumSize) {
+        this.snapshots =
+                CacheBuilder.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).build();
+    }
+
+    public List<String> getPermissions(Object loginId) {
+        return get(loginId).permissions();
+    }
+
+    public List<String> getRoles(Object loginId) {
+        return get(loginId).roles();
+    }
+
+    /**
+     * Apply a change message received from {@link #CHANGE_CHANNEL}.
+     *
+     * @param payload comma separated login ids, or {@link #INVALIDATE_ALL}
+     */
+    public void invalidate(String payload) {
+        version.incrementAndGet();
+        if (payload == null || payload.isBlank() || INVALIDATE_ALL.equals(payload.trim())) {
+            snapshots.invalidateAll();
+            return;
+        }
+        for (String token : payload.split(ID_SEPARATOR)) {
+            String trimmed = token.trim();
+            if (!trimmed.isEmpty()) {
+                snapshots.invalidate(trimmed);
+            }
+        }
+    }
+
+    /** Build the change payload for the given login ids. */
+    public static String encodeChange(Collection<?> loginIds) {
+        if (loginIds == null || loginIds.isEmpty()) {
+            return INVALIDATE_ALL;
+        }
+        return loginIds.stream().map(String::valueOf).collect(Collectors.joining(ID_SEPARATOR));
+    }
+
+    private Snapshot get(Object loginId) {
+        String key = String.valueOf(loginId);
+        Snapshot cached = snapshots.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long before = version.get();
+        SaSession session = StpUtil.getSessionByLoginId(loginId, false);
+        if (session == null) {
+            // Not cached: the session may be created by a login moments later
+            return Snapshot.EMPTY;
+        }
+        Snapshot loaded =
+                new Snapshot(
+                        copyOf(session.get(USER_PERMISSION_KEY)),
+                        copyOf(session.get(USER_ROLE_KEY)));
+        if (version.get() == before) {
+            snapshots.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    private static List<String> copyOf(Object value) {
+        if (!(value instanceof List<?> list)) {
+            return List.of();
+        }
+        return list.stream().filter(Objects::nonNull).map(String::valueOf).toList();
+    }
+
+    private record Snapshot(List<String> permissions, List<String> roles) {
+
+        static final Snapshot EMPTY = new Snapshot(List.of(), List.of());
+    }
+}
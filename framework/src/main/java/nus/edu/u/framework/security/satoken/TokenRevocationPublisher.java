@@ -0,0 +1,46 @@
+package nus.edu.u.framework.security.satoken;
+
+import static nus.edu.u.common.constant.CacheConstants.TOKEN_REVOKED_CHANNEL;
+
+import cn.dev33.satoken.listener.SaTokenListenerForSimple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Broadcasts every token that stops being valid before its timeout, so the gateway can drop it from
+ * its local validation cache instead of accepting it until that entry expires.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TokenRevocationPublisher extends SaTokenListenerForSimple {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void doLogout(String loginType, Object loginId, String tokenValue) {
+        publish(tokenValue);
+    }
+
+    @Override
+    public void doKickout(String loginType, Object loginId, String tokenValue) {
+        publish(tokenValue);
+    }
+
+    @Override
+    public void doReplaced(String loginType, Object loginId, String tokenValue) {
+        publish(tokenValue);
+    }
+
+    private void publish(String tokenValue) {
+        if (tokenValue == null || tokenValue.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(TOKEN_REVOKED_CHANNEL, tokenValue);
+        } catch (Exception e) {
+            // The gateway cache TTL still bounds how long the token is accepted
+            log.warn("Failed to publish token revocation", e);
+        }
+    }
+}
@@ -1,132 +1,141 @@
 package nus.edu.u.framework.sentinel;
 
 import com.alibaba.csp.sentinel.adapter.servlet.callback.UrlCleaner;
+import java.util.Arrays;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-/** Sentinel URL清洗器 用于将带路径参数的URL统一为资源名称 */
+/**
+ * Sentinel URL清洗器 用于将带路径参数的URL统一为资源名称
+ *
+ * <p>The templates are compiled once into a path-segment trie, so cleaning walks the URL a single
+ * time without regex matching or splitting, and returns the shared template string on a match.
+ */
 @Component
 public class SentinelUrlCleaner implements UrlCleaner {
 
+    /** Marks a path segment made only of digits. */
+    private static final String NUMERIC_SEGMENT = "*";
+
+    private static final List<String> TEMPLATES =
+            List.of(
+                    // ========== Attendee Service URL Patterns ==========
+                    "/attendees/list/*",
+                    "/attendees/*",
+                    "/attendees/bulk/*",
+                    // ========== Event Service URL Patterns ==========
+                    "/events/*",
+                    "/events/*/restore",
+                    "/events/*/assignable-groups",
+                    "/events/groups/delete/*",
+                    "/events/groups/*/members/*",
+                    "/events/groups/*/members",
+                    "/events/groups/*/members/batch",
+                    "/events/*/members/*",
+                    // ========== User Service URL Patterns ==========
+                    "/users/permissions/*",
+                    "/users/roles/*",
+                    "/users/organizer/update/user/*",
+                    "/users/organizer/delete/user/*",
+                    "/users/organizer/restore/user/*",
+                    "/users/organizer/disable/user/*",
+                    "/users/organizer/enable/user/*",
+                    // ========== Task Service URL Patterns  ==========
+                    "/tasks/*",
+                    "/tasks/*/*",
+                    "/tasks/*/log/*");
+
+    private final Node root = new Node();
+
+    public SentinelUrlCleaner() {
+        TEMPLATES.forEach(this::register);
+    }
+
     @Override
     public String clean(String originUrl) {
-        if (!StringUtils.hasText(originUrl)) {
+        if (!StringUtils.hasText(originUrl) || originUrl.charAt(0) != '/') {
             return originUrl;
         }
-
-        // ========== Attendee Service URL Patterns ==========
-
-        // /attendees/list/{eventId}
-        if (originUrl.matches("^/attendees/list/\\d+$")) {
-            return "/attendees/list/*";
-        }
-
-        // /attendees/{attendeeId}
-        if (originUrl.matches("^/attendees/\\d+$")) {
-            return "/attendees/*";
-        }
-
-        // /attendees/bulk/{eventId}
-        if (originUrl.matches("^/attendees/bulk/\\d+$")) {
-            return "/attendees/bulk/*";
-        }
-
-        // ========== Event Service URL Patterns ==========
-
-        // /events/{id}
-        if (originUrl.matches("^/events/\\d+$")) {
-            return "/events/*";
-        }
-
-        // /events/{id}/restore
-        if (originUrl.matches("^/events/\\d+/restore$")) {
-            return "/events/*/restore";
-        }
-
-        // /events/{id}/assignable-groups
-        if (originUrl.matches("^/events/\\d+/assignable-groups$")) {
-            return "/events/*/assignable-groups";
-        }
-
-        // /events/groups/delete/{id}
-        if (originUrl.matches("^/events/groups/delete/\\d+$")) {
-            return "/events/groups/delete/*";
-        }
-
-        // /events/groups/{groupId}/members/{userId}
-        if (originUrl.matches("^/events/groups/\\d+/members/\\d+$")) {
-            return "/events/groups/*/members/*";
-        }
-
-        // /events/groups/{groupId}/members
-        if (originUrl.matches("^/events/groups/\\d+/members$")) {
-            return "/events/groups/*/members";
-        }
-
-        // /events/groups/{groupId}/members/batch
-        if (originUrl.matches("^/events/groups/\\d+/members/batch$")) {
-            return "/events/groups/*/members/batch";
-        }
-
-        // /events/{groupId}/members/{userId}
-        if (originUrl.matches("^/events/\\d+/members/\\d+$")) {
-            return "/events/*/members/*";
-        }
-
-        // ========== User Service URL Patterns ==========
-
-        // /users/permissions/{id}
-        if (originUrl.matches("^/users/permissions/\\d+$")) {
-            return "/users/permissions/*";
-        }
-
-        // /users/roles/{roleId}
-        if (originUrl.matches("^/users/roles/\\d+$")) {
-            return "/users/roles/*";
-        }
-
-        // /users/organizer/update/user/{id}
-        if (originUrl.matches("^/users/organizer/update/user/\\d+$")) {
-            return "/users/organizer/update/user/*";
-        }
-
-        // /users/organizer/delete/user/{id}
-        if (originUrl.matches("^/users/organizer/delete/user/\\d+$")) {
-            return "/users/organizer/delete/user/*";
-        }
-
-        // /users/organizer/restore/user/{id}
-        if (originUrl.matches("^/users/organizer/restore/user/\\d+$")) {
-            return "/users/organizer/restore/user/*";
-        }
-
-        // /users/organizer/disable/user/{id}
-        if (originUrl.matches("^/users/organizer/disable/user/\\d+$")) {
-            return "/users/organizer/disable/user/*";
+        int length = originUrl.length();
+        Node node = root;
+        int start = 1;
+        while (true) {
+            int end = originUrl.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.child(originUrl, start, end);
+            if (node == null) {
+                return originUrl;
+            }
+            if (end == length) {
+                return node.template != null ? node.template : originUrl;
+            }
+            start = end + 1;
         }
+    }
 
-        // /users/organizer/enable/user/{id}
-        if (originUrl.matches("^/users/organizer/enable/user/\\d+$")) {
-            return "/users/organizer/enable/user/*";
+    private void register(String template) {
+        Node node = root;
+        for (String segment : template.substring(1).split("/")) {
+            node = node.addChild(segment);
         }
+        node.template = template;
+    }
 
-        // ========== Task Service URL Patterns  ==========
-
-        // /tasks/{eventId}
-        if (originUrl.matches("^/tasks/\\d+$")) {
-            return "/tasks/*";
+    private static boolean isNumeric(String url, int start, int end) {
+        if (start == end) {
+            return false;
         }
-
-        // /tasks/{eventId}/{taskId}
-        if (originUrl.matches("^/tasks/\\d+/\\d+$")) {
-            return "/tasks/*/*";
+        for (int i = start; i < end; i++) {
+            char c = url.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
         }
+        return true;
+    }
 
-        // /tasks/{eventId}/log/{taskId}
-        if (originUrl.matches("^/tasks/\\d+/log/\\d+$")) {
-            return "/tasks/*/log/*";
+    private static final class Node {
+
+        private String[] literals = new String[0];
+
+        private Node[] literalChildren = new Node[0];
+
+        private Node numericChild;
+
+        private String template;
+
+        Node child(String url, int start, int end) {
+            int length = end - start;
+            for (int i = 0; i < literals.length; i++) {
+                String literal = literals[i];
+                if (literal.length() == length && url.regionMatches(start, literal, 0, length)) {
+                    return literalChildren[i];
+                }
+            }
+            return numericChild != null && isNumeric(url, start, end) ? numericChild : null;
+        }
+
+        Node addChild(String segment) {
+            if (NUMERIC_SEGMENT.equals(segment)) {
+                if (numericChild == null) {
+                    numericChild = new Node();
+                }
+                return numericChild;
+            }
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(segment)) {
+                    return literalChildren[i];
+                }
+            }
+            Node child = new Node();
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literalChildren = Arrays.copyOf(literalChildren, literalChildren.length + 1);
+            literals[literals.length - 1] = segment;
+            literalChildren[literalChildren.length - 1] = child;
+            return child;
         }
-
-        return originUrl;
     }
 }
@@ -0,0 +1,18 @@
+package nus.edu.u.framework.tenant;
+
+/**
+ * Immutable tenant snapshot bound to the current request or Dubbo invocation.
+ *
+ * <p>A context with a {@code null} tenant id marks an open scope whose tenant has not been looked
+ * up yet; the first lookup replaces it with a resolved context.
+ *
+ * @param tenantId resolved tenant id, or {@code null} if not resolved yet
+ */
+public record TenantContext(Long tenantId) {
+
+    public static final TenantContext UNRESOLVED = new TenantContext(null);
+
+    public boolean isResolved() {
+        return tenantId != null;
+    }
+}
@@ -0,0 +1,31 @@
+package nus.edu.u.framework.tenant;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+
+/** Registers the request-scoped tenant context for servlet requests and executor hops. */
+@AutoConfiguration
+public class TenantContextAutoConfiguration {
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<TenantContextFilter> tenantContextFilter() {
+        FilterRegistrationBean<TenantContextFilter> registration =
+                new FilterRegistrationBean<>(new TenantContextFilter());
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /** Applied by Spring Boot to the auto-configured {@code applicationTaskExecutor}. */
+    @Bean
+    @ConditionalOnMissingBean
+    public TaskDecorator tenantContextTaskDecorator() {
+        return TenantContextHolder::wrap;
+    }
+}
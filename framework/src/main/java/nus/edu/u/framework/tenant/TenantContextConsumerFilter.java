@@ -0,0 +1,25 @@
+package nus.edu.u.framework.tenant;
+
+import org.apache.dubbo.common.constants.CommonConstants;
+import org.apache.dubbo.common.extension.Activate;
+import org.apache.dubbo.rpc.Filter;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+
+/** Passes the caller's resolved tenant to the provider as a Dubbo attachment. */
+@Activate(group = CommonConstants.CONSUMER)
+public class TenantContextConsumerFilter implements Filter {
+
+    public static final String TENANT_ID_ATTACHMENT = "chronoflow-tenant-id";
+
+    @Override
+    public Result invoke(Invoker<?> invoker, Invocation invocation) throws RpcException {
+        Long tenantId = TenantContextHolder.peekTenantId();
+        if (tenantId != null) {
+            invocation.setAttachment(TENANT_ID_ATTACHMENT, tenantId.toString());
+        }
+        return invoker.invoke(invocation);
+    }
+}
@@ -0,0 +1,27 @@
+package nus.edu.u.framework.tenant;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Opens a tenant scope for each HTTP request so the tenant is read from the session once, not on
+ * every SQL statement.
+ */
+public class TenantContextFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        TenantContext previous = TenantContextHolder.open(TenantContext.UNRESOLVED);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContextHolder.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package nus.edu.u.framework.tenant;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Holds the {@link TenantContext} of the current thread.
+ *
+ * <p>Scopes are opened by {@link TenantContextFilter} for HTTP requests and by {@link
+ * TenantContextProviderFilter} for Dubbo invocations. Inside a scope the tenant is looked up at
+ * most once; outside a scope every call falls back to the store-backed lookup, as before.
+ */
+public final class TenantContextHolder {
+
+    private static final ThreadLocal<TenantContext> CONTEXT = new ThreadLocal<>();
+
+    private TenantContextHolder() {}
+
+    public static TenantContext get() {
+        return CONTEXT.get();
+    }
+
+    /**
+     * Bind {@code context} to the current thread and return the previous one, which the caller must
+     * hand back to {@link #restore(TenantContext)} when the scope ends.
+     */
+    public static TenantContext open(TenantContext context) {
+        TenantContext previous = CONTEXT.get();
+        CONTEXT.set(context);
+        return previous;
+    }
+
+    public static void restore(TenantContext previous) {
+        if (previous == null) {
+            CONTEXT.remove();
+        } else {
+            CONTEXT.set(previous);
+        }
+    }
+
+    /** Resolved tenant id of the current scope, or {@code null} if none. */
+    public static Long peekTenantId() {
+        TenantContext context = CONTEXT.get();
+        return context == null ? null : context.tenantId();
+    }
+
+    /**
+     * Return the tenant id of the current scope, loading it with {@code loader} on first use. The
+     * loaded value is only memoized when a scope is open.
+     */
+    public static Long getTenantId(Supplier<Long> loader) {
+        TenantContext context = CONTEXT.get();
+        if (context != null && context.isResolved()) {
+            return context.tenantId();
+        }
+        Long tenantId = loader.get();
+        if (context != null && tenantId != null) {
+            CONTEXT.set(new TenantContext(tenantId));
+        }
+        return tenantId;
+    }
+
+    /**
+     * Replace the tenant of the current scope, e.g. after a login inside the request switched the
+     * session to another tenant. Does nothing outside a scope.
+     */
+    public static void rebind(Long tenantId) {
+        if (CONTEXT.get() != null) {
+            CONTEXT.set(new TenantContext(tenantId));
+        }
+    }
+
+    /** Capture the caller's context so it is visible to {@code task} on another thread. */
+    public static Runnable wrap(Runnable task) {
+        TenantContext captured = CONTEXT.get();
+        return () -> {
+            TenantContext previous = open(captured);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /** Capture the caller's context so it is visible to {@code task} on another thread. */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        TenantContext captured = CONTEXT.get();
+        return () -> {
+            TenantContext previous = open(captured);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package nus.edu.u.framework.tenant;
+
+import static nus.edu.u.framework.tenant.TenantContextConsumerFilter.TENANT_ID_ATTACHMENT;
+
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.StrUtil;
+import org.apache.dubbo.common.constants.CommonConstants;
+import org.apache.dubbo.common.extension.Activate;
+import org.apache.dubbo.rpc.Filter;
+import org.apache.dubbo.rpc.Invocation;
+import org.apache.dubbo.rpc.Invoker;
+import org.apache.dubbo.rpc.Result;
+import org.apache.dubbo.rpc.RpcException;
+
+/**
+ * Opens a tenant scope for each Dubbo invocation, seeded from the consumer's attachment when
+ * present. Without the attachment the tenant is resolved lazily from the propagated session.
+ */
+@Activate(group = CommonConstants.PROVIDER)
+public class TenantContextProviderFilter implements Filter {
+
+    @Override
+    public Result invoke(Invoker<?> invoker, Invocation invocation) throws RpcException {
+        String attachment = invocation.getAttachment(TENANT_ID_ATTACHMENT);
+        TenantContext context =
+                StrUtil.isNotBlank(attachment) && NumberUtil.isLong(attachment)
+                        ? new TenantContext(Long.parseLong(attachment))
+                        : TenantContext.UNRESOLVED;
+        TenantContext previous = TenantContextHolder.open(context);
+        try {
+            return invoker.invoke(invocation);
+        } finally {
+            TenantContextHolder.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package nus.edu.u.framework.security.audit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.Uninterruptibles;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import nus.edu.u.framework.security.audit.SecurityAuditLogger.SecurityEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class SecurityAuditLoggerTest {
+
+    private static final Instant DAY_ONE = Instant.parse("2025-03-01T23:59:00Z");
+    private static final Instant DAY_TWO = Instant.parse("2025-03-02T00:01:00Z");
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final StringRedisConnection connection = mock(StringRedisConnection.class);
+    private final MutableClock clock = new MutableClock(DAY_ONE);
+
+    /** Held by the first pipelined write so the test controls what is still queued. */
+    private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+
+    private final CountDownLatch releaseWrites = new CountDownLatch(1);
+    private final List<List<String>> pushes = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger pipelines = new AtomicInteger();
+
+    private SecurityAuditLogger auditLogger;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenAnswer(
+                        invocation -> {
+                            pipelines.incrementAndGet();
+                            firstWriteStarted.countDown();
+                            Uninterruptibles.awaitUninterruptibly(releaseWrites);
+                            RedisCallback<?> callback = invocation.getArgument(0);
+                            callback.doInRedis(connection);
+                            return List.of();
+                        });
+        doAnswer(
+                        invocation -> {
+                            Object[] raw = invocation.getRawArguments();
+                            List<String> push = new ArrayList<>();
+                            push.add((String) raw[0]);
+                            push.addAll(Arrays.asList((String[]) raw[1]));
+                            pushes.add(push);
+                            return 1L;
+                        })
+                .when(connection)
+                .rPush(anyString(), any(String[].class));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        releaseWrites.countDown();
+        if (auditLogger != null) {
+            auditLogger.destroy();
+        }
+    }
+
+    @Test
+    void write_groupsBatchByDayKey() throws InterruptedException {
+        auditLogger = newLogger(100, 10);
+        blockWriter();
+
+        auditLogger.log(SecurityEvent.LOGIN_SUCCESS, "1", "127.0.0.1", "a");
+        clock.set(DAY_TWO);
+        auditLogger.log(SecurityEvent.LOGIN_SUCCESS, "1", "127.0.0.1", "b");
+        clock.set(DAY_ONE);
+        auditLogger.log(SecurityEvent.LOGIN_SUCCESS, "1", "127.0.0.1", "c");
+        clock.set(DAY_TWO);
+        auditLogger.log(SecurityEvent.LOGIN_SUCCESS, "1", "127.0.0.1", "d");
+
+        releaseWrites.countDown();
+        auditLogger.destroy();
+
+        assertThat(pipelines).hasValue(2);
+        assertThat(pushes).hasSize(3);
+        assertThat(pushes.get(1)).hasSize(3).first().isEqualTo(dayKey("2025-03-01"));
+        assertThat(details(pushes.get(1))).containsExactly("a", "c");
+        assertThat(pushes.get(2)).hasSize(3).first().isEqualTo(dayKey("2025-03-02"));
+        assertThat(details(pushes.get(2))).containsExactly("b", "d");
+    }
+
+    @Test
+    void log_fullQueue_dropsWithoutBlocking() {
+        auditLogger = newLogger(1, 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        auditLogger.bindTo(registry);
+        blockWriter();
+
+        assertTimeoutPreemptively(
+                Duration.ofSeconds(1),
+                () -> {
+                    auditLogger.log(SecurityEvent.RATE_LIMIT_EXCEEDED, "1", "127.0.0.1", "a");
+                    auditLogger.log(SecurityEvent.RATE_LIMIT_EXCEEDED, "1", "127.0.0.1", "b");
+                    auditLogger.log(SecurityEvent.RATE_LIMIT_EXCEEDED, "1", "127.0.0.1", "c");
+                });
+
+        assertThat(auditLogger.getDroppedCount()).isEqualTo(2);
+        assertThat(registry.get(SecurityAuditLogger.DROPPED_METRIC).functionCounter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void destroy_flushesQueuedEntries() throws InterruptedException {
+        auditLogger = newLogger(100, 10);
+        blockWriter();
+        auditLogger.log(SecurityEvent.LOGOUT, "1", "127.0.0.1", "a");
+        auditLogger.log(SecurityEvent.LOGOUT, "1", "127.0.0.1", "b");
+
+        Thread destroyer =
+                new Thread(
+                        () -> {
+                            try {
+                                auditLogger.destroy();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+        destroyer.start();
+        // Entries must still be queued once destroy() has stopped the writer
+        while (destroyer.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+        releaseWrites.countDown();
+        destroyer.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertThat(destroyer.isAlive()).isFalse();
+        assertThat(pushes).hasSize(2);
+        assertThat(details(pushes.get(1))).containsExactly("a", "b");
+        assertThat(auditLogger.getDroppedCount()).isZero();
+    }
+
+    private SecurityAuditLogger newLogger(int queueCapacity, int batchSize) {
+        return new SecurityAuditLogger(
+                redisTemplate, new ObjectMapper(), queueCapacity, batchSize, clock);
+    }
+
+    /** Park the writer inside its first pipeline so later entries stay in the queue. */
+    private void blockWriter() {
+        auditLogger.log(SecurityEvent.LOGIN_SUCCESS, "0", "127.0.0.1", "primer");
+        assertThat(Uninterruptibles.awaitUninterruptibly(firstWriteStarted, 5, TimeUnit.SECONDS))
+                .isTrue();
+    }
+
+    private static String dayKey(String date) {
+        return SecurityAuditLogger.AUDIT_KEY_PREFIX + date;
+    }
+
+    private static List<String> details(List<String> push) {
+        ObjectMapper mapper = new ObjectMapper();
+        return push.subList(1, push.size()).stream()
+                .map(
+                        json -> {
+                            try {
+                                return mapper.readTree(json).get("detail").asText();
+                            } catch (Exception e) {
+                                throw new IllegalStateException(e);
+                            }
+                        })
+                .toList();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
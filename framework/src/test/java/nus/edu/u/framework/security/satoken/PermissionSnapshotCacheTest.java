@@ -0,0 +1,128 @@
+package nus.edu.u.framework.security.satoken;
+
+import static nus.edu.u.common.constant.CacheConstants.USER_PERMISSION_KEY;
+import static nus.edu.u.common.constant.CacheConstants.USER_ROLE_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import cn.dev33.satoken.context.mock.SaTokenContextMockUtil;
+import cn.dev33.satoken.session.SaSession;
+import cn.dev33.satoken.stp.StpUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PermissionSnapshotCacheTest {
+
+    private PermissionSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PermissionSnapshotCache(Duration.ofMinutes(1), 100);
+        SaTokenContextMockUtil.setMockContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (long id = 1; id <= 3; id++) {
+            StpUtil.getSessionByLoginId(id).logout();
+        }
+        SaTokenContextMockUtil.clearContext();
+    }
+
+    @Test
+    void get_cachedSnapshot_skipsSessionRead() {
+        SaSession session = session(1L, List.of("event:read"), List.of("organizer"));
+        assertThat(cache.getPermissions(1L)).containsExactly("event:read");
+
+        // Changed in Redis without a change message: the snapshot is still served
+        session.set(USER_PERMISSION_KEY, List.of("event:write"));
+        session.set(USER_ROLE_KEY, List.of("member"));
+
+        assertThat(cache.getPermissions(1L)).containsExactly("event:read");
+        assertThat(cache.getRoles(1L)).containsExactly("organizer");
+    }
+
+    @Test
+    void invalidate_listedIds_evictsOnlyThoseIds() {
+        SaSession first = session(1L, List.of("p1"), List.of());
+        SaSession second = session(2L, List.of("p2"), List.of());
+        SaSession third = session(3L, List.of("p3"), List.of());
+        cache.getPermissions(1L);
+        cache.getPermissions(2L);
+        cache.getPermissions(3L);
+        first.set(USER_PERMISSION_KEY, List.of("p1-new"));
+        second.set(USER_PERMISSION_KEY, List.of("p2-new"));
+        third.set(USER_PERMISSION_KEY, List.of("p3-new"));
+
+        cache.invalidate(PermissionSnapshotCache.encodeChange(List.of(1L, 2L)));
+
+        assertThat(cache.getPermissions(1L)).containsExactly("p1-new");
+        assertThat(cache.getPermissions(2L)).containsExactly("p2-new");
+        assertThat(cache.getPermissions(3L)).containsExactly("p3");
+    }
+
+    @Test
+    void invalidate_all_evictsEverySnapshot() {
+        SaSession first = session(1L, List.of("p1"), List.of());
+        SaSession second = session(2L, List.of("p2"), List.of());
+        cache.getPermissions(1L);
+        cache.getPermissions(2L);
+        first.set(USER_PERMISSION_KEY, List.of("p1-new"));
+        second.set(USER_PERMISSION_KEY, List.of("p2-new"));
+
+        cache.invalidate(PermissionSnapshotCache.INVALIDATE_ALL);
+
+        assertThat(cache.getPermissions(1L)).containsExactly("p1-new");
+        assertThat(cache.getPermissions(2L)).containsExactly("p2-new");
+    }
+
+    @Test
+    void get_invalidatedWhileLoading_doesNotCacheStaleLists() {
+        List<String> permissions = spy(new ArrayList<>(List.of("before")));
+        SaSession session = session(1L, permissions, List.of());
+        // The change message arrives while this load is copying the session lists
+        doAnswer(
+                invocation -> {
+                    cache.invalidate("1");
+                    return invocation.callRealMethod();
+                })
+                .doCallRealMethod()
+                .when(permissions)
+                .stream();
+
+        assertThat(cache.getPermissions(1L)).containsExactly("before");
+
+        session.set(USER_PERMISSION_KEY, List.of("after"));
+        assertThat(cache.getPermissions(1L)).containsExactly("after");
+    }
+
+    @Test
+    void get_withoutSession_returnsEmptyAndDoesNotCache() {
+        assertThat(cache.getPermissions(1L)).isEmpty();
+        assertThat(cache.getRoles(1L)).isEmpty();
+
+        session(1L, List.of("event:read"), List.of("organizer"));
+
+        assertThat(cache.getPermissions(1L)).containsExactly("event:read");
+        assertThat(cache.getRoles(1L)).containsExactly("organizer");
+    }
+
+    @Test
+    void encodeChange_withoutIds_invalidatesAll() {
+        assertThat(PermissionSnapshotCache.encodeChange(List.of()))
+                .isEqualTo(PermissionSnapshotCache.INVALIDATE_ALL);
+        assertThat(PermissionSnapshotCache.encodeChange(List.of(1L, 2L))).isEqualTo("1,2");
+    }
+
+    private static SaSession session(long loginId, List<String> permissions, List<String> roles) {
+        SaSession session = StpUtil.getSessionByLoginId(loginId);
+        session.set(USER_PERMISSION_KEY, permissions);
+        session.set(USER_ROLE_KEY, roles);
+        return session;
+    }
+}
@@ -0,0 +1,140 @@
+package nus.edu.u.framework.sentinel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+
+class SentinelUrlCleanerTest {
+
+    /** The regex chain the trie replaced, in its original order, used as the reference. */
+    private static final Map<Pattern, String> LEGACY_PATTERNS = new LinkedHashMap<>();
+
+    static {
+        legacy("^/attendees/list/\\d+$", "/attendees/list/*");
+        legacy("^/attendees/\\d+$", "/attendees/*");
+        legacy("^/attendees/bulk/\\d+$", "/attendees/bulk/*");
+        legacy("^/events/\\d+$", "/events/*");
+        legacy("^/events/\\d+/restore$", "/events/*/restore");
+        legacy("^/events/\\d+/assignable-groups$", "/events/*/assignable-groups");
+        legacy("^/events/groups/delete/\\d+$", "/events/groups/delete/*");
+        legacy("^/events/groups/\\d+/members/\\d+$", "/events/groups/*/members/*");
+        legacy("^/events/groups/\\d+/members$", "/events/groups/*/members");
+        legacy("^/events/groups/\\d+/members/batch$", "/events/groups/*/members/batch");
+        legacy("^/events/\\d+/members/\\d+$", "/events/*/members/*");
+        legacy("^/users/permissions/\\d+$", "/users/permissions/*");
+        legacy("^/users/roles/\\d+$", "/users/roles/*");
+        legacy("^/users/organizer/update/user/\\d+$", "/users/organizer/update/user/*");
+        legacy("^/users/organizer/delete/user/\\d+$", "/users/organizer/delete/user/*");
+        legacy("^/users/organizer/restore/user/\\d+$", "/users/organizer/restore/user/*");
+        legacy("^/users/organizer/disable/user/\\d+$", "/users/organizer/disable/user/*");
+        legacy("^/users/organizer/enable/user/\\d+$", "/users/organizer/enable/user/*");
+        legacy("^/tasks/\\d+$", "/tasks/*");
+        legacy("^/tasks/\\d+/\\d+$", "/tasks/*/*");
+        legacy("^/tasks/\\d+/log/\\d+$", "/tasks/*/log/*");
+    }
+
+    private final SentinelUrlCleaner cleaner = new SentinelUrlCleaner();
+
+    static Stream<String> templatesWithIds() {
+        List<String> urls = new ArrayList<>();
+        for (String template : LEGACY_PATTERNS.values()) {
+            for (String id : List.of("1", "42", "007", "9223372036854775807123")) {
+                urls.add(template.replace("*", id));
+            }
+        }
+        return urls.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("templatesWithIds")
+    void clean_numericIds_mapToTheirTemplate(String url) {
+        String expected = legacyClean(url);
+
+        assertThat(expected).isNotEqualTo(url);
+        assertThat(cleaner.clean(url)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        // Literal siblings of a numeric segment
+        "/events/groups/1/members/batch, /events/groups/*/members/batch",
+        "/events/groups/1/members/2, /events/groups/*/members/*",
+        "/events/groups/1/members, /events/groups/*/members",
+        "/attendees/list/5, /attendees/list/*",
+        "/attendees/bulk/5, /attendees/bulk/*",
+        "/attendees/5, /attendees/*",
+        "/tasks/3/log/4, /tasks/*/log/*",
+        "/tasks/3/4, /tasks/*/*",
+        // A numeric segment does not stand in for a literal one
+        "/events/groups/1/members/3/batch, /events/groups/1/members/3/batch",
+        "/tasks/3/5/4, /tasks/3/5/4",
+    })
+    void clean_literalAndNumericSiblings(String url, String expected) {
+        assertThat(cleaner.clean(url)).isEqualTo(expected).isEqualTo(legacyClean(url));
+    }
+
+    @ParameterizedTest
+    @MethodSource("urlsLeftUntouched")
+    void clean_unmatchedUrls_areReturnedAsIs(String url) {
+        assertThat(cleaner.clean(url)).isSameAs(url).isEqualTo(legacyClean(url));
+    }
+
+    static Stream<String> urlsLeftUntouched() {
+        return Stream.of(
+                // Trailing slashes and empty segments
+                "/events/1/",
+                "/tasks/1/log/2/",
+                "/events//restore",
+                "/events/1//restore",
+                "//events/1",
+                "/",
+                // Non-numeric ids
+                "/events/abc",
+                "/events/1a",
+                "/events/-1",
+                "/events/+1",
+                "/events/1.5",
+                "/events/ 1",
+                "/tasks/abc/log/1",
+                "/users/roles/١٢",
+                // Unmatched paths
+                "/events",
+                "/events/groups/list",
+                "/events/groups/delete",
+                "/users/organizer/update/user",
+                "/users/organizer/unknown/user/1",
+                "/tasks/1/log",
+                "/tasks/dashboard",
+                "/unknown/1",
+                "events/1",
+                "/events/1?x=1");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    void clean_nullOrEmpty_isReturnedAsIs(String url) {
+        assertThat(cleaner.clean(url)).isEqualTo(url);
+    }
+
+    private static void legacy(String regex, String template) {
+        LEGACY_PATTERNS.put(Pattern.compile(regex), template);
+    }
+
+    private static String legacyClean(String url) {
+        for (Map.Entry<Pattern, String> entry : LEGACY_PATTERNS.entrySet()) {
+            if (entry.getKey().matcher(url).matches()) {
+                return entry.getValue();
+            }
+        }
+        return url;
+    }
+}
@@ -5,7 +5,6 @@ import cn.dev33.satoken.context.model.SaRequest;
 import cn.dev33.satoken.reactor.filter.SaReactorFilter;
 import cn.dev33.satoken.router.SaHttpMethod;
 import cn.dev33.satoken.router.SaRouter;
-import cn.dev33.satoken.stp.StpUtil;
 import cn.dev33.satoken.util.SaResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,13 +24,20 @@ public class SaTokenConfigure {
     private final AuthConfig authConfig;
 
     @Bean
-    public SaReactorFilter getSaReactorFilter() {
+    public TokenValidationCache tokenValidationCache() {
+        return new TokenValidationCache(
+                authConfig.getTokenCacheTtl(), authConfig.getTokenCacheMaximumSize());
+    }
+
+    @Bean
+    public SaReactorFilter getSaReactorFilter(TokenValidationCache tokenValidationCache) {
         return new SaReactorFilter()
                 .addInclude("/**")
                 .addExclude(authConfig.getWhiteList().toArray(new String[0]))
                 .setAuth(
                         obj -> {
-                            SaRouter.notMatch(SaHttpMethod.OPTIONS).free(r -> StpUtil.checkLogin());
+                            SaRouter.notMatch(SaHttpMethod.OPTIONS)
+                                    .free(r -> tokenValidationCache.checkLogin());
                             // 校验权限 SaRouter.match("/api/test1", r ->
                             // StpUtil.checkPermission("api.test1"));
                             // TODO 拆分stater SaRouter.match("/actuator/**", r ->
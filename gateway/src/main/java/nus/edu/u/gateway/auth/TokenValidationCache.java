@@ -0,0 +1,62 @@
+package nus.edu.u.gateway.auth;
+
+import cn.dev33.satoken.stp.StpUtil;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived local record of tokens the gateway has already validated against Redis.
+ *
+ * <p>Without it every routed request costs a Redis lookup before it is forwarded. A token that
+ * passed {@link StpUtil#getLoginId()} is trusted for the configured TTL; services that log a token
+ * out, kick it out or replace it publish its value, and {@link #revoke(String)} drops it straight
+ * away. Every revocation bumps a version so that a validation already in flight cannot cache a
+ * token that was revoked meanwhile. A token that merely times out is accepted for at most one TTL
+ * longer, and the downstream services still check it themselves.
+ */
+public class TokenValidationCache {
+
+    private static final String TOKEN_SEPARATOR = ",";
+
+    private final Cache<String, Object> tokens;
+
+    private final AtomicLong version = new AtomicLong();
+
+    public TokenValidationCache(Duration ttl, long maximumSize) {
+        this.tokens =
+                CacheBuilder.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).build();
+    }
+
+    /** Same contract as {@link StpUtil#checkLogin()}, served locally for recently seen tokens. */
+    public void checkLogin() {
+        String token = StpUtil.getTokenValue();
+        if (token != null && tokens.getIfPresent(token) != null) {
+            return;
+        }
+        long before = version.get();
+        Object loginId = StpUtil.getLoginId();
+        if (token != null && version.get() == before) {
+            tokens.put(token, loginId);
+        }
+    }
+
+    /**
+     * Apply a revocation message.
+     *
+     * @param payload comma separated token values
+     */
+    public void revoke(String payload) {
+        version.incrementAndGet();
+        if (payload == null) {
+            return;
+        }
+        for (String token : payload.split(TOKEN_SEPARATOR)) {
+            String trimmed = token.trim();
+            if (!trimmed.isEmpty()) {
+                tokens.invalidate(trimmed);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package nus.edu.u.gateway.config;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Data;
@@ -16,4 +17,9 @@ import org.springframework.stereotype.Component;
 public class AuthConfig {
 
     private List<String> whiteList = new ArrayList<>();
+
+    /** How long a token validated against Redis is trusted without another lookup */
+    private Duration tokenCacheTtl = Duration.ofSeconds(30);
+
+    private long tokenCacheMaximumSize = 100_000;
 }
@@ -0,0 +1,38 @@
+package nus.edu.u.gateway.config;
+
+import static nus.edu.u.common.constant.CacheConstants.TOKEN_REVOKED_CHANNEL;
+
+import java.nio.charset.StandardCharsets;
+import nus.edu.u.gateway.auth.TokenValidationCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/** Feeds token revocations published by the services into the {@link TokenValidationCache}. */
+@Configuration
+public class TokenRevocationConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    public MessageListener tokenRevocationListener(
+            RedisMessageListenerContainer container, TokenValidationCache tokenValidationCache) {
+        MessageListener listener =
+                (message, pattern) ->
+                        tokenValidationCache.revoke(
+                                new String(message.getBody(), StandardCharsets.UTF_8));
+        container.addMessageListener(listener, new ChannelTopic(TOKEN_REVOKED_CHANNEL));
+        return listener;
+    }
+}
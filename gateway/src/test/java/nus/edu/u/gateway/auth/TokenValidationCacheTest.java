@@ -0,0 +1,57 @@
+package nus.edu.u.gateway.auth;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import cn.dev33.satoken.context.mock.SaTokenContextMockUtil;
+import cn.dev33.satoken.exception.NotLoginException;
+import cn.dev33.satoken.stp.StpUtil;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TokenValidationCacheTest {
+
+    private TokenValidationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TokenValidationCache(Duration.ofMinutes(1), 100);
+        SaTokenContextMockUtil.setMockContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SaTokenContextMockUtil.clearContext();
+    }
+
+    @Test
+    void checkLogin_withoutToken_throws() {
+        assertThrows(NotLoginException.class, cache::checkLogin);
+    }
+
+    @Test
+    void checkLogin_servesValidatedTokenLocally() {
+        StpUtil.login(1L);
+        String token = StpUtil.getTokenValue();
+        cache.checkLogin();
+
+        // Expired server-side without a revocation message: still trusted until the TTL
+        StpUtil.logoutByTokenValue(token);
+
+        assertDoesNotThrow(cache::checkLogin);
+    }
+
+    @Test
+    void checkLogin_afterRevoke_goesBackToRedis() {
+        StpUtil.login(2L);
+        String token = StpUtil.getTokenValue();
+        cache.checkLogin();
+        StpUtil.logoutByTokenValue(token);
+
+        cache.revoke(token);
+
+        assertThrows(NotLoginException.class, cache::checkLogin);
+    }
+}
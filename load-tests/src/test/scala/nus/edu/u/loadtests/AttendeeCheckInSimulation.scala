@@ -0,0 +1,110 @@
+package nus.edu.u.loadtests
+
+import com.alibaba.excel.EasyExcelFactory
+import io.gatling.core.Predef._
+import io.gatling.http.Predef._
+import nus.edu.u.loadtests.LoadTestSupport._
+
+import java.io.ByteArrayOutputStream
+import scala.concurrent.duration._
+import scala.jdk.CollectionConverters._
+
+/**
+ * Attendee bulk import followed by door-scan check-in of every imported attendee.
+ *
+ * Each virtual user uploads its own sheet to `/attendees/bulk/{eventId}`, which only returns counts,
+ * then picks the check-in tokens of its own rows from `/attendees/list/{eventId}` and walks them
+ * the way a door does: the QR preview first, then the staff check-in.
+ *
+ * Settings on top of [[LoadTestSupport]]:
+ * - `loadTest.attendee.imports`: sheets uploaded over the steady-state window (default 20)
+ * - `loadTest.attendee.rows`: attendees per sheet (default 50)
+ */
+class AttendeeCheckInSimulation extends Simulation {
+
+  private val XlsxContentType =
+    "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"
+
+  private val imports = intSetting("attendee.imports", 20)
+
+  private val rowsPerSheet = intSetting("attendee.rows", 50)
+
+  /** Sheet with the Email / Name / Mobile columns read by the import, unique per prefix. */
+  private def attendeeSheet(prefix: String): Array[Byte] = {
+    val head = Seq("Email", "Name", "Mobile").map(java.util.List.of(_)).asJava
+    val rows = (1 to rowsPerSheet).map { i =>
+      java.util.List.of(s"$prefix-$i@loadtest.example.com", s"Load Test $i", f"8$i%07d")
+    }.asJava
+    val out = new ByteArrayOutputStream()
+    EasyExcelFactory.write(out).head(head).sheet("attendees").doWrite(rows)
+    out.toByteArray
+  }
+
+  private val importAndCheckIn =
+    scenario("Bulk import and door scan")
+      .exec(login)
+      .exec { session =>
+        val prefix = s"lt-$runId-${session.userId}"
+        session.set("prefix", prefix).set("sheet", attendeeSheet(prefix))
+      }
+      .group("bulk-import") {
+        exec(
+          http("import-attendees")
+            .post(s"/attendees/bulk/$eventId")
+            .bodyPart(
+              ByteArrayBodyPart("file", "#{sheet}")
+                .fileName("attendees.xlsx")
+                .contentType(XlsxContentType))
+            .check(
+              status.is(200),
+              commonResultOk,
+              jsonPath("$.data.importedCount").ofType[Int].is(rowsPerSheet))
+        )
+      }
+      .exitHereIfFailed
+      .exec(_.remove("sheet"))
+      .exec(
+        http("list-attendees")
+          .get(s"/attendees/list/$eventId")
+          .check(
+            status.is(200),
+            commonResultOk,
+            jsonPath("$.data[*].attendeeEmail").findAll.saveAs("emails"),
+            jsonPath("$.data[*].checkInToken").findAll.saveAs("allTokens"))
+      )
+      .exitHereIfFailed
+      .exec { session =>
+        val prefix = session("prefix").as[String] + "-"
+        val tokens = session("emails").as[Seq[String]]
+          .zip(session("allTokens").as[Seq[String]])
+          .collect { case (email, token) if email.startsWith(prefix) => token }
+        session.removeAll("emails", "allTokens").set("tokens", tokens)
+      }
+      .foreach("#{tokens}", "token") {
+        group("door-scan") {
+          exec(
+            http("scan-preview")
+              .get("/attendees/scan")
+              .queryParam("token", "#{token}")
+              .check(status.is(200), commonResultOk)
+          ).exec(
+            http("staff-check-in")
+              .post("/attendees/staff-scan")
+              .body(StringBody("""{"token":"#{token}"}"""))
+              .asJson
+              .check(status.is(200), commonResultOk)
+          )
+        }.pause(100.millis, 500.millis)
+      }
+
+  setUp(
+    importAndCheckIn.inject(rampUsers(imports).during(steadyState))
+  ).protocols(gatewayProtocol)
+    .assertions(
+      details("bulk-import").responseTime.percentile(95).lte(5000),
+      details("bulk-import").successfulRequests.percent.gte(99),
+      details("door-scan").responseTime.percentile(95).lte(300),
+      details("door-scan").successfulRequests.percent.gte(99.5),
+      forAll.failedRequests.percent.lte(1)
+    )
+}
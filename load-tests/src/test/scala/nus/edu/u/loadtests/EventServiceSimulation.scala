@@ -0,0 +1,96 @@
+package nus.edu.u.loadtests
+
+import io.gatling.core.Predef._
+import io.gatling.http.Predef._
+import nus.edu.u.loadtests.LoadTestSupport._
+
+import java.util.concurrent.ConcurrentLinkedQueue
+import scala.concurrent.duration._
+
+/**
+ * Event listing and group membership changes through the gateway.
+ *
+ * Settings on top of [[LoadTestSupport]]:
+ * - `loadTest.event.users`: virtual users per second browsing events (default 20)
+ * - `loadTest.event.groupId`: group of `loadTest.eventId` that members are moved in and out of
+ * - `loadTest.event.memberUserIds`: comma separated, enabled users of the tenant that are not in
+ *   any group of the event. Each one is leased by a single virtual user at a time, so the number
+ *   of ids bounds the concurrency of the membership scenario.
+ */
+class EventServiceSimulation extends Simulation {
+
+  private val listingUsersPerSec = intSetting("event.users", 20)
+
+  private val groupId = setting("event.groupId", "1")
+
+  private val memberUserIds = idsSetting("event.memberUserIds")
+  require(memberUserIds.nonEmpty, "loadTest.event.memberUserIds must list at least one user id")
+
+  private val memberPool = new ConcurrentLinkedQueue[String]()
+  memberUserIds.foreach(memberPool.add)
+
+  private val eventListing =
+    scenario("Event listing")
+      .exec(login)
+      .repeat(5) {
+        group("event-listing") {
+          exec(
+            http("list-events")
+              .get("/events")
+              .check(status.is(200), commonResultOk)
+          ).exec(
+            http("list-groups")
+              .get("/events/groups/list")
+              .queryParam("eventId", eventId)
+              .check(status.is(200), commonResultOk)
+          )
+        }.pause(200.millis, 1.second)
+      }
+
+  private val groupMembership =
+    scenario("Group membership")
+      .exec { session =>
+        Option(memberPool.poll()) match {
+          case Some(userId) => session.set("memberId", userId)
+          case None         => session.markAsFailed
+        }
+      }
+      .exitHereIfFailed
+      .exec(login)
+      .during(steadyState) {
+        group("group-membership") {
+          exec(
+            http("add-member")
+              .post(s"/events/groups/$groupId/members/#{memberId}")
+              .check(status.is(200), commonResultOk)
+          ).exec(
+            http("list-members")
+              .get(s"/events/groups/$groupId/members")
+              .check(status.is(200), commonResultOk)
+          ).exec(
+            http("remove-member")
+              .delete(s"/events/$groupId/members/#{memberId}")
+              .check(status.is(200), commonResultOk)
+          )
+        }.pause(500.millis)
+      }
+      .exec { session =>
+        memberPool.add(session("memberId").as[String])
+        session
+      }
+
+  setUp(
+    eventListing.inject(
+      rampUsersPerSec(1).to(listingUsersPerSec).during(rampUp),
+      constantUsersPerSec(listingUsersPerSec).during(steadyState)
+    ),
+    groupMembership.inject(atOnceUsers(memberUserIds.size))
+  ).protocols(gatewayProtocol)
+    .assertions(
+      details("event-listing").responseTime.percentile(95).lte(300),
+      details("event-listing").successfulRequests.percent.gte(99.5),
+      details("group-membership").responseTime.percentile(95).lte(500),
+      details("group-membership").successfulRequests.percent.gte(99),
+      forAll.failedRequests.percent.lte(1)
+    )
+}
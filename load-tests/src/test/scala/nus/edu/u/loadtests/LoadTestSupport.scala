@@ -0,0 +1,76 @@
+package nus.edu.u.loadtests
+
+import io.gatling.core.Predef._
+import io.gatling.core.structure.ChainBuilder
+import io.gatling.http.Predef._
+
+import scala.concurrent.duration._
+
+/**
+ * Settings and steps shared by the load simulations.
+ *
+ * Every setting can be injected as a JVM system property `loadTest.<key>` or as the environment
+ * variable `LOAD_TEST_<KEY>`, e.g. `loadTest.gatewayUrl` / `LOAD_TEST_GATEWAY_URL`. The defaults
+ * match the ports of a local stack started next to docker-compose.yml.
+ */
+object LoadTestSupport {
+
+  private def propOrEnv(propKey: String, envKey: String): Option[String] =
+    sys.props.get(propKey).orElse(sys.env.get(envKey))
+
+  def setting(key: String, default: String): String =
+    propOrEnv(
+      s"loadTest.$key",
+      "LOAD_TEST_" + key.replaceAll("([a-z0-9])([A-Z])", "$1_$2").replace('.', '_').toUpperCase
+    ).getOrElse(default)
+
+  def intSetting(key: String, default: Int): Int = setting(key, default.toString).toInt
+
+  def idsSetting(key: String): Seq[String] =
+    setting(key, "").split(",").map(_.trim).filter(_.nonEmpty).toSeq
+
+  /** Gateway in front of user, event, task, attendee and file services. */
+  val gatewayUrl: String = setting("gatewayUrl", "http://localhost:8080")
+
+  /** notification-service; the gateway does not route its task endpoints. */
+  val notificationUrl: String = setting("notificationUrl", "http://localhost:8086")
+
+  val wsGatewayUrl: String = setting("wsGatewayUrl", "http://localhost:8087")
+
+  val loginPath: String = setting("loginPath", "/users/auth/login")
+
+  /** Organizer account of the tenant that owns the event under test. */
+  val username: String = setting("username", "lushuwen1")
+
+  val password: String = setting("password", "lushuwen1")
+
+  val eventId: String = setting("eventId", "1")
+
+  /** How long the steady part of each simulation lasts. */
+  val steadyState: FiniteDuration = intSetting("durationSeconds", 60).seconds
+
+  val rampUp: FiniteDuration = intSetting("rampSeconds", 15).seconds
+
+  /** Distinguishes the rows written by one run from those of earlier runs. */
+  val runId: String = System.currentTimeMillis().toString
+
+  val gatewayProtocol = http
+    .baseUrl(gatewayUrl)
+    .acceptHeader("application/json")
+
+  /** Business success of a `CommonResult` body; HTTP status alone is 200 for most errors. */
+  val commonResultOk = jsonPath("$.code").ofType[Int].is(0)
+
+  /** Log in and keep the Sa-Token cookie in the virtual user's cookie jar. */
+  val login: ChainBuilder =
+    exec(
+      http("login")
+        .post(loginPath)
+        .body(
+          StringBody(
+            s"""{"username":"$username","password":"$password","remember":false}"""
+          ))
+        .asJson
+        .check(status.is(200), commonResultOk)
+    ).exitHereIfFailed
+}
@@ -0,0 +1,66 @@
+package nus.edu.u.loadtests
+
+import io.gatling.core.Predef._
+import io.gatling.http.Predef._
+import nus.edu.u.loadtests.LoadTestSupport._
+
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Task assignment fan-out through notification-service `/api/v1/tasks/notify-all`, which sends
+ * the WebSocket, push and (when an address is given) email notifications of one assignment.
+ *
+ * The endpoint is called on notification-service directly since the gateway does not route it.
+ *
+ * Settings on top of [[LoadTestSupport]]:
+ * - `loadTest.notification.rate`: assignments per second (default 50)
+ * - `loadTest.notification.assigneeUserId`: user whose devices and WebSocket receive the fan-out
+ * - `loadTest.notification.assigneeEmail`: leave unset to skip the email channel, which keeps
+ *   SES out of local runs
+ */
+class NotificationFanoutSimulation extends Simulation {
+
+  private val rate = intSetting("notification.rate", 50)
+
+  private val assigneeUserId = setting("notification.assigneeUserId", "1")
+
+  private val assigneeEmail = setting("notification.assigneeEmail", "")
+
+  private val taskIds = new AtomicLong()
+
+  private val assignmentFeeder =
+    Iterator.continually(Map("taskId" -> s"lt-$runId-${taskIds.incrementAndGet()}"))
+
+  private val emailField = if (assigneeEmail.isEmpty) "null" else s""""$assigneeEmail""""
+
+  private val fanOut =
+    scenario("Notify all channels")
+      .feed(assignmentFeeder)
+      .group("notify-all") {
+        exec(
+          http("notify-all")
+            .post("/api/v1/tasks/notify-all")
+            .body(
+              StringBody(
+                s"""{"taskId":"#{taskId}","eventId":"$eventId","assigneeUserId":"$assigneeUserId","assigneeEmail":$emailField,"assignerName":"Load Test","taskName":"Task #{taskId}","eventName":"Load test event","description":"Generated by NotificationFanoutSimulation"}"""
+              ))
+            .asJson
+            .check(status.is(202), jsonPath("$.ws").exists)
+        )
+      }
+
+  setUp(
+    fanOut.inject(
+      rampUsersPerSec(1).to(rate).during(rampUp),
+      constantUsersPerSec(rate).during(steadyState)
+    )
+  ).protocols(
+      http
+        .baseUrl(notificationUrl)
+        .acceptHeader("application/json"))
+    .assertions(
+      details("notify-all").responseTime.percentile(95).lte(250),
+      details("notify-all").responseTime.percentile(99).lte(500),
+      details("notify-all").successfulRequests.percent.gte(99.5)
+    )
+}
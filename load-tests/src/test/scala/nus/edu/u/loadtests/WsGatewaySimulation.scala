@@ -0,0 +1,93 @@
+package nus.edu.u.loadtests
+
+import io.gatling.core.Predef._
+import io.gatling.http.Predef._
+import io.gatling.http.action.ws.WsInboundMessage
+import nus.edu.u.loadtests.LoadTestSupport._
+
+import scala.concurrent.duration._
+
+/**
+ * WebSocket connect-and-receive against wsgateway.
+ *
+ * Every virtual user opens `/ws` as its own user id and holds the socket open while
+ * `/ws/internal/push` sends it notifications, the way notification-service does. A push only
+ * counts when wsgateway reports it as delivered to a live socket and the frame then shows up on
+ * that socket before the following ping is answered.
+ *
+ * Settings on top of [[LoadTestSupport]]:
+ * - `loadTest.ws.connections`: sockets opened over the ramp-up (default 500)
+ * - `loadTest.ws.pushIntervalMillis`: pause between pushes to one socket (default 1000)
+ */
+class WsGatewaySimulation extends Simulation {
+
+  private val connections = intSetting("ws.connections", 500)
+
+  private val pushInterval = intSetting("ws.pushIntervalMillis", 1000).millis
+
+  private val wsBaseUrl = wsGatewayUrl.replaceFirst("^http", "ws")
+
+  private val connectAndReceive =
+    scenario("Connect and receive")
+      .exec { session =>
+        session.set("wsUserId", s"lt-$runId-${session.userId}").set("pushes", 0)
+      }
+      .group("ws-connect") {
+        exec(
+          ws("connect")
+            .connect("/ws?userId=#{wsUserId}")
+            .onConnected(
+              exec(
+                ws("first ping")
+                  .sendText("ping")
+                  .await(5.seconds)(ws.checkTextMessage("pong").check(bodyString.is("pong")))
+              ))
+        )
+      }
+      .exitHereIfFailed
+      .during(steadyState) {
+        group("ws-receive") {
+          exec(session => session.set("pushes", session("pushes").as[Int] + 1))
+            .exec(
+              http("push")
+                .post("/ws/internal/push")
+                .body(
+                  StringBody(
+                    """{"userId":"#{wsUserId}","eventId":"lt-#{wsUserId}-#{pushes}","type":"LOAD_TEST","title":"Load test","body":"push #{pushes}"}"""
+                  ))
+                .asJson
+                .check(status.is(202), jsonPath("$.status").is("DELIVERED"))
+            )
+            .exec(
+              ws("ping")
+                .sendText("ping")
+                .await(5.seconds)(ws.checkTextMessage("pong").check(bodyString.is("pong")))
+            )
+            .exec(ws.processUnmatchedMessages { (messages, session) =>
+              val expected = s""""eventId":"lt-${session("wsUserId").as[String]}-${session("pushes").as[Int]}""""
+              val received = messages.exists {
+                case WsInboundMessage.Text(_, text) => text.contains(expected)
+                case _                              => false
+              }
+              if (received) session else session.markAsFailed
+            })
+        }.pause(pushInterval)
+      }
+      .exec(ws("close").close)
+
+  setUp(
+    connectAndReceive.inject(rampUsers(connections).during(rampUp))
+  ).protocols(
+      http
+        .baseUrl(wsGatewayUrl)
+        .acceptHeader("application/json")
+        .wsBaseUrl(wsBaseUrl)
+        // Pushes arrive while no check is waiting; keep them for processUnmatchedMessages
+        .wsUnmatchedInboundMessageBufferSize(16))
+    .assertions(
+      details("ws-connect").responseTime.percentile(95).lte(500),
+      details("ws-connect").successfulRequests.percent.gte(99.5),
+      details("ws-receive").responseTime.percentile(95).lte(200),
+      details("ws-receive").successfulRequests.percent.gte(99.5)
+    )
+}
@@ -18,7 +18,9 @@ create table IF NOT EXISTS event
     update_time datetime             null,
     deleted     tinyint(1) default 0 not null comment '0 - Normal; 1- Deleted',
     tenant_id   bigint               null,
-    location    varchar(255)         null
+    location    varchar(255)         null,
+    index idx_event_status_start_time (status, start_time),
+    index idx_event_status_end_time (status, end_time)
 );
 
 create table IF NOT EXISTS event_participant
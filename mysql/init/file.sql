@@ -17,7 +17,8 @@ create table IF NOT EXISTS file
     updater     varchar(100)         null,
     update_time datetime             null,
     deleted     tinyint(1) default 0 not null comment '0 - Normal; 1- Deleted',
-    tenant_id   bigint               null
+    tenant_id   bigint               null,
+    index idx_file_task_log_id (task_log_id)
 );
 
 
@@ -18,7 +18,9 @@ create table IF NOT EXISTS task
     updater     varchar(100)         null,
     update_time datetime             null,
     deleted     tinyint(1) default 0 not null comment '0 - Normal; 1- Deleted',
-    tenant_id   bigint               null
+    tenant_id   bigint               null,
+    index idx_task_tenant_event_status (tenant_id, event_id, status, deleted),
+    index idx_task_tenant_user_event_status (tenant_id, user_id, event_id, status, deleted)
 );
 
 create table IF NOT EXISTS task_log
@@ -42,7 +44,8 @@ ASSIGN',
     updater        varchar(100)         null,
     update_time    datetime             null,
     deleted        tinyint(1) default 0 not null comment '0 - Normal; 1- Deleted',
-    tenant_id      bigint               null
+    tenant_id      bigint               null,
+    index idx_task_log_tenant_task (tenant_id, task_id, deleted)
 );
 
 
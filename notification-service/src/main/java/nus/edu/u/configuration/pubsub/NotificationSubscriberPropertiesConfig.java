@@ -0,0 +1,45 @@
+package nus.edu.u.configuration.pubsub;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import nus.edu.u.enums.common.NotificationChannel;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "notification.subscriber")
+public class NotificationSubscriberPropertiesConfig {
+    /** Pub/Sub subscription carrying notification requests */
+    private String subscription = "chronoflow-notification-sub";
+
+    /** Topic that receives messages which exhausted their attempts or cannot be parsed */
+    private String deadLetterTopic = "chronoflow-notification-dlq";
+
+    /** Deliveries before a failing message is dead-lettered */
+    private int maxAttempts = 5;
+
+    /** Delay before the first redelivery; doubled on each further attempt */
+    private Duration initialBackoff = Duration.ofSeconds(2);
+
+    /** Upper bound for the redelivery delay */
+    private Duration maxBackoff = Duration.ofMinutes(1);
+
+    /** Worker threads per channel, i.e. concurrent sends towards SES / FCM / the WS gateway */
+    private Map<NotificationChannel, Integer> channelConcurrency =
+            new EnumMap<>(
+                    Map.of(
+                            NotificationChannel.EMAIL, 4,
+                            NotificationChannel.PUSH, 8,
+                            NotificationChannel.WS, 16));
+
+    /** Queued messages per channel; beyond this messages are nacked back to Pub/Sub */
+    private int channelQueueCapacity = 100;
+
+    /** How long shutdown waits for the subscriber to settle the messages it already pulled */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
@@ -1,9 +1,14 @@
 package nus.edu.u.provider.push;
 
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -24,18 +29,62 @@ public class FcmPushClient implements PushClient {
         Message.Builder msg = Message.builder().setToken(token).setNotification(notification);
 
         // FCM "data" payload must be Map<String, String>
-        if (data != null && !data.isEmpty()) {
-            Map<String, String> stringData = new HashMap<>(data.size());
-            for (Map.Entry<String, Object> e : data.entrySet()) {
-                if (e.getKey() == null || e.getValue() == null) continue; // skip nulls
-                stringData.put(e.getKey(), String.valueOf(e.getValue()));
-            }
-            if (!stringData.isEmpty()) {
-                msg.putAllData(stringData);
-            }
+        Map<String, String> stringData = toStringData(data);
+        if (!stringData.isEmpty()) {
+            msg.putAllData(stringData);
         }
 
         // Send and return provider message ID
         return firebaseMessaging.send(msg.build());
     }
+
+    @Override
+    public List<SendResult> sendMulticast(
+            List<String> tokens, String title, String body, Map<String, Object> data)
+            throws Exception {
+        if (tokens.size() > MAX_MULTICAST_TOKENS) {
+            throw new IllegalArgumentException(
+                    "at most " + MAX_MULTICAST_TOKENS + " tokens per multicast");
+        }
+        Notification notification = Notification.builder().setTitle(title).setBody(body).build();
+        MulticastMessage.Builder msg =
+                MulticastMessage.builder().addAllTokens(tokens).setNotification(notification);
+        Map<String, String> stringData = toStringData(data);
+        if (!stringData.isEmpty()) {
+            msg.putAllData(stringData);
+        }
+
+        // Responses come back in the same order as the tokens
+        BatchResponse batch = firebaseMessaging.sendEachForMulticast(msg.build());
+        List<SendResponse> responses = batch.getResponses();
+        List<SendResult> results = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            SendResponse r = responses.get(i);
+            if (r.isSuccessful()) {
+                results.add(new SendResult(tokens.get(i), r.getMessageId(), null, null));
+            } else {
+                var ex = r.getException();
+                String code =
+                        ex != null && ex.getMessagingErrorCode() != null
+                                ? ex.getMessagingErrorCode().name()
+                                : null;
+                results.add(
+                        new SendResult(
+                                tokens.get(i), null, code, ex != null ? ex.getMessage() : null));
+            }
+        }
+        return results;
+    }
+
+    private static Map<String, String> toStringData(Map<String, Object> data) {
+        if (data == null || data.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> stringData = new HashMap<>(data.size());
+        for (Map.Entry<String, Object> e : data.entrySet()) {
+            if (e.getKey() == null || e.getValue() == null) continue; // skip nulls
+            stringData.put(e.getKey(), String.valueOf(e.getValue()));
+        }
+        return stringData;
+    }
 }
@@ -1,7 +1,27 @@
 package nus.edu.u.provider.push;
 
+import java.util.List;
 import java.util.Map;
 
 public interface PushClient {
+
+    /** Upper bound of tokens accepted by one {@link #sendMulticast} call (FCM limit) */
+    int MAX_MULTICAST_TOKENS = 500;
+
+    /** Per-token outcome of a multicast send; {@code messageId} is null on failure */
+    record SendResult(String token, String messageId, String errorCode, String errorMessage) {
+        public boolean isSuccess() {
+            return messageId != null;
+        }
+    }
+
     String send(String token, String title, String body, Map<String, Object> data) throws Exception;
+
+    /**
+     * Send the same notification to up to {@link #MAX_MULTICAST_TOKENS} tokens in one call. Results
+     * are returned in the order of {@code tokens}.
+     */
+    List<SendResult> sendMulticast(
+            List<String> tokens, String title, String body, Map<String, Object> data)
+            throws Exception;
 }
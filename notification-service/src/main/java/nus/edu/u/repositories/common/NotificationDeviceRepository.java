@@ -1,5 +1,6 @@
 package nus.edu.u.repositories.common;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import nus.edu.u.domain.dataObject.common.NotificationDeviceDO;
@@ -11,6 +12,8 @@ import org.springframework.stereotype.Repository;
 public interface NotificationDeviceRepository extends JpaRepository<NotificationDeviceDO, String> {
     Optional<NotificationDeviceDO> findByToken(String token);
 
+    List<NotificationDeviceDO> findByTokenIn(Collection<String> tokens);
+
     List<NotificationDeviceDO> findByUserIdAndStatus(String userId, DeviceStatus status);
 
     boolean existsByUserIdAndToken(String userId, String token);
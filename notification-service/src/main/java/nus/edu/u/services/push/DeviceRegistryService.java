@@ -1,5 +1,6 @@
 package nus.edu.u.services.push;
 
+import java.util.Collection;
 import java.util.List;
 import nus.edu.u.domain.dataObject.common.NotificationDeviceDO;
 import nus.edu.u.domain.dto.common.DeviceRegisterDTO;
@@ -10,6 +11,9 @@ public interface DeviceRegistryService {
 
     void revokeByToken(String token);
 
+    /** Revoke many tokens at once, e.g. the UNREGISTERED ones of a multicast send */
+    void revokeByTokens(Collection<String> tokens);
+
     /** Old: returns entities (no caching) */
     List<NotificationDeviceDO> activeDevices(String userId);
 
@@ -1,5 +1,6 @@
 package nus.edu.u.services.push;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -81,6 +82,26 @@ public class DeviceRegistryServiceImpl implements DeviceRegistryService {
                         });
     }
 
+    @Override
+    @Transactional
+    @CacheEvict(value = CACHE_NAME, allEntries = true, condition = "#tokens != null")
+    public void revokeByTokens(Collection<String> tokens) {
+        if (tokens == null || tokens.isEmpty()) return;
+        var trimmed =
+                tokens.stream()
+                        .filter(t -> t != null && !t.isBlank())
+                        .map(String::trim)
+                        .distinct()
+                        .toList();
+        if (trimmed.isEmpty()) return;
+        var devices =
+                repo.findByTokenIn(trimmed).stream()
+                        .filter(d -> d.getStatus() != DeviceStatus.REVOKED)
+                        .toList();
+        devices.forEach(d -> d.setStatus(DeviceStatus.REVOKED));
+        repo.saveAll(devices);
+    }
+
     /** Keep for internal use (no caching) */
     @Override
     @Transactional(readOnly = true)
@@ -1,8 +1,10 @@
 package nus.edu.u.services.push;
 
 import com.google.firebase.messaging.FirebaseMessagingException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,8 +36,12 @@ public class PushServiceImpl implements PushService {
     private final PushClient pushClient;
     private final DeviceRegistryService deviceRegistry;
 
+    /** Delivery rows reserved for one device before the multicast goes out */
+    private record PendingPush(
+            String deviceId, NotificationDeliveryDO delivery, PushMessageDO pushRow) {}
+
     // -----------------
-    // 1) Fan-out to all active devices of a user
+    // 1) Fan-out to all active devices of a user (FCM multicast, up to 500 tokens per call)
     // -----------------
     @Override
     public Map<String, String> sendToUser(String userId, PushRequestDTO base) {
@@ -46,22 +52,120 @@ public class PushServiceImpl implements PushService {
             log.info("Push skipped: no active devices for userId={}", userId);
             return results; // empty => caller can infer NO_DEVICES
         }
+        if (base.getEventId() == null || base.getEventId().isBlank())
+            throw new IllegalArgumentException("eventId is required");
+        if (base.getType() == null)
+            throw new IllegalArgumentException("type (NotificationEventType) is required");
+
+        // 1) Take one rate unit per device up front: aborting after some rows are reserved would
+        // strand them, and a redelivery would then report them ALREADY_ACCEPTED without sending
+        for (int i = 0; i < devices.size(); i++) {
+            if (!rateLimiter.allow(
+                    props.getRateKey(), props.getRateLimit(), props.getRateWindow())) {
+                throw new RateLimitExceededException("Rate limit exceeded for push");
+            }
+        }
 
+        // 2) Reserve one delivery per device; the unique key makes re-sends idempotent
+        List<PendingPush> pending = new ArrayList<>(devices.size());
         for (var d : devices) {
-            var dto =
-                    PushRequestDTO.builder()
-                            .eventId(base.getEventId())
-                            // per-device idempotency:
-                            .recipientKey("push:token:" + d.getToken())
-                            .token(d.getToken())
-                            .title(base.getTitle())
-                            .body(base.getBody())
-                            .data(base.getData())
-                            .type(base.getType())
-                            .build();
-
-            String status = this.send(dto);
-            results.put(d.getId(), status);
+            // per-device idempotency:
+            String recipientKey = "push:token:" + d.getToken();
+            try {
+                NotificationDeliveryDO delivery =
+                        deliveryRepo.saveAndFlush(
+                                NotificationDeliveryDO.builder()
+                                        .eventId(base.getEventId())
+                                        .recipientKey(recipientKey)
+                                        .channel(NotificationChannel.PUSH)
+                                        .type(base.getType())
+                                        .status(NotificationStatus.CREATED)
+                                        .build());
+                PushMessageDO pushRow =
+                        pushRepo.save(
+                                PushMessageDO.builder()
+                                        .delivery(delivery)
+                                        .token(d.getToken())
+                                        .status(PushStatus.PENDING)
+                                        .build());
+                pending.add(new PendingPush(d.getId(), delivery, pushRow));
+            } catch (DataIntegrityViolationException dup) {
+                log.info(
+                        "Duplicate push suppressed (idempotent): eventId={}, recipientKey={}",
+                        base.getEventId(),
+                        recipientKey);
+                results.put(d.getId(), "ALREADY_ACCEPTED");
+            }
+        }
+
+        // 3) Multicast in provider-sized batches and map per-token results
+        Map<String, Object> data = base.getData() == null ? Collections.emptyMap() : base.getData();
+        List<String> unregistered = new ArrayList<>();
+        for (int from = 0; from < pending.size(); from += PushClient.MAX_MULTICAST_TOKENS) {
+            List<PendingPush> batch =
+                    pending.subList(
+                            from, Math.min(from + PushClient.MAX_MULTICAST_TOKENS, pending.size()));
+            List<String> tokens = batch.stream().map(p -> p.pushRow().getToken()).toList();
+
+            List<PushClient.SendResult> sent;
+            try {
+                sent = pushClient.sendMulticast(tokens, base.getTitle(), base.getBody(), data);
+            } catch (Exception ex) {
+                log.warn(
+                        "Push multicast FAILED: eventId={}, userId={}, tokens={}, err={}",
+                        base.getEventId(),
+                        userId,
+                        tokens.size(),
+                        ex.getMessage(),
+                        ex);
+                sent =
+                        tokens.stream()
+                                .map(t -> new PushClient.SendResult(t, null, null, ex.getMessage()))
+                                .toList();
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                PendingPush p = batch.get(i);
+                PushClient.SendResult r = sent.get(i);
+                if (r.isSuccess()) {
+                    p.pushRow().markSent(r.messageId());
+                    p.delivery().setStatus(NotificationStatus.DELIVERED);
+                    results.put(p.deviceId(), "ACCEPTED");
+                } else {
+                    log.warn(
+                            "FCM error: code={}, message={}, token={}",
+                            r.errorCode(),
+                            r.errorMessage(),
+                            r.token());
+                    p.pushRow().markFailed(r.errorMessage());
+                    p.delivery().setStatus(NotificationStatus.FAILED);
+                    results.put(p.deviceId(), "FAILED");
+                    if ("UNREGISTERED".equals(r.errorCode())) {
+                        unregistered.add(r.token());
+                    }
+                }
+            }
+
+            // best-effort state marking, one round trip per table
+            try {
+                pushRepo.saveAll(batch.stream().map(PendingPush::pushRow).toList());
+                deliveryRepo.saveAll(batch.stream().map(PendingPush::delivery).toList());
+            } catch (Exception ex) {
+                log.warn(
+                        "Push state update failed: eventId={}, err={}",
+                        base.getEventId(),
+                        ex.getMessage());
+            }
+        }
+
+        // If tokens are invalid/expired, revoke them together so we won't reuse them
+        if (!unregistered.isEmpty()) {
+            try {
+                deviceRegistry.revokeByTokens(unregistered);
+                log.info("Revoked {} tokens due to UNREGISTERED", unregistered.size());
+            } catch (Exception ex) {
+                log.warn("Token revocation failed: {}", ex.getMessage());
+            }
         }
         return results;
     }
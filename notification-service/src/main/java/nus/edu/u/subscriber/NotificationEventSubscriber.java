@@ -1,73 +1,315 @@
 package nus.edu.u.subscriber;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.cloud.pubsub.v1.Subscriber;
 import com.google.cloud.spring.pubsub.core.PubSubTemplate;
+import com.google.cloud.spring.pubsub.support.BasicAcknowledgeablePubsubMessage;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.Timestamp;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.EnumMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import nus.edu.u.configuration.pubsub.NotificationSubscriberPropertiesConfig;
 import nus.edu.u.domain.dto.common.NotificationRequestDTO;
+import nus.edu.u.enums.common.NotificationChannel;
 import nus.edu.u.services.common.NotificationService;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+/**
+ * Consumes notification requests from Pub/Sub.
+ *
+ * <p>Each channel has its own bounded worker pool, so a slow SES call cannot starve push or WS
+ * delivery. Failed sends are nacked after an exponential backoff and dead-lettered once they used
+ * up {@code maxAttempts}; unparsable messages are dead-lettered right away. How many messages are
+ * outstanding at once is bounded by the subscription's flow control settings.
+ *
+ * <p>{@value #CONSUME_METRIC} times each message from receipt until it is acked, nacked or
+ * dead-lettered; {@value #DELIVERY_LAG_METRIC} is the time it spent in Pub/Sub before arriving.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationEventSubscriber {
 
-    private static final String SUBSCRIPTION = "chronoflow-notification-sub";
+    static final String CONSUME_METRIC = "chronoflow.pubsub.consume";
+
+    static final String DELIVERY_LAG_METRIC = "chronoflow.pubsub.delivery.lag";
+
+    static final String OUTCOME_ACKED = "acked";
+
+    static final String OUTCOME_RETRY = "retry";
+
+    static final String OUTCOME_DEAD_LETTER = "dead_letter";
+
+    static final String OUTCOME_REJECTED = "rejected";
 
     private final PubSubTemplate pubSubTemplate;
     private final ObjectMapper objectMapper;
 
     private final NotificationService notificationService;
+    private final NotificationSubscriberPropertiesConfig properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<NotificationChannel, ThreadPoolExecutor> workers =
+            new EnumMap<>(NotificationChannel.class);
+
+    /** Delays nacks so redeliveries back off instead of hammering a failing provider */
+    private ScheduledExecutorService retryScheduler;
+
+    private Subscriber subscriber;
+
+    /**
+     * Attempt counts for subscriptions without a dead-letter policy, where Pub/Sub does not report
+     * delivery attempts itself.
+     */
+    private final Cache<String, AtomicInteger> localAttempts =
+            CacheBuilder.newBuilder()
+                    .maximumSize(10_000)
+                    .expireAfterAccess(Duration.ofHours(1))
+                    .build();
 
     @PostConstruct
     public void startSubscriber() {
-        log.info("[PUBSUB] Subscribing to '{}'", SUBSCRIPTION);
-
-        pubSubTemplate.subscribe(
-                SUBSCRIPTION,
-                message -> {
-                    String data = null;
-                    try {
-                        data = message.getPubsubMessage().getData().toStringUtf8();
-                        log.debug("[PUBSUB] Received raw message: {}", data);
-
-                        // Parse JSON into DTO
-                        NotificationRequestDTO req =
-                                objectMapper.readValue(data, NotificationRequestDTO.class);
-
-                        // Validate required fields
-                        if (req.getChannel() == null
-                                || req.getEventId() == null
-                                || req.getType() == null) {
-                            log.warn("[PUBSUB] Invalid message, missing required fields: {}", data);
-                            message.ack(); // prevent requeue
-                            return;
-                        }
-
-                        // Apply sane defaults
-                        if (req.getLocale() == null) req = req.withLocale(Locale.ENGLISH);
-                        if (req.getVariables() == null) req = req.withVariables(Map.of());
-
-                        // Call NotificationService (email/push/ws etc.)
-                        String result = notificationService.send(req);
-                        log.info(
-                                "[PUBSUB] Processed notification. eventId={} channel={} result={}",
-                                req.getEventId(),
-                                req.getChannel(),
-                                result);
-
-                        message.ack();
-
-                    } catch (Exception e) {
-                        log.error("[PUBSUB] Error processing message", e);
-
-                        // Always ack to avoid infinite retry loops
-                        message.ack();
-                    }
-                });
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            int threads = Math.max(1, properties.getChannelConcurrency().getOrDefault(channel, 1));
+            ThreadPoolExecutor executor =
+                    new ThreadPoolExecutor(
+                            threads,
+                            threads,
+                            60,
+                            TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(properties.getChannelQueueCapacity()),
+                            new CustomizableThreadFactory(
+                                    "notify-" + channel.name().toLowerCase(Locale.ROOT) + "-"),
+                            new ThreadPoolExecutor.AbortPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            workers.put(channel, executor);
+        }
+        retryScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        new CustomizableThreadFactory("notify-retry-"));
+
+        log.info(
+                "[PUBSUB] Subscribing to '{}' with channel concurrency {}",
+                properties.getSubscription(),
+                properties.getChannelConcurrency());
+        subscriber = pubSubTemplate.subscribe(properties.getSubscription(), this::handle);
+    }
+
+    /**
+     * Stop pulling first and let the messages already received be acked or nacked while the worker
+     * pools still accept them; only then shut the pools down.
+     */
+    @PreDestroy
+    public void stopSubscriber() {
+        if (subscriber != null) {
+            try {
+                subscriber
+                        .stopAsync()
+                        .awaitTerminated(
+                                properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | IllegalStateException e) {
+                // Unsettled messages are redelivered once their lease expires
+                log.warn(
+                        "[PUBSUB] Subscriber did not stop cleanly within {}: {}",
+                        properties.getShutdownTimeout(),
+                        e.toString());
+            }
+        }
+        workers.values().forEach(ThreadPoolExecutor::shutdown);
+        if (retryScheduler != null) {
+            // Pending delayed nacks are dropped; Pub/Sub redelivers once their lease expires
+            retryScheduler.shutdownNow();
+        }
+    }
+
+    /** Subscriber callback: parse, validate and hand the message to its channel's worker pool. */
+    void handle(BasicAcknowledgeablePubsubMessage message) {
+        long receivedAt = System.nanoTime();
+        String data = message.getPubsubMessage().getData().toStringUtf8();
+        log.debug("[PUBSUB] Received raw message: {}", data);
+
+        NotificationRequestDTO req;
+        try {
+            req = objectMapper.readValue(data, NotificationRequestDTO.class);
+        } catch (Exception e) {
+            log.warn("[PUBSUB] Unparsable message: {}", data, e);
+            deadLetter(message, "unparsable: " + e.getMessage());
+            recordConsume(receivedAt, null, OUTCOME_DEAD_LETTER);
+            return;
+        }
+
+        // Validate required fields
+        if (req.getChannel() == null || req.getEventId() == null || req.getType() == null) {
+            log.warn("[PUBSUB] Invalid message, missing required fields: {}", data);
+            deadLetter(message, "missing required fields");
+            recordConsume(receivedAt, req.getChannel(), OUTCOME_DEAD_LETTER);
+            return;
+        }
+        recordDeliveryLag(message, req.getChannel());
+
+        // Apply sane defaults
+        if (req.getLocale() == null) req = req.withLocale(Locale.ENGLISH);
+        if (req.getVariables() == null) req = req.withVariables(Map.of());
+
+        NotificationRequestDTO request = req;
+        try {
+            workers.get(request.getChannel()).execute(() -> process(message, request, receivedAt));
+        } catch (RejectedExecutionException e) {
+            // Channel saturated: give the message back and let Pub/Sub redeliver it later
+            log.warn(
+                    "[PUBSUB] {} workers saturated, nacking eventId={}",
+                    request.getChannel(),
+                    request.getEventId());
+            message.nack();
+            recordConsume(receivedAt, request.getChannel(), OUTCOME_REJECTED);
+        }
+    }
+
+    private void process(
+            BasicAcknowledgeablePubsubMessage message,
+            NotificationRequestDTO req,
+            long receivedAt) {
+        try {
+            // Call NotificationService (email/push/ws etc.)
+            String result = notificationService.send(req);
+            log.info(
+                    "[PUBSUB] Processed notification. eventId={} channel={} result={}",
+                    req.getEventId(),
+                    req.getChannel(),
+                    result);
+            localAttempts.invalidate(messageId(message));
+            recordConsume(receivedAt, req.getChannel(), OUTCOME_ACKED);
+            message.ack();
+        } catch (Exception e) {
+            recordConsume(receivedAt, req.getChannel(), retryOrDeadLetter(message, req, e));
+        }
+    }
+
+    /**
+     * @return the consume outcome, {@link #OUTCOME_RETRY} or {@link #OUTCOME_DEAD_LETTER}
+     */
+    private String retryOrDeadLetter(
+            BasicAcknowledgeablePubsubMessage message, NotificationRequestDTO req, Exception e) {
+        int attempt = deliveryAttempt(message);
+        if (attempt >= properties.getMaxAttempts()) {
+            log.error(
+                    "[PUBSUB] Giving up on eventId={} channel={} after {} attempts",
+                    req.getEventId(),
+                    req.getChannel(),
+                    attempt,
+                    e);
+            deadLetter(message, e.getClass().getSimpleName() + ": " + e.getMessage());
+            return OUTCOME_DEAD_LETTER;
+        }
+        Duration delay = backoff(attempt);
+        log.warn(
+                "[PUBSUB] Send failed for eventId={} channel={} (attempt {}/{}), retry in {}: {}",
+                req.getEventId(),
+                req.getChannel(),
+                attempt,
+                properties.getMaxAttempts(),
+                delay,
+                e.toString());
+        try {
+            retryScheduler.schedule(message::nack, delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException shuttingDown) {
+            message.nack();
+        }
+        return OUTCOME_RETRY;
+    }
+
+    /** 1-based delivery attempt of {@code message}. */
+    int deliveryAttempt(BasicAcknowledgeablePubsubMessage message) {
+        // Only populated when the subscription has a dead-letter policy
+        Integer reported = Subscriber.getDeliveryAttempt(message.getPubsubMessage());
+        if (reported != null && reported > 0) {
+            return reported;
+        }
+        try {
+            return localAttempts.get(messageId(message), AtomicInteger::new).incrementAndGet();
+        } catch (ExecutionException e) {
+            return 1;
+        }
+    }
+
+    Duration backoff(int attempt) {
+        long factor = 1L << Math.min(Math.max(attempt - 1, 0), 20);
+        Duration delay = properties.getInitialBackoff().multipliedBy(factor);
+        return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+    }
+
+    /** Park the message on the dead-letter topic; ack only once the copy is safely published. */
+    private void deadLetter(BasicAcknowledgeablePubsubMessage message, String reason) {
+        Map<String, String> attributes =
+                Map.of(
+                        "originalMessageId", messageId(message),
+                        "subscription", properties.getSubscription(),
+                        "reason", reason == null ? "" : reason);
+        pubSubTemplate
+                .publish(
+                        properties.getDeadLetterTopic(),
+                        message.getPubsubMessage().getData().toStringUtf8(),
+                        attributes)
+                .whenComplete(
+                        (id, ex) -> {
+                            if (ex != null) {
+                                log.error(
+                                        "[PUBSUB] Dead-lettering {} failed, nacking",
+                                        messageId(message),
+                                        ex);
+                                message.nack();
+                                return;
+                            }
+                            localAttempts.invalidate(messageId(message));
+                            message.ack();
+                        });
+    }
+
+    private void recordConsume(long receivedAt, NotificationChannel channel, String outcome) {
+        Timer.builder(CONSUME_METRIC)
+                .tag("channel", channel == null ? "unknown" : channel.name())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - receivedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordDeliveryLag(
+            BasicAcknowledgeablePubsubMessage message, NotificationChannel channel) {
+        if (!message.getPubsubMessage().hasPublishTime()) {
+            return;
+        }
+        Timestamp published = message.getPubsubMessage().getPublishTime();
+        long publishedMillis = published.getSeconds() * 1000 + published.getNanos() / 1_000_000;
+        Timer.builder(DELIVERY_LAG_METRIC)
+                .tag("channel", channel.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(
+                        Math.max(System.currentTimeMillis() - publishedMillis, 0),
+                        TimeUnit.MILLISECONDS);
+    }
+
+    private static String messageId(BasicAcknowledgeablePubsubMessage message) {
+        return message.getPubsubMessage().getMessageId();
     }
 }
@@ -213,4 +213,20 @@ class DeviceRegistryServiceImplTest {
         assertThat(activeDevices).allMatch(device -> device.getStatus() == DeviceStatus.REVOKED);
         verify(repository).saveAll(activeDevices);
     }
+
+    @Test
+    void revokeByTokens_revokesActiveDevicesInOneSave() {
+        NotificationDeviceDO active =
+                NotificationDeviceDO.builder().token("tok-1").status(DeviceStatus.ACTIVE).build();
+        NotificationDeviceDO revoked =
+                NotificationDeviceDO.builder().token("tok-2").status(DeviceStatus.REVOKED).build();
+        when(repository.findByTokenIn(List.of("tok-1", "tok-2")))
+                .thenReturn(List.of(active, revoked));
+
+        service.revokeByTokens(List.of(" tok-1 ", "tok-2", "tok-1", " "));
+
+        assertThat(active.getStatus()).isEqualTo(DeviceStatus.REVOKED);
+        verify(repository).saveAll(List.of(active));
+        verify(repository, never()).findByToken(any());
+    }
 }
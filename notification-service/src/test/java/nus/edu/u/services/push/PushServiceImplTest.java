@@ -0,0 +1,185 @@
+package nus.edu.u.services.push;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import nus.edu.u.configuration.push.PushLimitPropertiesConfig;
+import nus.edu.u.domain.dataObject.common.NotificationDeliveryDO;
+import nus.edu.u.domain.dataObject.common.NotificationDeviceDO;
+import nus.edu.u.domain.dataObject.push.PushMessageDO;
+import nus.edu.u.domain.dto.push.PushRequestDTO;
+import nus.edu.u.enums.common.NotificationEventType;
+import nus.edu.u.enums.common.NotificationStatus;
+import nus.edu.u.enums.push.PushStatus;
+import nus.edu.u.exception.RateLimitExceededException;
+import nus.edu.u.provider.push.PushClient;
+import nus.edu.u.repositories.common.NotificationDeliveryRepository;
+import nus.edu.u.repositories.push.PushMessageRepository;
+import nus.edu.u.services.rateLimiter.RateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PushServiceImplTest {
+
+    @Mock private NotificationDeliveryRepository deliveryRepo;
+    @Mock private PushMessageRepository pushRepo;
+    @Mock private RateLimiter rateLimiter;
+    @Spy private PushLimitPropertiesConfig props = new PushLimitPropertiesConfig();
+    @Mock private PushClient pushClient;
+    @Mock private DeviceRegistryService deviceRegistry;
+
+    @InjectMocks private PushServiceImpl service;
+
+    private final PushRequestDTO base =
+            PushRequestDTO.builder()
+                    .eventId("evt-1")
+                    .title("title")
+                    .body("body")
+                    .type(NotificationEventType.MEMBER_INVITE)
+                    .build();
+
+    @BeforeEach
+    void setUp() {
+        when(rateLimiter.allow(anyString(), anyInt(), any())).thenReturn(true);
+        when(deliveryRepo.saveAndFlush(any(NotificationDeliveryDO.class)))
+                .thenAnswer(inv -> inv.getArgument(0));
+        when(pushRepo.save(any(PushMessageDO.class))).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    void sendToUser_mapsPerTokenResultsAndRevokesUnregisteredInBulk() throws Exception {
+        when(deviceRegistry.activeDevices("user-1"))
+                .thenReturn(List.of(device("d1", "tok-1"), device("d2", "tok-2")));
+        when(pushClient.sendMulticast(anyList(), anyString(), anyString(), any()))
+                .thenReturn(
+                        List.of(
+                                new PushClient.SendResult("tok-1", "fcm-1", null, null),
+                                new PushClient.SendResult("tok-2", null, "UNREGISTERED", "gone")));
+
+        Map<String, String> results = service.sendToUser("user-1", base);
+
+        assertThat(results).containsEntry("d1", "ACCEPTED").containsEntry("d2", "FAILED");
+        verify(pushClient, times(1)).sendMulticast(anyList(), anyString(), anyString(), any());
+        verify(deviceRegistry).revokeByTokens(List.of("tok-2"));
+        verify(deviceRegistry, never()).revokeByToken(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PushMessageDO>> rows = ArgumentCaptor.forClass(List.class);
+        verify(pushRepo).saveAll(rows.capture());
+        assertThat(rows.getValue())
+                .extracting(PushMessageDO::getStatus)
+                .containsExactly(PushStatus.SENT, PushStatus.FAILED);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationDeliveryDO>> deliveries =
+                ArgumentCaptor.forClass(List.class);
+        verify(deliveryRepo).saveAll(deliveries.capture());
+        assertThat(deliveries.getValue())
+                .extracting(NotificationDeliveryDO::getStatus)
+                .containsExactly(NotificationStatus.DELIVERED, NotificationStatus.FAILED);
+    }
+
+    @Test
+    void sendToUser_splitsIntoBatchesOfFiveHundredTokens() throws Exception {
+        List<NotificationDeviceDO> devices = new ArrayList<>();
+        IntStream.range(0, 501).forEach(i -> devices.add(device("d" + i, "tok-" + i)));
+        when(deviceRegistry.activeDevices("user-1")).thenReturn(devices);
+        when(pushClient.sendMulticast(anyList(), anyString(), anyString(), any()))
+                .thenAnswer(
+                        inv -> {
+                            List<String> tokens = inv.getArgument(0);
+                            return tokens.stream()
+                                    .map(t -> new PushClient.SendResult(t, "id-" + t, null, null))
+                                    .toList();
+                        });
+
+        Map<String, String> results = service.sendToUser("user-1", base);
+
+        assertThat(results)
+                .hasSize(501)
+                .allSatisfy((id, status) -> assertThat(status).isEqualTo("ACCEPTED"));
+        verify(pushClient, times(2)).sendMulticast(anyList(), anyString(), anyString(), any());
+        verify(deviceRegistry, never()).revokeByTokens(any());
+    }
+
+    @Test
+    void sendToUser_skipsDuplicateDeliveries() throws Exception {
+        when(deviceRegistry.activeDevices("user-1")).thenReturn(List.of(device("d1", "tok-1")));
+        when(deliveryRepo.saveAndFlush(any(NotificationDeliveryDO.class)))
+                .thenThrow(new DataIntegrityViolationException("dup"));
+
+        Map<String, String> results = service.sendToUser("user-1", base);
+
+        assertThat(results).containsExactly(Map.entry("d1", "ALREADY_ACCEPTED"));
+        verify(pushClient, never()).sendMulticast(anyList(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void sendToUser_rateLimitOnLaterDevice_reservesNothingSoRetryDelivers() throws Exception {
+        when(deviceRegistry.activeDevices("user-1"))
+                .thenReturn(List.of(device("d1", "tok-1"), device("d2", "tok-2")));
+        // Second unit of the first attempt is refused, the redelivery gets both
+        when(rateLimiter.allow(anyString(), anyInt(), any())).thenReturn(true, false, true, true);
+        // Behave like the unique key on (eventId, channel, recipientKey)
+        Set<String> reserved = new HashSet<>();
+        when(deliveryRepo.saveAndFlush(any(NotificationDeliveryDO.class)))
+                .thenAnswer(
+                        inv -> {
+                            NotificationDeliveryDO delivery = inv.getArgument(0);
+                            if (!reserved.add(delivery.getRecipientKey())) {
+                                throw new DataIntegrityViolationException("dup");
+                            }
+                            return delivery;
+                        });
+        when(pushClient.sendMulticast(anyList(), anyString(), anyString(), any()))
+                .thenAnswer(
+                        inv -> {
+                            List<String> tokens = inv.getArgument(0);
+                            return tokens.stream()
+                                    .map(t -> new PushClient.SendResult(t, "id-" + t, null, null))
+                                    .toList();
+                        });
+
+        assertThatThrownBy(() -> service.sendToUser("user-1", base))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(reserved).isEmpty();
+        verify(pushClient, never()).sendMulticast(anyList(), anyString(), anyString(), any());
+
+        Map<String, String> results = service.sendToUser("user-1", base);
+
+        assertThat(results).containsEntry("d1", "ACCEPTED").containsEntry("d2", "ACCEPTED");
+        verify(pushClient)
+                .sendMulticast(eq(List.of("tok-1", "tok-2")), anyString(), anyString(), any());
+    }
+
+    private static NotificationDeviceDO device(String id, String token) {
+        NotificationDeviceDO device = NotificationDeviceDO.builder().token(token).build();
+        device.setId(id);
+        return device;
+    }
+}
@@ -0,0 +1,189 @@
+package nus.edu.u.subscriber;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.cloud.pubsub.v1.Subscriber;
+import com.google.cloud.spring.pubsub.core.PubSubTemplate;
+import com.google.cloud.spring.pubsub.support.BasicAcknowledgeablePubsubMessage;
+import com.google.protobuf.ByteString;
+import com.google.pubsub.v1.PubsubMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import nus.edu.u.configuration.pubsub.NotificationSubscriberPropertiesConfig;
+import nus.edu.u.services.common.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NotificationEventSubscriberTest {
+
+    private static final String VALID_JSON =
+            "{\"channel\":\"EMAIL\",\"eventId\":\"evt-1\",\"type\":\"MEMBER_INVITE\"}";
+
+    @Mock private PubSubTemplate pubSubTemplate;
+    @Mock private NotificationService notificationService;
+    @Mock private BasicAcknowledgeablePubsubMessage message;
+
+    private NotificationSubscriberPropertiesConfig properties;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationEventSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NotificationSubscriberPropertiesConfig();
+        properties.setInitialBackoff(Duration.ofMillis(10));
+        properties.setMaxBackoff(Duration.ofMillis(40));
+        properties.setMaxAttempts(3);
+        meterRegistry = new SimpleMeterRegistry();
+        subscriber =
+                new NotificationEventSubscriber(
+                        pubSubTemplate,
+                        new ObjectMapper(),
+                        notificationService,
+                        properties,
+                        meterRegistry);
+        subscriber.startSubscriber();
+        when(pubSubTemplate.publish(anyString(), anyString(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture("dlq-id"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriber.stopSubscriber();
+    }
+
+    @Test
+    void successfulSendIsAcked() {
+        givenMessage(VALID_JSON, null);
+        when(notificationService.send(any())).thenReturn("ok");
+
+        subscriber.handle(message);
+
+        verify(message, timeout(1000)).ack();
+        verify(message, never()).nack();
+        assertThat(consumeCount(NotificationEventSubscriber.OUTCOME_ACKED)).isEqualTo(1);
+    }
+
+    @Test
+    void shutdownStopsPullingBeforeWorkersStop() throws Exception {
+        Subscriber pull = mock(Subscriber.class);
+        when(pubSubTemplate.subscribe(anyString(), any())).thenReturn(pull);
+        when(pull.stopAsync()).thenReturn(pull);
+        NotificationEventSubscriber stopping =
+                new NotificationEventSubscriber(
+                        pubSubTemplate,
+                        new ObjectMapper(),
+                        notificationService,
+                        properties,
+                        meterRegistry);
+        stopping.startSubscriber();
+        givenMessage(VALID_JSON, null);
+        when(notificationService.send(any())).thenReturn("ok");
+        // A message handed over while the subscriber drains must still be processed
+        doAnswer(
+                        inv -> {
+                            stopping.handle(message);
+                            verify(message, timeout(1000)).ack();
+                            return null;
+                        })
+                .when(pull)
+                .awaitTerminated(anyLong(), any());
+
+        stopping.stopSubscriber();
+
+        verify(pull).awaitTerminated(anyLong(), any());
+        verify(message, never()).nack();
+        assertThat(consumeCount(NotificationEventSubscriber.OUTCOME_ACKED)).isEqualTo(1);
+    }
+
+    @Test
+    void invalidMessageIsDeadLetteredWithoutSending() {
+        givenMessage("{\"eventId\":\"evt-1\"}", null);
+
+        subscriber.handle(message);
+
+        verify(pubSubTemplate).publish(eq("chronoflow-notification-dlq"), anyString(), anyMap());
+        verify(message).ack();
+        verify(notificationService, never()).send(any());
+    }
+
+    @Test
+    void failedSendIsNackedForRedelivery() {
+        givenMessage(VALID_JSON, null);
+        when(notificationService.send(any())).thenThrow(new IllegalStateException("ses down"));
+
+        subscriber.handle(message);
+
+        verify(message, timeout(1000)).nack();
+        verify(message, never()).ack();
+        verify(pubSubTemplate, never()).publish(anyString(), anyString(), anyMap());
+        assertThat(consumeCount(NotificationEventSubscriber.OUTCOME_RETRY)).isEqualTo(1);
+    }
+
+    @Test
+    void failedSendIsDeadLetteredOnLastAttempt() {
+        givenMessage(VALID_JSON, "3");
+        when(notificationService.send(any())).thenThrow(new IllegalStateException("ses down"));
+
+        subscriber.handle(message);
+
+        verify(pubSubTemplate, timeout(1000))
+                .publish(eq("chronoflow-notification-dlq"), anyString(), anyMap());
+        verify(message, timeout(1000)).ack();
+        verify(message, never()).nack();
+    }
+
+    @Test
+    void localAttemptsAreCountedWithoutDeadLetterPolicy() {
+        givenMessage(VALID_JSON, null);
+
+        assertThat(subscriber.deliveryAttempt(message)).isEqualTo(1);
+        assertThat(subscriber.deliveryAttempt(message)).isEqualTo(2);
+    }
+
+    @Test
+    void backoffDoublesAndIsCapped() {
+        assertThat(subscriber.backoff(1)).isEqualTo(Duration.ofMillis(10));
+        assertThat(subscriber.backoff(2)).isEqualTo(Duration.ofMillis(20));
+        assertThat(subscriber.backoff(5)).isEqualTo(Duration.ofMillis(40));
+    }
+
+    private long consumeCount(String outcome) {
+        return meterRegistry
+                .get(NotificationEventSubscriber.CONSUME_METRIC)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private void givenMessage(String json, String deliveryAttempt) {
+        PubsubMessage.Builder builder =
+                PubsubMessage.newBuilder()
+                        .setMessageId("msg-1")
+                        .setData(ByteString.copyFromUtf8(json));
+        if (deliveryAttempt != null) {
+            builder.putAttributes("googclient_deliveryattempt", deliveryAttempt);
+        }
+        when(message.getPubsubMessage()).thenReturn(builder.build());
+    }
+}
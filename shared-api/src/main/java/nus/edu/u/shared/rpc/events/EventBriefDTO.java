@@ -0,0 +1,34 @@
+package nus.edu.u.shared.rpc.events;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lightweight event snapshot for cross-service callers.
+ *
+ * <p>Only carries columns of the event row itself, so it can be served without counting
+ * participants or loading the group tree.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventBriefDTO implements Serializable {
+    @Serial private static final long serialVersionUID = 1L;
+
+    private Long id;
+    private Long tenantId;
+    private Long organizerId;
+    private String name;
+    private String description;
+    private String location;
+    private Integer status;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String remark;
+}
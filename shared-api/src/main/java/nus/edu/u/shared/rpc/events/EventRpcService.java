@@ -1,7 +1,18 @@
 package nus.edu.u.shared.rpc.events;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface EventRpcService {
     EventRespDTO getEvent(Long eventId);
 
+    /**
+     * Batch lookup of event snapshots without participant counts or groups.
+     *
+     * @param eventIds event ids, nulls and duplicates are ignored
+     * @return events keyed by id, missing events are absent from the map
+     */
+    Map<Long, EventBriefDTO> getEvents(Collection<Long> eventIds);
+
     boolean exists(Long eventId);
 }
@@ -1,9 +1,32 @@
 package nus.edu.u.shared.rpc.file;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface FileStorageRpcService {
     List<FileResultDTO> downloadFilesByTaskLogId(Long taskLogId);
 
+    /**
+     * Files of several task logs in one call, keyed by task log id; ids without files are absent.
+     */
+    Map<Long, List<FileResultDTO>> downloadFilesByTaskLogIds(Collection<Long> taskLogIds);
+
+    /**
+     * Upload with the file content inlined in the request.
+     *
+     * @deprecated the whole payload is held in memory on both sides; use {@link #prepareUploads}
+     *     and {@link #completeUploadToTaskLog} instead
+     */
+    @Deprecated
     void uploadToTaskLog(FileUploadReqDTO req);
+
+    /** Reserve object names and signed PUT URLs so the caller can stream files to storage. */
+    List<FileUploadTicketDTO> prepareUploads(List<FileUploadTicketDTO> files);
+
+    /** Attach objects uploaded through {@link #prepareUploads} tickets to a task log. */
+    void completeUploadToTaskLog(Long taskLogId, Long eventId, List<FileUploadTicketDTO> files);
+
+    /** Delete objects uploaded through tickets that will not be completed. */
+    void discardUploads(List<String> objectNames);
 }
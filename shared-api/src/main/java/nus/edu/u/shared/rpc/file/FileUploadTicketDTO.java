@@ -0,0 +1,34 @@
+package nus.edu.u.shared.rpc.file;
+
+import java.io.Serial;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One file of a direct-to-storage upload.
+ *
+ * <p>The caller describes the file with {@code name}, {@code contentType} and {@code size}; {@link
+ * FileStorageRpcService#prepareUploads} fills in the {@code objectName} to store it under and a
+ * short-lived {@code uploadUrl} accepting a single HTTP PUT of the content.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileUploadTicketDTO implements Serializable {
+
+    @Serial private static final long serialVersionUID = 1L;
+
+    private String name;
+
+    private String contentType;
+
+    private Long size;
+
+    private String objectName;
+
+    private String uploadUrl;
+}
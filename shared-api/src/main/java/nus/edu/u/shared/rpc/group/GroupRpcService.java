@@ -7,4 +7,14 @@ import java.util.Map;
 public interface GroupRpcService {
 
     Map<Long, List<GroupDTO>> getGroupsByEventIds(Collection<Long> eventIds);
+
+    /**
+     * Groups a single user belongs to within the given events, as lead or as member, read in one
+     * query. Unlike {@link #getGroupsByEventIds} the member lists are not loaded.
+     *
+     * @param userId user identifier
+     * @param eventIds event ids, nulls and duplicates are ignored
+     * @return groups keyed by event id, events without such a group are absent from the map
+     */
+    Map<Long, List<GroupDTO>> getUserGroupsByEventIds(Long userId, Collection<Long> eventIds);
 }
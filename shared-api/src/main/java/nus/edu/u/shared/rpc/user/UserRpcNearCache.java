@@ -0,0 +1,181 @@
+package nus.edu.u.shared.rpc.user;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Consumer-side near-cache in front of {@link UserRpcService}.
+ *
+ * <p>User profiles and tenants are kept in process for a bounded TTL. user-service publishes the
+ * ids of changed users on {@link #INVALIDATION_CHANNEL} (or {@link #INVALIDATE_ALL} when roles
+ * change), and consumers feed those messages into {@link #invalidate(String)}. Every invalidation
+ * bumps a version so that a load that was already in flight cannot write stale data back.
+ *
+ * <p>Cached {@link UserInfoDTO} instances are shared between callers and must be treated as
+ * read-only.
+ */
+public class UserRpcNearCache implements UserRpcService {
+
+    /** Redis pub/sub channel carrying user invalidation messages. */
+    public static final String INVALIDATION_CHANNEL = "chronoflow:user:invalidate";
+
+    /** Invalidation payload that drops every cached user and tenant. */
+    public static final String INVALIDATE_ALL = "*";
+
+    private static final String ID_SEPARATOR = ",";
+
+    private final UserRpcService delegate;
+
+    private final Cache<Long, UserInfoDTO> users;
+
+    private final Cache<Long, TenantDTO> tenants;
+
+    private final AtomicLong version = new AtomicLong();
+
+    public UserRpcNearCache(UserRpcService delegate, Duration ttl, long maximumSize) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.users =
+                CacheBuilder.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).build();
+        this.tenants =
+                CacheBuilder.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).build();
+    }
+
+    @Override
+    public boolean exists(Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        if (users.getIfPresent(userId) != null) {
+            return true;
+        }
+        return delegate.exists(userId);
+    }
+
+    @Override
+    public Map<Long, UserInfoDTO> getUsers(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, UserInfoDTO> result = new LinkedHashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long userId : new LinkedHashSet<>(userIds)) {
+            if (userId == null) {
+                continue;
+            }
+            UserInfoDTO cached = users.getIfPresent(userId);
+            if (cached != null) {
+                result.put(userId, cached);
+            } else {
+                misses.add(userId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long observedVersion = version.get();
+        Map<Long, UserInfoDTO> fetched = delegate.getUsers(misses);
+        if (fetched == null || fetched.isEmpty()) {
+            return result;
+        }
+        fetched.forEach(
+                (userId, user) -> {
+                    if (userId != null && user != null) {
+                        result.put(userId, user);
+                        users.put(userId, user);
+                    }
+                });
+        if (version.get() != observedVersion) {
+            // An invalidation raced with this load; do not keep what we just fetched.
+            users.invalidateAll(fetched.keySet());
+        }
+        return result;
+    }
+
+    @Override
+    public TenantDTO getTenantById(Long tenantId) {
+        if (tenantId == null) {
+            return null;
+        }
+        TenantDTO cached = tenants.getIfPresent(tenantId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long observedVersion = version.get();
+        TenantDTO tenant = delegate.getTenantById(tenantId);
+        if (tenant != null && version.get() == observedVersion) {
+            tenants.put(tenantId, tenant);
+        }
+        return tenant;
+    }
+
+    @Override
+    public List<UserProfileDTO> getEnabledUserProfiles() {
+        return delegate.getEnabledUserProfiles();
+    }
+
+    /**
+     * Apply an invalidation message received from {@link #INVALIDATION_CHANNEL}.
+     *
+     * @param payload comma separated user ids, or {@link #INVALIDATE_ALL}
+     */
+    public void invalidate(String payload) {
+        if (payload == null || payload.isBlank() || INVALIDATE_ALL.equals(payload.trim())) {
+            invalidateAll();
+            return;
+        }
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (String token : payload.split(ID_SEPARATOR)) {
+            String trimmed = token.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            try {
+                userIds.add(Long.parseLong(trimmed));
+            } catch (NumberFormatException e) {
+                // Unknown payload format, fall back to a full flush rather than serving stale data
+                invalidateAll();
+                return;
+            }
+        }
+        invalidateUsers(userIds);
+    }
+
+    public void invalidateUsers(Collection<Long> userIds) {
+        version.incrementAndGet();
+        if (userIds != null && !userIds.isEmpty()) {
+            users.invalidateAll(userIds);
+        }
+    }
+
+    public void invalidateAll() {
+        version.incrementAndGet();
+        users.invalidateAll();
+        tenants.invalidateAll();
+    }
+
+    /** Build the invalidation payload for the given user ids. */
+    public static String encodeInvalidation(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return INVALIDATE_ALL;
+        }
+        return userIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(String::valueOf)
+                .collect(Collectors.joining(ID_SEPARATOR));
+    }
+}
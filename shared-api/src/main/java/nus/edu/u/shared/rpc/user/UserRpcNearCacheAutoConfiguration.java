@@ -0,0 +1,50 @@
+package nus.edu.u.shared.rpc.user;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.apache.dubbo.config.annotation.DubboReference;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Wraps the remote {@link UserRpcService} in a {@link UserRpcNearCache} and keeps it in sync with
+ * invalidations broadcast by user-service.
+ *
+ * <p>Consumer services opt in with {@code chronoflow.user-cache.enabled=true}; user-service, which
+ * provides {@link UserRpcService}, leaves it off.
+ */
+@AutoConfiguration
+@ConditionalOnClass({DubboReference.class, RedisMessageListenerContainer.class})
+@ConditionalOnProperty(prefix = "chronoflow.user-cache", name = "enabled", havingValue = "true")
+public class UserRpcNearCacheAutoConfiguration {
+
+    @DubboReference(check = false)
+    private UserRpcService userRpcService;
+
+    @Bean
+    @Primary
+    public UserRpcNearCache userRpcNearCache(
+            @Value("${chronoflow.user-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${chronoflow.user-cache.maximum-size:10000}") long maximumSize) {
+        return new UserRpcNearCache(userRpcService, Duration.ofSeconds(ttlSeconds), maximumSize);
+    }
+
+    @Bean
+    public MessageListener userCacheInvalidationListener(
+            RedisMessageListenerContainer container, UserRpcNearCache userRpcNearCache) {
+        MessageListener listener =
+                (message, pattern) ->
+                        userRpcNearCache.invalidate(
+                                new String(message.getBody(), StandardCharsets.UTF_8));
+        container.addMessageListener(
+                listener, new ChannelTopic(UserRpcNearCache.INVALIDATION_CHANNEL));
+        return listener;
+    }
+}
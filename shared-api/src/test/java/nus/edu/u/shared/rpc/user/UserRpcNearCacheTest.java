@@ -0,0 +1,154 @@
+package nus.edu.u.shared.rpc.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserRpcNearCacheTest {
+
+    @Mock private UserRpcService delegate;
+
+    private UserRpcNearCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserRpcNearCache(delegate, Duration.ofMinutes(5), 100);
+        lenient().when(delegate.getUsers(anyCollection())).thenAnswer(i -> users(i.getArgument(0)));
+    }
+
+    @Test
+    void getUsers_partialHit_fetchesOnlyMissesInOneCall() {
+        cache.getUsers(List.of(1L));
+
+        Map<Long, UserInfoDTO> result = cache.getUsers(List.of(1L, 2L, 3L, 2L));
+
+        assertThat(result).containsOnlyKeys(1L, 2L, 3L);
+        verify(delegate).getUsers(List.of(1L));
+        verify(delegate).getUsers(List.of(2L, 3L));
+        verify(delegate, times(2)).getUsers(anyCollection());
+    }
+
+    @Test
+    void getUsers_allHits_skipsRemoteCall() {
+        cache.getUsers(List.of(1L, 2L));
+
+        assertThat(cache.getUsers(List.of(2L, 1L))).containsOnlyKeys(1L, 2L);
+        verify(delegate, times(1)).getUsers(anyCollection());
+    }
+
+    @Test
+    void getUsers_invalidationDuringLoad_doesNotCacheStaleEntries() {
+        when(delegate.getUsers(List.of(1L)))
+                .thenAnswer(
+                        i -> {
+                            // user-service publishes while the old row is on its way back
+                            cache.invalidate("1");
+                            return users(i.getArgument(0));
+                        })
+                .thenAnswer(i -> users(i.getArgument(0)));
+
+        assertThat(cache.getUsers(List.of(1L))).containsOnlyKeys(1L);
+        cache.getUsers(List.of(1L));
+
+        verify(delegate, times(2)).getUsers(List.of(1L));
+    }
+
+    @Test
+    void getTenantById_invalidationDuringLoad_doesNotCacheStaleTenant() {
+        TenantDTO tenant = TenantDTO.builder().id(9L).name("Org").build();
+        when(delegate.getTenantById(9L))
+                .thenAnswer(
+                        i -> {
+                            cache.invalidate(UserRpcNearCache.INVALIDATE_ALL);
+                            return tenant;
+                        })
+                .thenReturn(tenant);
+
+        assertThat(cache.getTenantById(9L)).isSameAs(tenant);
+        cache.getTenantById(9L);
+        cache.getTenantById(9L);
+
+        verify(delegate, times(2)).getTenantById(9L);
+    }
+
+    @Test
+    void invalidate_commaSeparatedIds_evictsOnlyThoseUsers() {
+        cache.getUsers(List.of(1L, 2L, 3L));
+
+        cache.invalidate(" 1, ,3 ");
+        cache.getUsers(List.of(1L, 2L, 3L));
+
+        verify(delegate).getUsers(List.of(1L, 3L));
+    }
+
+    @Test
+    void invalidate_wildcard_flushesUsersAndTenants() {
+        TenantDTO tenant = TenantDTO.builder().id(9L).build();
+        when(delegate.getTenantById(9L)).thenReturn(tenant);
+        cache.getUsers(List.of(1L, 2L));
+        cache.getTenantById(9L);
+
+        cache.invalidate(UserRpcNearCache.INVALIDATE_ALL);
+        cache.getUsers(List.of(1L, 2L));
+        cache.getTenantById(9L);
+
+        verify(delegate, times(2)).getUsers(List.of(1L, 2L));
+        verify(delegate, times(2)).getTenantById(9L);
+    }
+
+    @Test
+    void invalidate_malformedId_fallsBackToFullFlush() {
+        cache.getUsers(List.of(1L, 2L));
+
+        cache.invalidate("1,not-a-number");
+        cache.getUsers(List.of(1L, 2L));
+
+        verify(delegate, times(2)).getUsers(List.of(1L, 2L));
+    }
+
+    @Test
+    void invalidate_blankPayload_fallsBackToFullFlush() {
+        cache.getUsers(List.of(1L, 2L));
+
+        cache.invalidate("  ");
+        cache.getUsers(List.of(1L, 2L));
+
+        verify(delegate, times(2)).getUsers(List.of(1L, 2L));
+    }
+
+    @Test
+    void encodeInvalidation_roundTripsThroughInvalidate() {
+        assertThat(UserRpcNearCache.encodeInvalidation(List.of(3L, 1L, 3L))).isEqualTo("3,1");
+        assertThat(UserRpcNearCache.encodeInvalidation(List.of()))
+                .isEqualTo(UserRpcNearCache.INVALIDATE_ALL);
+
+        cache.getUsers(List.of(1L, 2L, 3L));
+        cache.invalidate(UserRpcNearCache.encodeInvalidation(List.of(3L, 1L)));
+        cache.getUsers(List.of(1L, 2L, 3L));
+
+        verify(delegate).getUsers(List.of(1L, 3L));
+        verify(delegate, never()).getUsers(List.of(2L));
+    }
+
+    private static Map<Long, UserInfoDTO> users(Collection<Long> ids) {
+        Map<Long, UserInfoDTO> users = new LinkedHashMap<>();
+        ids.forEach(id -> users.put(id, UserInfoDTO.builder().id(id).build()));
+        return users;
+    }
+}
@@ -6,20 +6,14 @@ import static nus.edu.u.common.utils.exception.ServiceExceptionUtil.exception;
 import cn.hutool.core.collection.CollectionUtil;
 import cn.hutool.core.util.ObjectUtil;
 import jakarta.annotation.Resource;
-import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
-import nus.edu.u.shared.rpc.file.FileStorageRpcService;
-import nus.edu.u.shared.rpc.file.FileUploadReqDTO;
-import nus.edu.u.shared.rpc.file.FileUploadReqDTO.FileResource;
 import nus.edu.u.task.domain.dataobject.task.TaskDO;
 import nus.edu.u.task.domain.dto.TaskActionDTO;
 import nus.edu.u.task.enums.TaskActionEnum;
 import nus.edu.u.task.enums.TaskStatusEnum;
 import nus.edu.u.task.mapper.TaskMapper;
 import nus.edu.u.task.service.TaskLogApplicationService;
-import org.apache.dubbo.config.annotation.DubboReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -30,8 +24,7 @@ public abstract class AbstractTaskStrategy implements TaskStrategy {
 
     @Resource protected TaskLogApplicationService taskLogService;
 
-    @DubboReference(check = false)
-    protected FileStorageRpcService fileStorageRpcService;
+    @Resource protected TaskFileUploader taskFileUploader;
 
     public abstract void execute(TaskDO task, TaskActionDTO taskActionDTO, Object... params);
 
@@ -64,35 +57,6 @@ public abstract class AbstractTaskStrategy implements TaskStrategy {
             throw exception(TASK_LOG_FILE_FAILED);
         }
 
-        FileUploadReqDTO reqVO =
-                FileUploadReqDTO.builder()
-                        .taskLogId(taskLogId)
-                        .eventId(eventId)
-                        .files(toRpcFiles(files))
-                        .build();
-        fileStorageRpcService.uploadToTaskLog(reqVO);
-    }
-
-    private List<FileResource> toRpcFiles(List<MultipartFile> files) {
-        return files.stream()
-                .map(
-                        file -> {
-                            try {
-                                byte[] content = file.getBytes();
-                                String name = file.getOriginalFilename();
-                                if (name == null || name.isBlank()) {
-                                    name = file.getName();
-                                }
-                                return FileResource.builder()
-                                        .name(name)
-                                        .contentType(file.getContentType())
-                                        .content(content)
-                                        .size((long) content.length)
-                                        .build();
-                            } catch (IOException ex) {
-                                throw new UncheckedIOException("Failed to read file content", ex);
-                            }
-                        })
-                .toList();
+        taskFileUploader.upload(taskLogId, eventId, files);
     }
 }
@@ -0,0 +1,125 @@
+package nus.edu.u.task.action;
+
+import static nus.edu.u.common.enums.ErrorCodeConstants.TASK_LOG_FILE_FAILED;
+import static nus.edu.u.common.utils.exception.ServiceExceptionUtil.exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import nus.edu.u.shared.rpc.file.FileStorageRpcService;
+import nus.edu.u.shared.rpc.file.FileUploadTicketDTO;
+import org.apache.dubbo.config.annotation.DubboReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Uploads task log attachments straight to object storage.
+ *
+ * <p>file-service hands out one signed PUT URL per file and each file is streamed from its
+ * multipart part to that URL, so no copy of the content is held in heap or sent over Dubbo. Once
+ * every PUT succeeded the objects are attached to the task log; otherwise they are discarded.
+ */
+@Slf4j
+@Component
+public class TaskFileUploader {
+
+    private static final Duration UPLOAD_TIMEOUT = Duration.ofMinutes(5);
+
+    @DubboReference(check = false)
+    private FileStorageRpcService fileStorageRpcService;
+
+    private final HttpClient httpClient =
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+    public void upload(Long taskLogId, Long eventId, List<MultipartFile> attachments) {
+        // Empty parts carry nothing to store
+        List<MultipartFile> files =
+                attachments.stream().filter(file -> file != null && !file.isEmpty()).toList();
+        if (files.isEmpty()) {
+            return;
+        }
+        List<FileUploadTicketDTO> tickets = fileStorageRpcService.prepareUploads(describe(files));
+        if (tickets == null || tickets.size() != files.size()) {
+            throw exception(TASK_LOG_FILE_FAILED);
+        }
+
+        List<CompletableFuture<HttpResponse<Void>>> puts = new ArrayList<>(files.size());
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                puts.add(put(files.get(i), tickets.get(i)));
+            }
+            for (int i = 0; i < puts.size(); i++) {
+                int status = puts.get(i).join().statusCode();
+                if (status / 100 != 2) {
+                    throw new IllegalStateException(
+                            "Upload of " + tickets.get(i).getObjectName() + " returned " + status);
+                }
+            }
+            fileStorageRpcService.completeUploadToTaskLog(taskLogId, eventId, tickets);
+        } catch (RuntimeException ex) {
+            log.warn("Task log {} file upload failed: {}", taskLogId, ex.getMessage());
+            puts.forEach(put -> put.cancel(true));
+            discardQuietly(tickets);
+            throw exception(TASK_LOG_FILE_FAILED);
+        }
+    }
+
+    private List<FileUploadTicketDTO> describe(List<MultipartFile> files) {
+        return files.stream()
+                .map(
+                        file -> {
+                            String name = file.getOriginalFilename();
+                            if (name == null || name.isBlank()) {
+                                name = file.getName();
+                            }
+                            return FileUploadTicketDTO.builder()
+                                    .name(name)
+                                    .contentType(file.getContentType())
+                                    .size(file.getSize())
+                                    .build();
+                        })
+                .toList();
+    }
+
+    private CompletableFuture<HttpResponse<Void>> put(
+            MultipartFile file, FileUploadTicketDTO ticket) {
+        HttpRequest request =
+                HttpRequest.newBuilder(URI.create(ticket.getUploadUrl()))
+                        .timeout(UPLOAD_TIMEOUT)
+                        // Must match the content type the URL was signed for
+                        .header("Content-Type", ticket.getContentType())
+                        .PUT(
+                                HttpRequest.BodyPublishers.fromPublisher(
+                                        HttpRequest.BodyPublishers.ofInputStream(
+                                                () -> openStream(file)),
+                                        file.getSize()))
+                        .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static InputStream openStream(MultipartFile file) {
+        try {
+            return file.getInputStream();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read file content", ex);
+        }
+    }
+
+    private void discardQuietly(List<FileUploadTicketDTO> tickets) {
+        try {
+            fileStorageRpcService.discardUploads(
+                    tickets.stream().map(FileUploadTicketDTO::getObjectName).toList());
+        } catch (Exception ex) {
+            log.warn("Failed to discard uploaded files: {}", ex.getMessage());
+        }
+    }
+}
@@ -87,9 +87,12 @@ public class TaskRpcServiceImpl implements TaskRpcService {
             return;
         }
 
+        // Ids only, so the lookup is answered from idx_task_tenant_event_status
         List<TaskDO> tasks =
                 taskMapper.selectList(
-                        Wrappers.<TaskDO>lambdaQuery().eq(TaskDO::getEventId, eventId));
+                        Wrappers.<TaskDO>lambdaQuery()
+                                .select(TaskDO::getId)
+                                .eq(TaskDO::getEventId, eventId));
         if (tasks == null || tasks.isEmpty()) {
             if (log.isDebugEnabled()) {
                 log.debug("No tasks to delete for event {}", eventId);
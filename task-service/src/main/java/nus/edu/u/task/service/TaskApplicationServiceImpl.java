@@ -19,7 +19,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import nus.edu.u.shared.rpc.events.EventRespDTO;
+import nus.edu.u.shared.rpc.events.EventBriefDTO;
 import nus.edu.u.shared.rpc.events.EventRpcService;
 import nus.edu.u.shared.rpc.group.GroupDTO;
 import nus.edu.u.shared.rpc.group.GroupMemberDTO;
@@ -56,8 +56,7 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
     @DubboReference(check = false)
     private EventRpcService eventRpcService;
 
-    @DubboReference(check = false)
-    private UserRpcService userRpcService;
+    private final UserRpcService userRpcService;
 
     @DubboReference(check = false)
     private GroupRpcService groupRpcService;
@@ -69,10 +68,7 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
     @Override
     @Transactional
     public TaskRespVO createTask(Long eventId, TaskCreateReqVO reqVO) {
-        EventRespDTO event = eventRpcService.getEvent(eventId);
-        if (event == null) {
-            throw exception(EVENT_NOT_FOUND);
-        }
+        EventBriefDTO event = requireEvent(eventId);
 
         Long assignerId = event.getOrganizerId();
         Long assigneeId = reqVO.getTargetUserId();
@@ -146,10 +142,7 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
     @Override
     @Transactional
     public TaskRespVO updateTask(Long eventId, Long taskId, TaskUpdateReqVO reqVO, Integer type) {
-        EventRespDTO event = eventRpcService.getEvent(eventId);
-        if (event == null) {
-            throw exception(EVENT_NOT_FOUND);
-        }
+        EventBriefDTO event = requireEvent(eventId);
 
         TaskDO task = taskMapper.selectById(taskId);
         if (task == null || !Objects.equals(task.getEventId(), eventId)) {
@@ -239,10 +232,7 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
     @Override
     @Transactional
     public void deleteTask(Long eventId, Long taskId) {
-        EventRespDTO event = eventRpcService.getEvent(eventId);
-        if (event == null) {
-            throw exception(EVENT_NOT_FOUND);
-        }
+        EventBriefDTO event = requireEvent(eventId);
 
         TaskDO task = taskMapper.selectById(taskId);
         if (task == null || !Objects.equals(task.getEventId(), eventId)) {
@@ -255,10 +245,7 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
     @DS("slave")
     @Transactional(readOnly = true)
     public TaskRespVO getTask(Long eventId, Long taskId) {
-        EventRespDTO event = eventRpcService.getEvent(eventId);
-        if (event == null) {
-            throw exception(EVENT_NOT_FOUND);
-        }
+        EventBriefDTO event = requireEvent(eventId);
 
         TaskDO task = taskMapper.selectById(taskId);
         if (task == null || !Objects.equals(task.getEventId(), eventId)) {
@@ -297,10 +284,7 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
     @Override
     @Transactional(readOnly = true)
     public List<TaskRespVO> listTasksByEvent(Long eventId) {
-        EventRespDTO event = eventRpcService.getEvent(eventId);
-        if (event == null) {
-            throw exception(EVENT_NOT_FOUND);
-        }
+        EventBriefDTO event = requireEvent(eventId);
 
         List<TaskDO> tasks =
                 taskMapper.selectList(
@@ -365,11 +349,11 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
         List<Long> eventIds =
                 tasks.stream().map(TaskDO::getEventId).filter(Objects::nonNull).distinct().toList();
 
-        Map<Long, EventRespDTO> eventsById = fetchEventsByIds(eventIds);
+        Map<Long, EventBriefDTO> eventsById = fetchEventsByIds(eventIds);
 
         Set<Long> userIdsToLoad = new LinkedHashSet<>();
         userIdsToLoad.add(memberId);
-        for (EventRespDTO event : eventsById.values()) {
+        for (EventBriefDTO event : eventsById.values()) {
             if (event != null && event.getOrganizerId() != null) {
                 userIdsToLoad.add(event.getOrganizerId());
             }
@@ -384,7 +368,7 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
                 .map(
                         task -> {
                             Long eventId = task.getEventId();
-                            EventRespDTO event = eventId != null ? eventsById.get(eventId) : null;
+                            EventBriefDTO event = eventId != null ? eventsById.get(eventId) : null;
                             Long assignerId = event != null ? event.getOrganizerId() : null;
                             UserDO assigner = assignerId != null ? usersById.get(assignerId) : null;
                             List<DeptDO> assignerDepts =
@@ -405,32 +389,23 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
     private List<TasksRespVO> listDashboardTasksByMember(
             UserDO member,
             List<TaskDO> tasks,
-            Map<Long, List<GroupDTO>> groupsByEvent,
-            Map<Long, EventRespDTO> eventsById) {
+            Map<Long, List<DeptDO>> memberDeptsByEvent,
+            Map<Long, EventBriefDTO> eventsById) {
         if (tasks.isEmpty()) {
             return List.of();
         }
 
-        List<Long> eventIds =
-                tasks.stream().map(TaskDO::getEventId).filter(Objects::nonNull).distinct().toList();
-
-        Map<Long, List<DeptDO>> memberDeptsByEvent =
-                fetchUserDeptsByEvents(List.of(member.getId()), eventIds, groupsByEvent);
-
         return tasks.stream()
                 .map(
                         task -> {
                             TasksRespVO respVO = TaskConvert.INSTANCE.toTasksRespVO(task);
-                            EventRespDTO event =
-                                    task.getEventId() != null
-                                            ? eventsById.get(task.getEventId())
-                                            : null;
+                            Long eventId = task.getEventId();
+                            EventBriefDTO event = eventId != null ? eventsById.get(eventId) : null;
                             respVO.setEvent(toTasksEvent(event));
                             List<DeptDO> depts =
-                                    filterDeptsByEvent(
-                                            memberDeptsByEvent.getOrDefault(
-                                                    member.getId(), List.of()),
-                                            task.getEventId());
+                                    eventId != null
+                                            ? memberDeptsByEvent.getOrDefault(eventId, List.of())
+                                            : flatten(memberDeptsByEvent);
                             respVO.setAssignedUser(toDashboardAssignedUser(member, depts));
                             return respVO;
                         })
@@ -455,14 +430,15 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
                         .map(TaskDO::getEventId)
                         .filter(Objects::nonNull)
                         .collect(Collectors.toCollection(LinkedHashSet::new));
-        Map<Long, List<GroupDTO>> groupsByEvent = preloadGroups(eventIds);
-        Map<Long, EventRespDTO> eventsById = fetchEventsByIds(eventIds);
+        // Only the member's own groups are needed, not every group of each event with its members
+        Map<Long, List<DeptDO>> memberDeptsByEvent = fetchMemberDeptsByEvent(memberId, eventIds);
+        Map<Long, EventBriefDTO> eventsById = fetchEventsByIds(eventIds);
 
         TaskDashboardRespVO dashboard = new TaskDashboardRespVO();
         dashboard.setMember(toMemberVO(member));
-        dashboard.setGroups(resolveMemberGroups(member, memberTasks, groupsByEvent, eventsById));
+        dashboard.setGroups(resolveMemberGroups(memberDeptsByEvent, eventsById));
         dashboard.setTasks(
-                listDashboardTasksByMember(member, memberTasks, groupsByEvent, eventsById));
+                listDashboardTasksByMember(member, memberTasks, memberDeptsByEvent, eventsById));
         return dashboard;
     }
 
@@ -523,7 +499,7 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
                 .collect(Collectors.toList());
     }
 
-    private TasksRespVO.EventVO toTasksEvent(EventRespDTO event) {
+    private TasksRespVO.EventVO toTasksEvent(EventBriefDTO event) {
         if (event == null) {
             return null;
         }
@@ -551,21 +527,26 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
         return assignedUserVO;
     }
 
-    private Map<Long, EventRespDTO> fetchEventsByIds(Collection<Long> eventIds) {
+    private EventBriefDTO requireEvent(Long eventId) {
+        EventBriefDTO event =
+                eventId != null ? fetchEventsByIds(List.of(eventId)).get(eventId) : null;
+        if (event == null) {
+            throw exception(EVENT_NOT_FOUND);
+        }
+        return event;
+    }
+
+    private Map<Long, EventBriefDTO> fetchEventsByIds(Collection<Long> eventIds) {
         if (eventIds == null || eventIds.isEmpty()) {
             return Map.of();
         }
-        Map<Long, EventRespDTO> events = new LinkedHashMap<>();
-        for (Long id : eventIds) {
-            if (id == null || events.containsKey(id)) {
-                continue;
-            }
-            EventRespDTO event = eventRpcService.getEvent(id);
-            if (event != null) {
-                events.put(id, event);
-            }
+        List<Long> distinctEventIds =
+                eventIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctEventIds.isEmpty()) {
+            return Map.of();
         }
-        return events;
+        Map<Long, EventBriefDTO> events = eventRpcService.getEvents(distinctEventIds);
+        return events == null ? Map.of() : events;
     }
 
     private Map<Long, UserDO> fetchUsersByIds(Collection<Long> userIds) {
@@ -653,6 +634,38 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
         return result;
     }
 
+    private Map<Long, List<DeptDO>> fetchMemberDeptsByEvent(
+            Long memberId, Collection<Long> eventIds) {
+        if (memberId == null || eventIds == null || eventIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<GroupDTO>> groups =
+                groupRpcService.getUserGroupsByEventIds(memberId, eventIds);
+        if (groups == null || groups.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<DeptDO>> result = new LinkedHashMap<>();
+        groups.forEach(
+                (eventId, eventGroups) -> {
+                    if (eventId == null || eventGroups == null || eventGroups.isEmpty()) {
+                        return;
+                    }
+                    List<DeptDO> depts =
+                            eventGroups.stream()
+                                    .map(this::toDept)
+                                    .filter(dept -> dept != null && dept.getId() != null)
+                                    .toList();
+                    if (!depts.isEmpty()) {
+                        result.put(eventId, depts);
+                    }
+                });
+        return result;
+    }
+
+    private static List<DeptDO> flatten(Map<Long, List<DeptDO>> deptsByEvent) {
+        return deptsByEvent.values().stream().flatMap(List::stream).toList();
+    }
+
     private Map<Long, List<GroupDTO>> preloadGroups(Collection<Long> eventIds) {
         if (eventIds == null || eventIds.isEmpty()) {
             return Map.of();
@@ -752,25 +765,8 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
     }
 
     private List<TaskDashboardRespVO.GroupVO> resolveMemberGroups(
-            UserDO member,
-            List<TaskDO> memberTasks,
-            Map<Long, List<GroupDTO>> groupsByEvent,
-            Map<Long, EventRespDTO> eventsById) {
-        if (member == null || member.getId() == null) {
-            return List.of();
-        }
-
-        Collection<Long> eventIds =
-                memberTasks.stream()
-                        .map(TaskDO::getEventId)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toCollection(LinkedHashSet::new));
-
-        Map<Long, List<DeptDO>> deptsByUser =
-                fetchUserDeptsByEvents(List.of(member.getId()), eventIds, groupsByEvent);
-        List<DeptDO> depts = deptsByUser.getOrDefault(member.getId(), List.of());
-
-        return depts.stream()
+            Map<Long, List<DeptDO>> memberDeptsByEvent, Map<Long, EventBriefDTO> eventsById) {
+        return flatten(memberDeptsByEvent).stream()
                 .map(
                         dept -> {
                             TaskDashboardRespVO.GroupVO groupVO = new TaskDashboardRespVO.GroupVO();
@@ -786,7 +782,7 @@ public class TaskApplicationServiceImpl implements TaskApplicationService {
                 .collect(Collectors.toList());
     }
 
-    private TaskDashboardRespVO.GroupVO.EventVO toGroupEvent(EventRespDTO event) {
+    private TaskDashboardRespVO.GroupVO.EventVO toGroupEvent(EventBriefDTO event) {
         if (event == null) {
             return null;
         }
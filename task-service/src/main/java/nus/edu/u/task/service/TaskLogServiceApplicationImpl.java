@@ -66,7 +66,11 @@ public class TaskLogServiceApplicationImpl implements TaskLogApplicationService
     public List<TaskLogRespVO> getTaskLog(Long taskId) {
         List<TaskLogDO> taskLogList =
                 taskLogMapper.selectList(
-                        new LambdaQueryWrapper<TaskLogDO>().eq(TaskLogDO::getTaskId, taskId));
+                        new LambdaQueryWrapper<TaskLogDO>()
+                                .eq(TaskLogDO::getTaskId, taskId)
+                                // Ids grow with time; idx_task_log_tenant_task returns them in
+                                // order
+                                .orderByAsc(TaskLogDO::getId));
         if (taskLogList == null || taskLogList.isEmpty()) {
             return Collections.emptyList();
         }
@@ -92,6 +96,13 @@ public class TaskLogServiceApplicationImpl implements TaskLogApplicationService
             userMap = Map.of();
         }
 
+        // One batched lookup for the attachments of the whole history
+        Map<Long, List<FileResultDTO>> filesByLogId =
+                fileStorageRpcService.downloadFilesByTaskLogIds(
+                        taskLogList.stream().map(TaskLogDO::getId).toList());
+        final Map<Long, List<FileResultDTO>> fileMap =
+                filesByLogId != null ? filesByLogId : Map.of();
+
         return taskLogList.stream()
                 .map(
                         taskLog -> {
@@ -107,7 +118,7 @@ public class TaskLogServiceApplicationImpl implements TaskLogApplicationService
                             }
 
                             List<FileResultDTO> fileResults =
-                                    fileStorageRpcService.downloadFilesByTaskLogId(taskLog.getId());
+                                    fileMap.getOrDefault(taskLog.getId(), List.of());
                             return TaskLogRespVO.builder()
                                     .id(taskLog.getId())
                                     .action(taskLog.getAction())
@@ -0,0 +1,129 @@
+package nus.edu.u.task.action;
+
+import static nus.edu.u.common.enums.ErrorCodeConstants.TASK_LOG_FILE_FAILED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import nus.edu.u.common.exception.ServiceException;
+import nus.edu.u.shared.rpc.file.FileStorageRpcService;
+import nus.edu.u.shared.rpc.file.FileUploadTicketDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TaskFileUploaderTest {
+
+    @Mock private FileStorageRpcService fileStorageRpcService;
+    @Mock private HttpClient httpClient;
+
+    private TaskFileUploader uploader;
+
+    private final MockMultipartFile file =
+            new MockMultipartFile("doc", "doc.txt", "text/plain", "hello".getBytes());
+
+    private final FileUploadTicketDTO ticket =
+            FileUploadTicketDTO.builder()
+                    .name("doc.txt")
+                    .contentType("text/plain")
+                    .size(5L)
+                    .objectName("obj-doc.txt")
+                    .uploadUrl("https://storage.example/obj-doc.txt?sig=1")
+                    .build();
+
+    @BeforeEach
+    void setUp() {
+        uploader = new TaskFileUploader();
+        ReflectionTestUtils.setField(uploader, "fileStorageRpcService", fileStorageRpcService);
+        ReflectionTestUtils.setField(uploader, "httpClient", httpClient);
+    }
+
+    @Test
+    void upload_streamsToSignedUrlAndCompletes() {
+        when(fileStorageRpcService.prepareUploads(anyList())).thenReturn(List.of(ticket));
+        givenStorageResponds(200);
+
+        uploader.upload(10L, 20L, List.of(file));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FileUploadTicketDTO>> described = ArgumentCaptor.forClass(List.class);
+        verify(fileStorageRpcService).prepareUploads(described.capture());
+        assertThat(described.getValue())
+                .singleElement()
+                .satisfies(
+                        d -> {
+                            assertThat(d.getName()).isEqualTo("doc.txt");
+                            assertThat(d.getContentType()).isEqualTo("text/plain");
+                            assertThat(d.getSize()).isEqualTo(5L);
+                        });
+
+        ArgumentCaptor<HttpRequest> request = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient).sendAsync(request.capture(), any());
+        assertThat(request.getValue().method()).isEqualTo("PUT");
+        assertThat(request.getValue().uri().toString()).isEqualTo(ticket.getUploadUrl());
+        assertThat(request.getValue().headers().firstValue("Content-Type")).hasValue("text/plain");
+        assertThat(request.getValue().bodyPublisher().orElseThrow().contentLength()).isEqualTo(5L);
+
+        verify(fileStorageRpcService).completeUploadToTaskLog(10L, 20L, List.of(ticket));
+        verify(fileStorageRpcService, never()).discardUploads(any());
+    }
+
+    @Test
+    void upload_whenStorageRejects_discardsAndThrows() {
+        when(fileStorageRpcService.prepareUploads(anyList())).thenReturn(List.of(ticket));
+        givenStorageResponds(403);
+
+        assertThatThrownBy(() -> uploader.upload(10L, 20L, List.of(file)))
+                .isInstanceOf(ServiceException.class)
+                .extracting("code")
+                .isEqualTo(TASK_LOG_FILE_FAILED.getCode());
+
+        verify(fileStorageRpcService, never()).completeUploadToTaskLog(anyLong(), anyLong(), any());
+        verify(fileStorageRpcService).discardUploads(List.of("obj-doc.txt"));
+    }
+
+    @Test
+    void upload_whenTicketsMissing_throwsWithoutUploading() {
+        when(fileStorageRpcService.prepareUploads(anyList())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> uploader.upload(10L, 20L, List.of(file)))
+                .isInstanceOf(ServiceException.class);
+
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    void upload_skipsEmptyFiles() {
+        MockMultipartFile empty = new MockMultipartFile("e", "e.txt", "text/plain", new byte[0]);
+
+        uploader.upload(10L, 20L, List.of(empty));
+
+        verifyNoInteractions(fileStorageRpcService, httpClient);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenStorageResponds(int status) {
+        HttpResponse<Void> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(status);
+        when(httpClient.sendAsync(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn(CompletableFuture.completedFuture(response));
+    }
+}
@@ -13,7 +13,7 @@ import cn.dev33.satoken.stp.StpUtil;
 import java.time.LocalDateTime;
 import java.util.List;
 import nus.edu.u.common.exception.ServiceException;
-import nus.edu.u.shared.rpc.file.FileStorageRpcService;
+import nus.edu.u.task.action.TaskFileUploader;
 import nus.edu.u.task.domain.dataobject.task.TaskDO;
 import nus.edu.u.task.domain.dto.TaskActionDTO;
 import nus.edu.u.task.enums.TaskActionEnum;
@@ -24,7 +24,6 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -37,7 +36,7 @@ class TaskStrategiesTest {
 
     @Mock private TaskMapper taskMapper;
     @Mock private TaskLogApplicationService taskLogService;
-    @Mock private FileStorageRpcService fileStorageRpcService;
+    @Mock private TaskFileUploader taskFileUploader;
 
     private CreateTask createTask;
     private AssignTask assignTask;
@@ -70,7 +69,7 @@ class TaskStrategiesTest {
     private <T> T initStrategy(T strategy) {
         ReflectionTestUtils.setField(strategy, "taskMapper", taskMapper);
         ReflectionTestUtils.setField(strategy, "taskLogService", taskLogService);
-        ReflectionTestUtils.setField(strategy, "fileStorageRpcService", fileStorageRpcService);
+        ReflectionTestUtils.setField(strategy, "taskFileUploader", taskFileUploader);
         return strategy;
     }
 
@@ -121,12 +120,7 @@ class TaskStrategiesTest {
         verify(taskMapper).insert(task);
         verify(taskLogService)
                 .insertTaskLog(task.getId(), 500L, TaskActionEnum.CREATE.getCode(), "remark");
-        ArgumentCaptor<nus.edu.u.shared.rpc.file.FileUploadReqDTO> uploadCaptor =
-                ArgumentCaptor.forClass(nus.edu.u.shared.rpc.file.FileUploadReqDTO.class);
-        verify(fileStorageRpcService).uploadToTaskLog(uploadCaptor.capture());
-        assertThat(uploadCaptor.getValue().getTaskLogId()).isEqualTo(88L);
-        assertThat(uploadCaptor.getValue().getEventId()).isEqualTo(task.getEventId());
-        assertThat(uploadCaptor.getValue().getFiles()).hasSize(1);
+        verify(taskFileUploader).upload(88L, task.getEventId(), List.of(file));
     }
 
     @Test
@@ -141,7 +135,7 @@ class TaskStrategiesTest {
                 .isEqualTo(TASK_CREATE_FAILED.getCode());
 
         verify(taskLogService, never()).insertTaskLog(any(), any(), any(), any());
-        verify(fileStorageRpcService, never()).uploadToTaskLog(any());
+        verify(taskFileUploader, never()).upload(any(), any(), any());
     }
 
     @Test
@@ -181,7 +175,7 @@ class TaskStrategiesTest {
             verify(taskMapper).updateById(task);
             verify(taskLogService)
                     .insertTaskLog(task.getId(), 400L, TaskActionEnum.ASSIGN.getCode(), "remark");
-            verify(fileStorageRpcService, never()).uploadToTaskLog(any());
+            verify(taskFileUploader, never()).upload(any(), any(), any());
         }
     }
 
@@ -353,7 +347,7 @@ class TaskStrategiesTest {
         blockTask.execute(task, dto);
 
         assertThat(task.getStatus()).isEqualTo(TaskStatusEnum.BLOCKED.getStatus());
-        verify(fileStorageRpcService).uploadToTaskLog(any());
+        verify(taskFileUploader).upload(any(), any(), any());
     }
 
     @Test
@@ -554,7 +548,7 @@ class TaskStrategiesTest {
 
             assertThat(task.getName()).isEqualTo("updated");
             assertThat(task.getStatus()).isEqualTo(TaskStatusEnum.PENDING.getStatus());
-            verify(fileStorageRpcService).uploadToTaskLog(any());
+            verify(taskFileUploader).upload(any(), any(), any());
         }
     }
 
@@ -661,6 +655,6 @@ class TaskStrategiesTest {
                     .extracting("code")
                     .isEqualTo(TASK_LOG_FILE_FAILED.getCode());
         }
-        verify(fileStorageRpcService, never()).uploadToTaskLog(any());
+        verify(taskFileUploader, never()).upload(any(), any(), any());
     }
 }
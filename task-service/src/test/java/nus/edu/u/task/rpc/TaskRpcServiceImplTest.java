@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +14,8 @@ import nus.edu.u.shared.rpc.task.TaskDTO;
 import nus.edu.u.task.domain.dataobject.task.TaskDO;
 import nus.edu.u.task.mapper.TaskLogMapper;
 import nus.edu.u.task.mapper.TaskMapper;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -26,6 +30,13 @@ class TaskRpcServiceImplTest {
 
     @InjectMocks private TaskRpcServiceImpl rpcService;
 
+    @BeforeAll
+    static void initTableInfo() {
+        MybatisConfiguration configuration = new MybatisConfiguration();
+        MapperBuilderAssistant assistant = new MapperBuilderAssistant(configuration, "");
+        TableInfoHelper.initTableInfo(assistant, TaskDO.class);
+    }
+
     @Test
     void getTasksByEventIds_whenNullIds_returnsEmpty() {
         Map<Long, List<TaskDTO>> result = rpcService.getTasksByEventIds(null);
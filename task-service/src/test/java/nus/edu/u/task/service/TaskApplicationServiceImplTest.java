@@ -9,7 +9,10 @@ import static nus.edu.u.common.enums.ErrorCodeConstants.WRONG_TASK_ACTION_TYPE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
@@ -21,7 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import nus.edu.u.common.exception.ServiceException;
-import nus.edu.u.shared.rpc.events.EventRespDTO;
+import nus.edu.u.shared.rpc.events.EventBriefDTO;
 import nus.edu.u.shared.rpc.events.EventRpcService;
 import nus.edu.u.shared.rpc.group.GroupDTO;
 import nus.edu.u.shared.rpc.group.GroupMemberDTO;
@@ -75,8 +78,8 @@ class TaskApplicationServiceImplTest {
         LocalDateTime eventStart = LocalDateTime.of(2025, 1, 1, 9, 0);
         LocalDateTime eventEnd = eventStart.plusDays(1);
 
-        EventRespDTO event = event(eventId, organizerId, "Hackathon", eventStart, eventEnd);
-        Map<Long, EventRespDTO> events = Map.of(eventId, event);
+        EventBriefDTO event = event(eventId, organizerId, "Hackathon", eventStart, eventEnd);
+        Map<Long, EventBriefDTO> events = Map.of(eventId, event);
         stubEvents(events);
 
         UserInfoDTO organizer = user(organizerId, "Organizer", 9L);
@@ -145,7 +148,7 @@ class TaskApplicationServiceImplTest {
 
     @Test
     void createTask_eventMissing_throwsServiceException() {
-        when(eventRpcService.getEvent(anyLong())).thenReturn(null);
+        when(eventRpcService.getEvents(any())).thenReturn(Map.of());
 
         TaskCreateReqVO request = new TaskCreateReqVO();
         request.setTargetUserId(1L);
@@ -265,7 +268,7 @@ class TaskApplicationServiceImplTest {
 
         LocalDateTime eventStart = LocalDateTime.of(2025, 2, 10, 10, 0);
         LocalDateTime eventEnd = eventStart.plusDays(2);
-        EventRespDTO event = event(eventId, organizerId, "Expo", eventStart, eventEnd);
+        EventBriefDTO event = event(eventId, organizerId, "Expo", eventStart, eventEnd);
         stubEvents(Map.of(eventId, event));
 
         TaskDO dbTask =
@@ -416,7 +419,7 @@ class TaskApplicationServiceImplTest {
         long organizerId = 501L;
         long existingAssignee = 601L;
 
-        EventRespDTO event =
+        EventBriefDTO event =
                 event(
                         eventId,
                         organizerId,
@@ -534,7 +537,7 @@ class TaskApplicationServiceImplTest {
         long organizerId = 700L;
         long assigneeId = 701L;
 
-        EventRespDTO event =
+        EventBriefDTO event =
                 event(
                         eventId,
                         organizerId,
@@ -693,7 +696,7 @@ class TaskApplicationServiceImplTest {
         long eventId = 612L;
         long organizerId = 710L;
         long assigneeId = 711L;
-        EventRespDTO eventDto =
+        EventBriefDTO eventDto =
                 event(
                         eventId,
                         organizerId,
@@ -748,7 +751,7 @@ class TaskApplicationServiceImplTest {
                         user(memberId, "Member", 11L),
                         organizerId,
                         user(organizerId, "Organizer", 11L)));
-        EventRespDTO eventDto =
+        EventBriefDTO eventDto =
                 event(
                         eventId,
                         organizerId,
@@ -812,14 +815,14 @@ class TaskApplicationServiceImplTest {
                         organizerB,
                         user(organizerB, "Organizer B", 11L)));
 
-        EventRespDTO eventDtoA =
+        EventBriefDTO eventDtoA =
                 event(
                         eventA,
                         organizerA,
                         "Event A",
                         LocalDateTime.now(),
                         LocalDateTime.now().plusHours(2));
-        EventRespDTO eventDtoB =
+        EventBriefDTO eventDtoB =
                 event(
                         eventB,
                         organizerB,
@@ -897,11 +900,12 @@ class TaskApplicationServiceImplTest {
                         .eventId(eventId)
                         .name("Presentation")
                         .leadUserId(organizerId)
-                        .members(List.of(GroupMemberDTO.builder().userId(memberId).build()))
+                        .members(List.of())
                         .remark("Key presenters")
                         .status(1)
                         .build();
-        stubGroups(Map.of(eventId, List.of(group)));
+        when(groupRpcService.getUserGroupsByEventIds(eq(memberId), any()))
+                .thenReturn(Map.of(eventId, List.of(group)));
 
         TaskDashboardRespVO dashboard = service.getByMemberId(memberId);
 
@@ -910,7 +914,48 @@ class TaskApplicationServiceImplTest {
         assertThat(dashboard.getGroups().get(0).getEvent().getName()).isEqualTo("Showcase");
         assertThat(dashboard.getTasks()).hasSize(1);
         TasksRespVO taskSummary = dashboard.getTasks().get(0);
-        assertThat(taskSummary.getAssignedUser().getGroups()).hasSize(1);
+        assertThat(taskSummary.getAssignedUser().getGroups())
+                .extracting(TasksRespVO.AssignedUserVO.GroupVO::getId)
+                .containsExactly(123L);
+        verify(groupRpcService, never()).getGroupsByEventIds(any());
+    }
+
+    @Test
+    void getByMemberId_keepsGroupsOfOtherEventsOffTask() {
+        long memberId = 702L;
+        long firstEventId = 9020L;
+        long secondEventId = 9021L;
+
+        TaskDO first = TaskDO.builder().id(1L).eventId(firstEventId).userId(memberId).build();
+        TaskDO second = TaskDO.builder().id(2L).eventId(secondEventId).userId(memberId).build();
+        when(taskMapper.selectList(any(LambdaQueryWrapper.class)))
+                .thenReturn(List.of(first, second));
+        stubUsers(Map.of(memberId, user(memberId, "Member", 12L)));
+        LocalDateTime start = LocalDateTime.now();
+        stubEvents(
+                Map.of(
+                        firstEventId,
+                        event(firstEventId, 1L, "First", start, start.plusHours(1)),
+                        secondEventId,
+                        event(secondEventId, 1L, "Second", start, start.plusHours(1))));
+        when(groupRpcService.getUserGroupsByEventIds(eq(memberId), any()))
+                .thenReturn(
+                        Map.of(
+                                firstEventId,
+                                List.of(
+                                        GroupDTO.builder()
+                                                .id(31L)
+                                                .eventId(firstEventId)
+                                                .name("Logistics")
+                                                .build())));
+
+        TaskDashboardRespVO dashboard = service.getByMemberId(memberId);
+
+        assertThat(dashboard.getGroups())
+                .extracting(TaskDashboardRespVO.GroupVO::getId)
+                .containsExactly(31L);
+        assertThat(dashboard.getTasks().get(0).getAssignedUser().getGroups()).hasSize(1);
+        assertThat(dashboard.getTasks().get(1).getAssignedUser().getGroups()).isEmpty();
     }
 
     @Test
@@ -923,6 +968,7 @@ class TaskApplicationServiceImplTest {
 
         assertThat(dashboard.getTasks()).isEmpty();
         assertThat(dashboard.getGroups()).isEmpty();
+        verifyNoInteractions(groupRpcService, eventRpcService);
     }
 
     @Test
@@ -933,12 +979,21 @@ class TaskApplicationServiceImplTest {
         assertThat(exception.getCode()).isEqualTo(USER_NOT_FOUND.getCode());
     }
 
-    private void stubEvents(Map<Long, EventRespDTO> eventsById) {
-        when(eventRpcService.getEvent(any()))
+    private void stubEvents(Map<Long, EventBriefDTO> eventsById) {
+        when(eventRpcService.getEvents(any()))
                 .thenAnswer(
                         invocation -> {
-                            Long id = invocation.getArgument(0);
-                            return eventsById.get(id);
+                            Object argument = invocation.getArgument(0);
+                            if (!(argument instanceof Collection<?> ids)) {
+                                return Map.of();
+                            }
+                            Map<Long, EventBriefDTO> result = new LinkedHashMap<>();
+                            for (Object rawId : ids) {
+                                if (rawId instanceof Long id && eventsById.containsKey(id)) {
+                                    result.put(id, eventsById.get(id));
+                                }
+                            }
+                            return result;
                         });
     }
 
@@ -978,9 +1033,9 @@ class TaskApplicationServiceImplTest {
                         });
     }
 
-    private EventRespDTO event(
+    private EventBriefDTO event(
             Long id, Long organizerId, String name, LocalDateTime start, LocalDateTime end) {
-        EventRespDTO event = new EventRespDTO();
+        EventBriefDTO event = new EventBriefDTO();
         event.setId(id);
         event.setOrganizerId(organizerId);
         event.setName(name);
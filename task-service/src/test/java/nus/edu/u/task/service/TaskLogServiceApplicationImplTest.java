@@ -4,7 +4,6 @@ import static nus.edu.u.common.enums.ErrorCodeConstants.TASK_LOG_ERROR;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -98,13 +97,15 @@ class TaskLogServiceApplicationImplTest {
         UserInfoDTO source =
                 UserInfoDTO.builder().id(300L).username("Bob").email("bob@example.com").build();
         when(userRpcService.getUsers(any())).thenReturn(Map.of(200L, target, 300L, source));
-        when(fileStorageRpcService.downloadFilesByTaskLogId(100L))
+        when(fileStorageRpcService.downloadFilesByTaskLogIds(List.of(100L)))
                 .thenReturn(
-                        List.of(
-                                FileResultDTO.builder()
-                                        .objectName("obj")
-                                        .name("file.txt")
-                                        .build()));
+                        Map.of(
+                                100L,
+                                List.of(
+                                        FileResultDTO.builder()
+                                                .objectName("obj")
+                                                .name("file.txt")
+                                                .build())));
 
         List<TaskLogRespVO> logs = service.getTaskLog(50L);
 
@@ -113,7 +114,7 @@ class TaskLogServiceApplicationImplTest {
         assertThat(log.getTargetUser().getName()).isEqualTo("Alice");
         assertThat(log.getSourceUser().getName()).isEqualTo("Bob");
         assertThat(log.getFileResults()).hasSize(1);
-        verify(fileStorageRpcService).downloadFilesByTaskLogId(100L);
+        verify(fileStorageRpcService).downloadFilesByTaskLogIds(List.of(100L));
     }
 
     @Test
@@ -131,7 +132,7 @@ class TaskLogServiceApplicationImplTest {
 
         when(taskLogMapper.selectList(any(LambdaQueryWrapper.class))).thenReturn(List.of(log));
         when(userRpcService.getUsers(any())).thenReturn(java.util.Collections.emptyMap());
-        when(fileStorageRpcService.downloadFilesByTaskLogId(101L)).thenReturn(List.of());
+        when(fileStorageRpcService.downloadFilesByTaskLogIds(List.of(101L))).thenReturn(Map.of());
 
         List<TaskLogRespVO> logs = service.getTaskLog(60L);
 
@@ -155,7 +156,7 @@ class TaskLogServiceApplicationImplTest {
 
         assertThat(service.getTaskLog(777L)).isEmpty();
         verify(userRpcService, never()).getUsers(any());
-        verify(fileStorageRpcService, never()).downloadFilesByTaskLogId(anyLong());
+        verify(fileStorageRpcService, never()).downloadFilesByTaskLogIds(any());
     }
 
     @Test
@@ -163,7 +164,8 @@ class TaskLogServiceApplicationImplTest {
         when(taskLogMapper.selectList(any(LambdaQueryWrapper.class)))
                 .thenReturn(List.of(sampleLog));
         when(userRpcService.getUsers(any())).thenReturn(null);
-        when(fileStorageRpcService.downloadFilesByTaskLogId(sampleLog.getId())).thenReturn(null);
+        when(fileStorageRpcService.downloadFilesByTaskLogIds(List.of(sampleLog.getId())))
+                .thenReturn(null);
 
         List<TaskLogRespVO> logs = service.getTaskLog(sampleLog.getTaskId());
 
@@ -171,8 +173,28 @@ class TaskLogServiceApplicationImplTest {
         TaskLogRespVO log = logs.get(0);
         assertThat(log.getTargetUser()).isNull();
         assertThat(log.getSourceUser()).isNotNull();
-        assertThat(log.getFileResults()).isNull();
+        assertThat(log.getFileResults()).isEmpty();
         verify(userRpcService).getUsers(any());
-        verify(fileStorageRpcService).downloadFilesByTaskLogId(sampleLog.getId());
+        verify(fileStorageRpcService).downloadFilesByTaskLogIds(List.of(sampleLog.getId()));
+    }
+
+    @Test
+    void getTaskLog_fetchesFilesOfAllLogsInOneCall() {
+        TaskLogDO second =
+                TaskLogDO.builder().id(101L).taskId(50L).action(2).targetUserId(200L).build();
+        when(taskLogMapper.selectList(any(LambdaQueryWrapper.class)))
+                .thenReturn(List.of(sampleLog, second));
+        when(userRpcService.getUsers(any())).thenReturn(Map.of());
+        when(fileStorageRpcService.downloadFilesByTaskLogIds(List.of(100L, 101L)))
+                .thenReturn(
+                        Map.of(101L, List.of(FileResultDTO.builder().objectName("obj").build())));
+
+        List<TaskLogRespVO> logs = service.getTaskLog(50L);
+
+        assertThat(logs).extracting(TaskLogRespVO::getId).containsExactly(100L, 101L);
+        assertThat(logs.get(0).getFileResults()).isEmpty();
+        assertThat(logs.get(1).getFileResults()).hasSize(1);
+        verify(fileStorageRpcService).downloadFilesByTaskLogIds(List.of(100L, 101L));
+        verify(fileStorageRpcService, never()).downloadFilesByTaskLogId(any());
     }
 }
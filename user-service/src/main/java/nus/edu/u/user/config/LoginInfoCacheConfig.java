@@ -0,0 +1,44 @@
+package nus.edu.u.user.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import nus.edu.u.framework.security.satoken.PermissionSnapshotCache;
+import nus.edu.u.shared.rpc.user.UserRpcNearCache;
+import nus.edu.u.user.service.auth.LoginInfoCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Keeps the {@link LoginInfoCache} in sync with the user and permission changes broadcast by every
+ * user-service instance.
+ */
+@Configuration
+public class LoginInfoCacheConfig {
+
+    @Bean
+    public LoginInfoCache loginInfoCache(
+            @Value("${chronoflow.login-info-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${chronoflow.login-info-cache.maximum-size:10000}") long maximumSize) {
+        return new LoginInfoCache(Duration.ofSeconds(ttlSeconds), maximumSize);
+    }
+
+    @Bean
+    public MessageListener loginInfoInvalidationListener(
+            RedisMessageListenerContainer container, LoginInfoCache loginInfoCache) {
+        MessageListener listener =
+                (message, pattern) ->
+                        loginInfoCache.invalidate(
+                                new String(message.getBody(), StandardCharsets.UTF_8));
+        container.addMessageListener(
+                listener,
+                List.of(
+                        new ChannelTopic(UserRpcNearCache.INVALIDATION_CHANNEL),
+                        new ChannelTopic(PermissionSnapshotCache.CHANGE_CHANNEL)));
+        return listener;
+    }
+}
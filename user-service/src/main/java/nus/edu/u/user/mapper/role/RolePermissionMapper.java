@@ -1,6 +1,9 @@
 package nus.edu.u.user.mapper.role;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import java.util.Collection;
+import java.util.List;
 import nus.edu.u.user.domain.dataobject.role.RolePermissionDO;
 import org.apache.ibatis.annotations.Mapper;
 
@@ -9,4 +12,18 @@ import org.apache.ibatis.annotations.Mapper;
  * @date 2025-09-14
  */
 @Mapper
-public interface RolePermissionMapper extends BaseMapper<RolePermissionDO> {}
+public interface RolePermissionMapper extends BaseMapper<RolePermissionDO> {
+
+    /** Distinct ids of the roles granted any of the given permissions */
+    default List<Long> selectRoleIdsByPermissionIds(Collection<Long> permissionIds) {
+        if (permissionIds == null || permissionIds.isEmpty()) return List.of();
+        return this.selectList(
+                        Wrappers.<RolePermissionDO>lambdaQuery()
+                                .select(RolePermissionDO::getRoleId)
+                                .in(RolePermissionDO::getPermissionId, permissionIds))
+                .stream()
+                .map(RolePermissionDO::getRoleId)
+                .distinct()
+                .toList();
+    }
+}
@@ -91,6 +91,21 @@ public interface UserMapper extends BaseMapper<UserDO> {
         return list.stream().map(o -> (String) o).collect(Collectors.toSet());
     }
 
+    /** Undeleted users with any of the given emails */
+    default List<UserDO> selectByEmails(Collection<String> emails) {
+        if (emails == null || emails.isEmpty()) return Collections.emptyList();
+        return this.selectList(
+                Wrappers.<UserDO>lambdaQuery()
+                        .in(UserDO::getEmail, emails)
+                        .eq(UserDO::getDeleted, false));
+    }
+
+    /** Multi-row insert; ids and audit fields must be set by the caller */
+    int insertBatch(@Param("list") List<UserDO> list);
+
+    /** Set each user's remark in one statement */
+    int updateRemarkBatch(@Param("list") List<UserDO> list, @Param("updater") String updater);
+
     @InterceptorIgnore(tenantLine = "true")
     List<UserPermissionDTO> selectUserWithPermission(Long userId);
 
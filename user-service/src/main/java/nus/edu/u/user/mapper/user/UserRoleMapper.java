@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Set;
 import nus.edu.u.user.domain.dataobject.user.UserRoleDO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 /**
  * @author Lu Shuwen
@@ -90,4 +91,29 @@ public interface UserRoleMapper extends BaseMapper<UserRoleDO> {
                 .map(o -> (Long) o)
                 .toList();
     }
+
+    /** Distinct ids of the users currently holding any of the given roles */
+    default List<Long> selectUserIdsByRoleIds(Collection<Long> roleIds) {
+        if (roleIds == null || roleIds.isEmpty()) return List.of();
+        return this.selectList(
+                        Wrappers.<UserRoleDO>lambdaQuery()
+                                .select(UserRoleDO::getUserId)
+                                .in(UserRoleDO::getRoleId, roleIds))
+                .stream()
+                .map(UserRoleDO::getUserId)
+                .distinct()
+                .toList();
+    }
+
+    /** All relations of the given users, including logically deleted ones */
+    List<UserRoleDO> selectRawByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /** Set or clear the deleted flag of the given relation rows */
+    int updateDeletedByIds(
+            @Param("ids") Collection<Long> ids,
+            @Param("deleted") boolean deleted,
+            @Param("updater") String updater);
+
+    /** Multi-row insert; ids and audit fields must be set by the caller */
+    int insertBatch(@Param("list") List<UserRoleDO> list);
 }
@@ -2,8 +2,11 @@ package nus.edu.u.user.publisher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.cloud.spring.pubsub.core.PubSubOperations;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import nus.edu.u.shared.rpc.notification.dto.common.NotificationRequestDTO;
@@ -13,21 +16,28 @@ import org.springframework.util.StringUtils;
 /**
  * Publishes NotificationRequestDTO messages to a fixed Pub/Sub topic. Used by other microservices
  * to trigger notifications via the Notification Service.
+ *
+ * <p>Publish latency is recorded as {@value #METRIC_NAME}, measured until Pub/Sub acknowledges the
+ * message.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationPublisher {
 
+    static final String METRIC_NAME = "chronoflow.pubsub.publish";
+
     private static final String TOPIC_NAME = "chronoflow-notification";
 
     private final PubSubOperations pubSubTemplate;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     /** Publishes a NotificationRequestDTO to the fixed Pub/Sub topic. */
     public String publish(NotificationRequestDTO req) {
         validate(req);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             // Serialize to JSON
             String payload = objectMapper.writeValueAsString(req);
@@ -40,7 +50,9 @@ public class NotificationPublisher {
             put(attrs, "userId", req.getUserId());
             put(attrs, "to", req.getTo());
 
-            String messageId = String.valueOf(pubSubTemplate.publish(TOPIC_NAME, payload, attrs));
+            CompletableFuture<String> future = pubSubTemplate.publish(TOPIC_NAME, payload, attrs);
+            future.whenComplete((id, ex) -> recordPublish(sample, req, ex == null));
+            String messageId = String.valueOf(future);
             log.info(
                     "📤 Published Notification to topic={} msgId={} eventId={} channel={} type={}",
                     TOPIC_NAME,
@@ -51,6 +63,7 @@ public class NotificationPublisher {
 
             return messageId;
         } catch (Exception e) {
+            recordPublish(sample, req, false);
             log.error(
                     " Failed to publish notification eventId={} type={}",
                     req.getEventId(),
@@ -60,6 +73,16 @@ public class NotificationPublisher {
         }
     }
 
+    private void recordPublish(Timer.Sample sample, NotificationRequestDTO req, boolean success) {
+        sample.stop(
+                Timer.builder(METRIC_NAME)
+                        .tag("topic", TOPIC_NAME)
+                        .tag("type", req.getType() != null ? req.getType().name() : "none")
+                        .tag("outcome", success ? "success" : "error")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+    }
+
     // simple validation to avoid malformed events
     private static void validate(NotificationRequestDTO req) {
         if (!StringUtils.hasText(req.getEventId())) {
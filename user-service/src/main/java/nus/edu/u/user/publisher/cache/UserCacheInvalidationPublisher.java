@@ -0,0 +1,60 @@
+package nus.edu.u.user.publisher.cache;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nus.edu.u.shared.rpc.user.UserRpcNearCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Broadcasts user/role changes to the {@link UserRpcNearCache} held by every consumer service.
+ *
+ * <p>Messages are sent after the surrounding transaction commits so that a consumer reloading on
+ * invalidation never reads the pre-commit row.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationPublisher {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /** Evict the given users from consumer near-caches. */
+    public void publishUsersChanged(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        publishAfterCommit(UserRpcNearCache.encodeInvalidation(userIds));
+    }
+
+    /** Evict every user, e.g. after a role rename that is embedded in all user snapshots. */
+    public void publishAllChanged() {
+        publishAfterCommit(UserRpcNearCache.INVALIDATE_ALL);
+    }
+
+    private void publishAfterCommit(String payload) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(payload);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        send(payload);
+                    }
+                });
+    }
+
+    private void send(String payload) {
+        try {
+            stringRedisTemplate.convertAndSend(UserRpcNearCache.INVALIDATION_CHANNEL, payload);
+        } catch (Exception e) {
+            // Consumers still expire entries by TTL, so a lost message only delays freshness
+            log.warn("Failed to publish user cache invalidation payload={}", payload, e);
+        }
+    }
+}
@@ -1,13 +1,10 @@
 package nus.edu.u.user.service.auth;
 
-import static nus.edu.u.common.constant.CacheConstants.USER_PERMISSION_KEY;
-import static nus.edu.u.common.constant.CacheConstants.USER_ROLE_KEY;
 import static nus.edu.u.common.constant.Constants.DEFAULT_DELIMITER;
 import static nus.edu.u.common.constant.Constants.SESSION_TENANT_ID;
 import static nus.edu.u.common.enums.ErrorCodeConstants.*;
 import static nus.edu.u.common.utils.exception.ServiceExceptionUtil.exception;
 
-import cn.dev33.satoken.session.SaSession;
 import cn.dev33.satoken.stp.StpUtil;
 import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.util.ObjUtil;
@@ -18,6 +15,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import nus.edu.u.common.enums.CommonStatusEnum;
+import nus.edu.u.framework.tenant.TenantContextHolder;
 import nus.edu.u.user.domain.dataobject.user.UserDO;
 import nus.edu.u.user.domain.dto.RoleDTO;
 import nus.edu.u.user.domain.dto.UserPermissionDTO;
@@ -50,6 +48,10 @@ public class AuthServiceImpl implements AuthService {
 
     @Resource private TotpService totpService;
 
+    @Resource private PermissionSessionRefresher permissionSessionRefresher;
+
+    @Resource private LoginInfoCache loginInfoCache;
+
     @Override
     public UserDO authenticate(String username, String password) {
         // 1.Check username first
@@ -75,10 +77,7 @@ public class AuthServiceImpl implements AuthService {
         // 2.Check if TOTP is enabled - require MFA
         if (Boolean.TRUE.equals(userDO.getTotpEnabled())) {
             String mfaToken = totpService.createMfaToken(userDO.getId(), reqVO.isRemember());
-            return LoginRespVO.builder()
-                    .mfaRequired(true)
-                    .mfaToken(mfaToken)
-                    .build();
+            return LoginRespVO.builder().mfaRequired(true).mfaToken(mfaToken).build();
         }
         // 3.Update user login time
         userDO.setLoginTime(LocalDateTime.now());
@@ -95,11 +94,12 @@ public class AuthServiceImpl implements AuthService {
         StpUtil.login(userDO.getId());
         // 2.1 Set tenant id into context
         StpUtil.getSession().set(SESSION_TENANT_ID, userDO.getTenantId());
+        TenantContextHolder.rebind(userDO.getTenantId());
         // 3.Check if there already is a refresh token
         if (StrUtil.isEmpty(refreshToken)) {
             refreshToken = tokenService.createRefreshToken(userTokenDTO);
         }
-        return getInfo(refreshToken);
+        return getInfo(refreshToken, true);
     }
 
     @Override
@@ -112,7 +112,7 @@ public class AuthServiceImpl implements AuthService {
     public LoginRespVO refresh(String refreshToken) {
         // Check if user login or not
         if (StpUtil.isLogin()) {
-            return getInfo(refreshToken);
+            return getInfo(refreshToken, false);
         }
         // Login expired
         // Create access token and expire time
@@ -123,28 +123,33 @@ public class AuthServiceImpl implements AuthService {
         // Login user
         StpUtil.login(userId);
         // Build response object
-        return getInfo(refreshToken);
+        return getInfo(refreshToken, true);
     }
 
-    private LoginRespVO getInfo(String refreshToken) {
-        UserRoleDTO userRoleDTO =
-                userService.selectUserWithRole(Long.parseLong(StpUtil.getLoginId().toString()));
-        List<UserPermissionDTO> userPermissionList =
-                userService.getUserPermissions(Long.parseLong(StpUtil.getLoginId().toString()));
+    /**
+     * Build the login response. A refresh on a live session is served from {@link LoginInfoCache};
+     * a new session always reloads, so its role and permission lists are written.
+     */
+    private LoginRespVO getInfo(String refreshToken, boolean newSession) {
+        Long userId = Long.parseLong(StpUtil.getLoginId().toString());
+        LoginInfoCache.LoginInfo info = newSession ? null : loginInfoCache.getIfPresent(userId);
+        if (info == null) {
+            info = loginInfoCache.load(userId, () -> loadLoginInfo(userId));
+        }
+        return LoginRespVO.builder()
+                .refreshToken(refreshToken)
+                .user(info.user())
+                .roles(info.roles())
+                .build();
+    }
+
+    private LoginInfoCache.LoginInfo loadLoginInfo(Long userId) {
+        UserRoleDTO userRoleDTO = userService.selectUserWithRole(userId);
         if (userRoleDTO == null) {
             throw exception(ACCOUNT_ERROR);
         }
-        SaSession session = StpUtil.getSession();
-        session.set(
-                USER_ROLE_KEY,
-                userRoleDTO.getRoles().stream()
-                        .map(RoleDTO::getRoleKey)
-                        .collect(Collectors.toList()));
-        session.set(
-                USER_PERMISSION_KEY,
-                userPermissionList.stream()
-                        .map(UserPermissionDTO::getPermissionKey)
-                        .collect(Collectors.toList()));
+        List<UserPermissionDTO> userPermissionList = userService.getUserPermissions(userId);
+        permissionSessionRefresher.store(StpUtil.getSession(), userRoleDTO, userPermissionList);
 
         UserVO userVO =
                 UserVO.builder()
@@ -157,15 +162,8 @@ public class AuthServiceImpl implements AuthService {
                                         .collect(Collectors.joining(DEFAULT_DELIMITER)))
                         .build();
         List<RoleRespVO> roleRespVOList =
-                userRoleDTO.getRoles().stream()
-                        .map(role -> roleService.getRole(role.getId()))
-                        .filter(ObjUtil::isNotNull)
-                        .toList();
-        return LoginRespVO.builder()
-                .refreshToken(refreshToken)
-                .user(userVO)
-                .roles(roleRespVOList)
-                .build();
+                roleService.getRoles(userRoleDTO.getRoles().stream().map(RoleDTO::getId).toList());
+        return new LoginInfoCache.LoginInfo(userVO, roleRespVOList);
     }
 
     @Override
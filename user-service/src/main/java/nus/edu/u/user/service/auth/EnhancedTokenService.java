@@ -1,6 +1,7 @@
 package nus.edu.u.user.service.auth;
 
 import cn.hutool.core.util.StrUtil;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import lombok.AllArgsConstructor;
@@ -9,6 +10,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 /**
@@ -29,6 +32,44 @@ public class EnhancedTokenService {
     private static final String TOKEN_FAMILY_KEY = "auth:refresh_family:";
     private static final String TOKEN_FINGERPRINT_KEY = "auth:token_fingerprint:";
 
+    private static final Long ROTATED = 1L;
+
+    private static final Long ROTATE_REUSED = 2L;
+
+    /**
+     * Looks up the old token, checks it is still the active token of its family and swaps in the
+     * new one, all atomically, so concurrent refreshes of one token cannot both succeed.
+     *
+     * <p>KEYS: old token key, new token key. ARGV: family key prefix, old token, new token, TTL in
+     * seconds. Replies {@code {1, value}} when rotated, {@code {2, value}} on reuse, {@code {0,
+     * value}} for a malformed value and an empty list when the token or its family is gone.
+     */
+    private static final RedisScript<List> ROTATE_SCRIPT =
+            new DefaultRedisScript<>(
+                    """
+                    local value = redis.call('GET', KEYS[1])
+                    if not value then
+                        return {}
+                    end
+                    local sep = string.find(value, ':', 1, true)
+                    if not sep then
+                        return {0, value}
+                    end
+                    local familyKey = ARGV[1] .. string.sub(value, sep + 1)
+                    local active = redis.call('GET', familyKey)
+                    if not active then
+                        return {}
+                    end
+                    if active ~= ARGV[2] then
+                        return {2, value}
+                    end
+                    redis.call('DEL', KEYS[1])
+                    redis.call('SET', KEYS[2], value, 'EX', ARGV[4])
+                    redis.call('SET', familyKey, ARGV[3], 'EX', ARGV[4])
+                    return {1, value}
+                    """,
+                    List.class);
+
     /**
      * Create a new refresh token with family tracking.
      *
@@ -68,12 +109,21 @@ public class EnhancedTokenService {
             return null;
         }
 
-        String value = redisTemplate.opsForValue().get(REFRESH_TOKEN_KEY + oldToken);
-        if (value == null) {
+        String newToken = UUID.randomUUID().toString();
+        List<?> reply =
+                redisTemplate.execute(
+                        ROTATE_SCRIPT,
+                        List.of(REFRESH_TOKEN_KEY + oldToken, REFRESH_TOKEN_KEY + newToken),
+                        TOKEN_FAMILY_KEY,
+                        oldToken,
+                        newToken,
+                        String.valueOf(refreshTokenExpireSeconds));
+        if (reply == null || reply.size() < 2) {
             log.debug("Refresh token not found: {}", oldToken);
             return null;
         }
 
+        String value = String.valueOf(reply.get(1));
         String[] parts = value.split(":", 2);
         if (parts.length != 2) {
             log.warn("Invalid refresh token format: {}", oldToken);
@@ -89,34 +139,15 @@ public class EnhancedTokenService {
         }
         String familyId = parts[1];
 
-        // Check if this is the active token in the family
-        String activeToken = redisTemplate.opsForValue().get(TOKEN_FAMILY_KEY + familyId);
-        if (activeToken == null) {
-            log.debug("Token family not found: {}", familyId);
-            return null;
-        }
-
-        if (!oldToken.equals(activeToken)) {
+        if (ROTATE_REUSED.equals(reply.get(0))) {
             // REUSE DETECTED - old token is being used after rotation
             log.warn("Refresh token reuse detected! userId={} familyId={}", userId, familyId);
             return RefreshResult.reuseDetected(userId, familyId);
         }
 
-        // Rotate: delete old token and create new one
-        redisTemplate.delete(REFRESH_TOKEN_KEY + oldToken);
-        String newToken = UUID.randomUUID().toString();
-
-        redisTemplate
-                .opsForValue()
-                .set(
-                        REFRESH_TOKEN_KEY + newToken,
-                        userId + ":" + familyId,
-                        refreshTokenExpireSeconds,
-                        TimeUnit.SECONDS);
-
-        redisTemplate
-                .opsForValue()
-                .set(TOKEN_FAMILY_KEY + familyId, newToken, refreshTokenExpireSeconds, TimeUnit.SECONDS);
+        if (!ROTATED.equals(reply.get(0))) {
+            return null;
+        }
 
         log.debug("Rotated refresh token for userId={} familyId={}", userId, familyId);
         return RefreshResult.success(userId, familyId, newToken);
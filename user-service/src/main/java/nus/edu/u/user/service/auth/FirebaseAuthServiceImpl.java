@@ -1,15 +1,11 @@
 package nus.edu.u.user.service.auth;
 
-import static nus.edu.u.common.constant.CacheConstants.USER_PERMISSION_KEY;
-import static nus.edu.u.common.constant.CacheConstants.USER_ROLE_KEY;
 import static nus.edu.u.common.constant.Constants.DEFAULT_DELIMITER;
 import static nus.edu.u.common.constant.Constants.SESSION_TENANT_ID;
 import static nus.edu.u.common.enums.ErrorCodeConstants.*;
 import static nus.edu.u.common.utils.exception.ServiceExceptionUtil.exception;
 
-import cn.dev33.satoken.session.SaSession;
 import cn.dev33.satoken.stp.StpUtil;
-import cn.hutool.core.util.ObjUtil;
 import cn.hutool.core.util.StrUtil;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
@@ -23,6 +19,7 @@ import nus.edu.u.common.enums.CommonStatusEnum;
 import nus.edu.u.framework.mybatis.MybatisPlusConfig;
 import nus.edu.u.framework.security.audit.SecurityAuditLogger;
 import nus.edu.u.framework.security.audit.SecurityAuditLogger.SecurityEvent;
+import nus.edu.u.framework.tenant.TenantContextHolder;
 import nus.edu.u.user.domain.dataobject.user.UserDO;
 import nus.edu.u.user.domain.dto.RoleDTO;
 import nus.edu.u.user.domain.dto.UserPermissionDTO;
@@ -51,6 +48,7 @@ public class FirebaseAuthServiceImpl implements FirebaseAuthService {
     private final EnhancedTokenService tokenService;
     private final FirebaseUserMappingService firebaseMappingService;
     private final SecurityAuditLogger auditLogger;
+    private final PermissionSessionRefresher permissionSessionRefresher;
 
     @Override
     public LoginRespVO firebaseLogin(
@@ -238,6 +236,7 @@ public class FirebaseAuthServiceImpl implements FirebaseAuthService {
             String firebaseUid) {
         StpUtil.login(userDO.getId());
         StpUtil.getSession().set(SESSION_TENANT_ID, userDO.getTenantId());
+        TenantContextHolder.rebind(userDO.getTenantId());
         loadPermissionsIntoSession(userDO.getId());
 
         String fingerprint = generateFingerprint(userAgent, clientIp);
@@ -293,17 +292,7 @@ public class FirebaseAuthServiceImpl implements FirebaseAuthService {
             return;
         }
 
-        SaSession session = StpUtil.getSession();
-        session.set(
-                USER_ROLE_KEY,
-                userRoleDTO.getRoles().stream()
-                        .map(RoleDTO::getRoleKey)
-                        .collect(Collectors.toList()));
-        session.set(
-                USER_PERMISSION_KEY,
-                userPermissionList.stream()
-                        .map(UserPermissionDTO::getPermissionKey)
-                        .collect(Collectors.toList()));
+        permissionSessionRefresher.store(StpUtil.getSession(), userRoleDTO, userPermissionList);
     }
 
     /**
@@ -327,10 +316,7 @@ public class FirebaseAuthServiceImpl implements FirebaseAuthService {
                         .build();
 
         List<RoleRespVO> roleRespVOList =
-                userRoleDTO.getRoles().stream()
-                        .map(role -> roleService.getRole(role.getId()))
-                        .filter(ObjUtil::isNotNull)
-                        .toList();
+                roleService.getRoles(userRoleDTO.getRoles().stream().map(RoleDTO::getId).toList());
 
         return LoginRespVO.builder()
                 .refreshToken(refreshToken)
@@ -0,0 +1,99 @@
+package nus.edu.u.user.service.auth;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import nus.edu.u.user.domain.vo.auth.UserVO;
+import nus.edu.u.user.domain.vo.role.RoleRespVO;
+
+/**
+ * Local cache of the user and role information returned by login and refresh.
+ *
+ * <p>The SPA refreshes on every page load, and rebuilding the response costs the user-role and
+ * permission joins plus the role lookups. Entries are dropped when user-service broadcasts a user
+ * change or a permission change for the user, or {@code *} for every user. Every invalidation bumps
+ * a version so that a rebuild that was already in flight cannot put the old information back. User
+ * invalidations only bump the version of the user's stripe, so they do not discard the rebuilds of
+ * unrelated users.
+ *
+ * <p>Cached instances are shared between callers and must be treated as read-only.
+ */
+public class LoginInfoCache {
+
+    private static final String INVALIDATE_ALL = "*";
+
+    private static final String ID_SEPARATOR = ",";
+
+    /** Power of two; users sharing a stripe only cost each other a skipped put. */
+    private static final int VERSION_STRIPES = 1024;
+
+    private final Cache<Long, LoginInfo> cache;
+
+    /** Bumped by full flushes. */
+    private final AtomicLong flushVersion = new AtomicLong();
+
+    /** Bumped by invalidations of the users hashed to each stripe. */
+    private final AtomicLongArray userVersions = new AtomicLongArray(VERSION_STRIPES);
+
+    public LoginInfoCache(Duration ttl, long maximumSize) {
+        this.cache =
+                CacheBuilder.newBuilder().expireAfterWrite(ttl).maximumSize(maximumSize).build();
+    }
+
+    public LoginInfo getIfPresent(Long userId) {
+        return cache.getIfPresent(userId);
+    }
+
+    /** Build the entry with {@code loader} and cache it unless it was invalidated meanwhile. */
+    public LoginInfo load(Long userId, Supplier<LoginInfo> loader) {
+        int stripe = stripe(userId);
+        long flushBefore = flushVersion.get();
+        long userBefore = userVersions.get(stripe);
+        LoginInfo info = loader.get();
+        if (info != null
+                && flushVersion.get() == flushBefore
+                && userVersions.get(stripe) == userBefore) {
+            cache.put(userId, info);
+        }
+        return info;
+    }
+
+    /**
+     * Apply an invalidation message.
+     *
+     * @param payload comma separated user ids, or {@code *}
+     */
+    public void invalidate(String payload) {
+        if (payload == null || payload.isBlank() || INVALIDATE_ALL.equals(payload.trim())) {
+            invalidateAll();
+            return;
+        }
+        for (String token : payload.split(ID_SEPARATOR)) {
+            long userId;
+            try {
+                userId = Long.parseLong(token.trim());
+            } catch (NumberFormatException e) {
+                // Unknown payload format, fall back to a full flush rather than serving stale data
+                invalidateAll();
+                return;
+            }
+            userVersions.incrementAndGet(stripe(userId));
+            cache.invalidate(userId);
+        }
+    }
+
+    private void invalidateAll() {
+        flushVersion.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private static int stripe(long userId) {
+        return Long.hashCode(userId) & (VERSION_STRIPES - 1);
+    }
+
+    public record LoginInfo(UserVO user, List<RoleRespVO> roles) {}
+}
@@ -0,0 +1,142 @@
+package nus.edu.u.user.service.auth;
+
+import static nus.edu.u.common.constant.CacheConstants.USER_PERMISSION_KEY;
+import static nus.edu.u.common.constant.CacheConstants.USER_ROLE_KEY;
+
+import cn.dev33.satoken.session.SaSession;
+import cn.dev33.satoken.stp.StpUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nus.edu.u.framework.security.satoken.PermissionSnapshotCache;
+import nus.edu.u.user.domain.dto.RoleDTO;
+import nus.edu.u.user.domain.dto.UserPermissionDTO;
+import nus.edu.u.user.domain.dto.UserRoleDTO;
+import nus.edu.u.user.mapper.user.UserMapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the role and permission lists in live Sa-Token sessions in step with the database.
+ *
+ * <p>Every service caches those lists per login id in its {@link PermissionSnapshotCache}. After a
+ * role or permission mapping changes, the sessions of the affected users are rewritten and their
+ * ids are published on {@link PermissionSnapshotCache#CHANGE_CHANNEL}, so the next check on any
+ * node reloads the new lists instead of waiting for the user to log in again.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PermissionSessionRefresher {
+
+    private final UserMapper userMapper;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * Store the given lists in a session after login or refresh and drop stale snapshots. Nothing
+     * is written or published when the session already holds the same lists, and nothing is
+     * published when this is the first write to a new session: no snapshot of it can exist yet, and
+     * the message would only evict the login information cached by the same login.
+     */
+    public void store(
+            SaSession session, UserRoleDTO userRole, List<UserPermissionDTO> permissions) {
+        List<String> roleKeys = roleKeys(userRole);
+        List<String> permissionKeys = permissionKeys(permissions);
+        Object previousRoles = session.get(USER_ROLE_KEY);
+        Object previousPermissions = session.get(USER_PERMISSION_KEY);
+        if (roleKeys.equals(previousRoles) && permissionKeys.equals(previousPermissions)) {
+            return;
+        }
+        session.set(USER_ROLE_KEY, roleKeys);
+        session.set(USER_PERMISSION_KEY, permissionKeys);
+        if (previousRoles != null || previousPermissions != null) {
+            publish(List.of(userRole.getUserId()));
+        }
+    }
+
+    /**
+     * Rewrite the sessions of the given users once the surrounding transaction has committed, so
+     * the reload sees the new mappings. Users without a live session are not reloaded; they pick up
+     * the change on their next login, but their ids are still published because snapshots taken
+     * from an earlier session may still be cached.
+     */
+    public void refreshAfterCommit(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        refresh(ids);
+                    }
+                });
+    }
+
+    private void refresh(Collection<Long> userIds) {
+        for (Long userId : userIds) {
+            try {
+                SaSession session = StpUtil.getSessionByLoginId(userId, false);
+                if (session == null) {
+                    continue;
+                }
+                UserRoleDTO userRole = userMapper.selectUserWithRole(userId);
+                if (userRole == null) {
+                    continue;
+                }
+                write(session, userRole, userMapper.selectUserWithPermission(userId));
+            } catch (Exception e) {
+                // Still published below; the reload on the next check reads the session as is
+                log.warn("Failed to refresh permission session of user {}", userId, e);
+            }
+        }
+        publish(userIds);
+    }
+
+    private void write(
+            SaSession session, UserRoleDTO userRole, List<UserPermissionDTO> permissions) {
+        session.set(USER_ROLE_KEY, roleKeys(userRole));
+        session.set(USER_PERMISSION_KEY, permissionKeys(permissions));
+    }
+
+    private static List<String> roleKeys(UserRoleDTO userRole) {
+        return userRole.getRoles() == null
+                ? new ArrayList<>()
+                : userRole.getRoles().stream()
+                        .map(RoleDTO::getRoleKey)
+                        .collect(Collectors.toList());
+    }
+
+    private static List<String> permissionKeys(List<UserPermissionDTO> permissions) {
+        return permissions == null
+                ? new ArrayList<>()
+                : permissions.stream()
+                        .map(UserPermissionDTO::getPermissionKey)
+                        .collect(Collectors.toList());
+    }
+
+    private void publish(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        String payload = PermissionSnapshotCache.encodeChange(userIds);
+        try {
+            stringRedisTemplate.convertAndSend(PermissionSnapshotCache.CHANGE_CHANNEL, payload);
+        } catch (Exception e) {
+            log.warn("Failed to publish permission change payload={}", payload, e);
+        }
+    }
+}
@@ -18,6 +18,8 @@ import nus.edu.u.user.domain.vo.permission.PermissionRespVO;
 import nus.edu.u.user.enums.permission.PermissionTypeEnum;
 import nus.edu.u.user.mapper.permission.PermissionMapper;
 import nus.edu.u.user.mapper.role.RolePermissionMapper;
+import nus.edu.u.user.mapper.user.UserRoleMapper;
+import nus.edu.u.user.service.auth.PermissionSessionRefresher;
 import org.springframework.stereotype.Service;
 
 /**
@@ -32,6 +34,10 @@ public class PermissionServiceImpl implements PermissionService {
 
     @Resource private RolePermissionMapper rolePermissionMapper;
 
+    @Resource private UserRoleMapper userRoleMapper;
+
+    @Resource private PermissionSessionRefresher permissionSessionRefresher;
+
     public static final String USER_PERMISSION_PREFIX = "system";
 
     @Override
@@ -90,6 +96,12 @@ public class PermissionServiceImpl implements PermissionService {
         if (!isSuccess) {
             throw exception(UPDATE_PERMISSION_FAILED);
         }
+        if (!Objects.equals(currentPermission.getPermissionKey(), reqVO.getKey())) {
+            // Sessions hold permission keys, so a rename must reach every holder of the permission
+            List<Long> roleIds = rolePermissionMapper.selectRoleIdsByPermissionIds(List.of(id));
+            permissionSessionRefresher.refreshAfterCommit(
+                    userRoleMapper.selectUserIdsByRoleIds(roleIds));
+        }
         return convert(permission);
     }
 
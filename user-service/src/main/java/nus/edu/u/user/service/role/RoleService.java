@@ -1,5 +1,6 @@
 package nus.edu.u.user.service.role;
 
+import java.util.Collection;
 import java.util.List;
 import nus.edu.u.user.domain.vo.role.RoleAssignReqVO;
 import nus.edu.u.user.domain.vo.role.RoleReqVO;
@@ -30,6 +31,14 @@ public interface RoleService {
      */
     RoleRespVO getRole(Long roleId);
 
+    /**
+     * Get roles by ids with their permissions, loaded in one query each. Unknown ids are skipped.
+     *
+     * @param roleIds
+     * @return roles in the order of {@code roleIds}
+     */
+    List<RoleRespVO> getRoles(Collection<Long> roleIds);
+
     /**
      * Delete a role by id
      *
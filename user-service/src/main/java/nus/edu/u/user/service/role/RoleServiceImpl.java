@@ -10,6 +10,7 @@ import cn.hutool.core.util.ObjectUtil;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import jakarta.annotation.Resource;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import nus.edu.u.common.enums.CommonStatusEnum;
@@ -27,7 +28,9 @@ import nus.edu.u.user.mapper.permission.PermissionMapper;
 import nus.edu.u.user.mapper.role.RoleMapper;
 import nus.edu.u.user.mapper.role.RolePermissionMapper;
 import nus.edu.u.user.mapper.user.UserRoleMapper;
+import nus.edu.u.user.publisher.cache.UserCacheInvalidationPublisher;
 import nus.edu.u.user.service.auth.AuthService;
+import nus.edu.u.user.service.auth.PermissionSessionRefresher;
 import nus.edu.u.user.service.user.UserService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -48,6 +51,10 @@ public class RoleServiceImpl implements RoleService {
 
     @Resource private AuthService authService;
 
+    @Resource private UserCacheInvalidationPublisher userCacheInvalidationPublisher;
+
+    @Resource private PermissionSessionRefresher permissionSessionRefresher;
+
     public static final String ORGANIZER_ROLE_KEY = "ORGANIZER";
 
     public static final String MEMBER_ROLE_KEY = "MEMBER";
@@ -64,11 +71,7 @@ public class RoleServiceImpl implements RoleService {
                                         !(ORGANIZER_ROLE_KEY.equals(role.getRoleKey())
                                                 || ADMIN_ROLE_KEY.equals(role.getRoleKey())))
                         .toList();
-        List<RoleRespVO> roleRespVOList = new ArrayList<>();
-        if (CollectionUtil.isNotEmpty(roleList)) {
-            roleList.forEach(role -> roleRespVOList.add(convert(role)));
-        }
-        return roleRespVOList;
+        return convertAll(roleList);
     }
 
     @Override
@@ -133,6 +136,18 @@ public class RoleServiceImpl implements RoleService {
         return convert(role);
     }
 
+    @Override
+    public List<RoleRespVO> getRoles(Collection<Long> roleIds) {
+        if (CollectionUtil.isEmpty(roleIds)) {
+            return new ArrayList<>();
+        }
+        Map<Long, RoleDO> roles =
+                roleMapper.selectBatchIds(roleIds).stream()
+                        .collect(Collectors.toMap(RoleDO::getId, Function.identity(), (a, b) -> a));
+        return convertAll(
+                roleIds.stream().distinct().map(roles::get).filter(Objects::nonNull).toList());
+    }
+
     @Transactional
     public void deleteRole(Long roleId) {
         if (ObjUtil.isNull(roleId)) {
@@ -197,6 +212,10 @@ public class RoleServiceImpl implements RoleService {
 
         Set<Long> toDelete = new HashSet<>(existPermissionIds);
         toDelete.removeAll(currentPermissionIds);
+        // Mappings are removed by permission id, so holders of other roles can lose them as well
+        Set<Long> affectedRoleIds =
+                new HashSet<>(rolePermissionMapper.selectRoleIdsByPermissionIds(toDelete));
+        affectedRoleIds.add(roleId);
         if (!CollectionUtil.isEmpty(toDelete)) {
             rolePermissionMapper.delete(
                     new LambdaQueryWrapper<RolePermissionDO>()
@@ -219,6 +238,9 @@ public class RoleServiceImpl implements RoleService {
                     });
         }
 
+        userCacheInvalidationPublisher.publishAllChanged();
+        permissionSessionRefresher.refreshAfterCommit(
+                userRoleMapper.selectUserIdsByRoleIds(affectedRoleIds));
         return convert(role);
     }
 
@@ -248,6 +270,8 @@ public class RoleServiceImpl implements RoleService {
 
         Set<Long> toDelete = new HashSet<>(existRoleIds);
         toDelete.removeAll(currentRoleIds);
+        Set<Long> affectedUserIds = new HashSet<>(userRoleMapper.selectUserIdsByRoleIds(toDelete));
+        affectedUserIds.add(reqVO.getUserId());
         if (CollectionUtil.isNotEmpty(toDelete)) {
             boolean isSuccess =
                     userRoleMapper.delete(
@@ -276,12 +300,43 @@ public class RoleServiceImpl implements RoleService {
                         }
                     });
         }
+        // user_role rows are removed by role id, so other users' cached roles may be stale too
+        userCacheInvalidationPublisher.publishAllChanged();
+        permissionSessionRefresher.refreshAfterCommit(affectedUserIds);
+    }
+
+    /** Convert roles, loading the permissions of all of them in one query */
+    private List<RoleRespVO> convertAll(List<RoleDO> roles) {
+        if (CollectionUtil.isEmpty(roles)) {
+            return new ArrayList<>();
+        }
+        List<Long> permissionIds =
+                roles.stream()
+                        .map(RoleDO::getPermissionList)
+                        .filter(CollectionUtil::isNotEmpty)
+                        .flatMap(List::stream)
+                        .distinct()
+                        .toList();
+        Map<Long, PermissionDO> permissions =
+                permissionIds.isEmpty()
+                        ? Map.of()
+                        : permissionMapper.selectBatchIds(permissionIds).stream()
+                                .collect(
+                                        Collectors.toMap(
+                                                PermissionDO::getId,
+                                                Function.identity(),
+                                                (a, b) -> a));
+        return roles.stream().map(role -> toRespVO(role, permissions)).toList();
     }
 
     private RoleRespVO convert(RoleDO role) {
         if (ObjUtil.isNull(role)) {
             return null;
         }
+        return convertAll(List.of(role)).get(0);
+    }
+
+    private RoleRespVO toRespVO(RoleDO role, Map<Long, PermissionDO> permissions) {
         RoleRespVO roleRespVO =
                 RoleRespVO.builder()
                         .id(role.getId())
@@ -292,9 +347,10 @@ public class RoleServiceImpl implements RoleService {
         if (CollectionUtil.isEmpty(role.getPermissionList())) {
             return roleRespVO;
         }
-        List<PermissionDO> permissions = permissionMapper.selectBatchIds(role.getPermissionList());
-        List<PermissionRespVO> permissionRespVOList =
-                permissions.stream()
+        roleRespVO.setPermissions(
+                role.getPermissionList().stream()
+                        .map(permissions::get)
+                        .filter(Objects::nonNull)
                         .map(
                                 permission ->
                                         PermissionRespVO.builder()
@@ -303,8 +359,7 @@ public class RoleServiceImpl implements RoleService {
                                                 .key(permission.getPermissionKey())
                                                 .description(permission.getDescription())
                                                 .build())
-                        .toList();
-        roleRespVO.setPermissions(permissionRespVOList);
+                        .toList());
         return roleRespVO;
     }
 }
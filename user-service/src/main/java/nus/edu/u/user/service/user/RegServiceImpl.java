@@ -29,7 +29,7 @@ import nus.edu.u.user.mapper.role.RolePermissionMapper;
 import nus.edu.u.user.mapper.tenant.TenantMapper;
 import nus.edu.u.user.mapper.user.UserMapper;
 import nus.edu.u.user.mapper.user.UserRoleMapper;
-import nus.edu.u.user.publisher.organizer.OrganizerNotificationPublisher;
+import nus.edu.u.user.publisher.cache.UserCacheInvalidationPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -56,6 +56,8 @@ public class RegServiceImpl implements RegService {
     @Resource private UserRoleMapper userRoleMapper;
 
     @Resource private PasswordEncoder passwordEncoder;
+
+    @Resource private UserCacheInvalidationPublisher userCacheInvalidationPublisher;
     // private final OrganizerNotificationPublisher organizerNotificationPublisher;
 
     public static final String ORGANIZER_REMARK = "Organizer account";
@@ -115,7 +117,12 @@ public class RegServiceImpl implements RegService {
         user.setPhone(regMemberReqVO.getPhone());
         user.setStatus(UserStatusEnum.ENABLE.getCode());
 
-        return userMapper.updateByIdWithoutTenant(user) > 0;
+        boolean updated = userMapper.updateByIdWithoutTenant(user) > 0;
+        if (updated) {
+            // Consumers may still hold the PENDING snapshot without a username
+            userCacheInvalidationPublisher.publishUsersChanged(List.of(user.getId()));
+        }
+        return updated;
     }
 
     @Override
@@ -70,8 +70,6 @@ public interface UserService {
 
     BulkUpsertUsersRespVO bulkUpsertUsers(List<CreateUserDTO> rawRows);
 
-    boolean tryCreateOrFallbackToUpdate(String email, String remark, List<Long> roleIds);
-
     List<Long> getAliveRoleIdsByUserId(Long userId);
 
     List<UserProfileRespVO> getEnabledUserProfiles();
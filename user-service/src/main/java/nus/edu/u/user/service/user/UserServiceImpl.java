@@ -7,8 +7,11 @@ import static nus.edu.u.framework.mybatis.MybatisPlusConfig.getCurrentTenantId;
 import cn.dev33.satoken.stp.StpUtil;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.baomidou.mybatisplus.core.toolkit.IdWorker;
 import com.baomidou.mybatisplus.core.toolkit.Wrappers;
+import com.google.common.collect.Lists;
 import jakarta.annotation.Resource;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
@@ -28,12 +31,14 @@ import nus.edu.u.user.enums.user.UserStatusEnum;
 import nus.edu.u.user.mapper.role.RoleMapper;
 import nus.edu.u.user.mapper.user.UserMapper;
 import nus.edu.u.user.mapper.user.UserRoleMapper;
+import nus.edu.u.user.publisher.cache.UserCacheInvalidationPublisher;
 import nus.edu.u.user.publisher.member.MemberNotificationPublisher;
-import org.springframework.context.annotation.Lazy;
+import nus.edu.u.user.service.auth.PermissionSessionRefresher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * User service implementation
@@ -56,14 +61,17 @@ public class UserServiceImpl implements UserService {
 
     @Resource private PasswordEncoder passwordEncoder;
 
-    // Self-injection proxy to avoid transaction enhancement failure caused by internal calls of
-    // similar methods
-    @Resource @Lazy private UserService self;
-
     private final MemberNotificationPublisher memberNotificationPublisher;
 
+    private final UserCacheInvalidationPublisher userCacheInvalidationPublisher;
+
+    private final PermissionSessionRefresher permissionSessionRefresher;
+
     private static final Set<Long> FORBIDDEN_ROLE_IDS = Set.of(1L);
 
+    /** Rows per lookup or multi-row statement in {@link #bulkUpsertUsers(List)} */
+    static final int BULK_BATCH_SIZE = 500;
+
     @Override
     public UserDO getUserByUsername(String username) {
         return userMapper.selectByUsername(username);
@@ -181,7 +189,9 @@ public class UserServiceImpl implements UserService {
                 if (n != targetList.size()) throw exception(ROLE_NOT_FOUND);
             }
             syncUserRoles(dto.getId(), targetList);
+            permissionSessionRefresher.refreshAfterCommit(List.of(dto.getId()));
         }
+        userCacheInvalidationPublisher.publishUsersChanged(List.of(dto.getId()));
         return userMapper.selectById(dto.getId());
     }
 
@@ -204,6 +214,7 @@ public class UserServiceImpl implements UserService {
                                 .eq(UserDO::getDeleted, false));
         if (rows <= 0) throw exception(UPDATE_FAILURE);
         userRoleMapper.delete(new LambdaQueryWrapper<UserRoleDO>().eq(UserRoleDO::getUserId, id));
+        userCacheInvalidationPublisher.publishUsersChanged(List.of(id));
     }
 
     @Override
@@ -229,6 +240,7 @@ public class UserServiceImpl implements UserService {
         if (rows <= 0) {
             throw exception(UPDATE_FAILURE);
         }
+        userCacheInvalidationPublisher.publishUsersChanged(List.of(id));
     }
 
     @Override
@@ -252,6 +264,7 @@ public class UserServiceImpl implements UserService {
         if (rows <= 0) {
             throw exception(USER_DISABLE_FAILURE);
         }
+        userCacheInvalidationPublisher.publishUsersChanged(List.of(id));
     }
 
     @Override
@@ -275,6 +288,7 @@ public class UserServiceImpl implements UserService {
         if (rows <= 0) {
             throw exception(USER_ENABLE_FAILURE);
         }
+        userCacheInvalidationPublisher.publishUsersChanged(List.of(id));
     }
 
     @Override
@@ -344,6 +358,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public BulkUpsertUsersRespVO bulkUpsertUsers(List<CreateUserDTO> rawRows) {
         if (rawRows == null || rawRows.isEmpty()) {
             return BulkUpsertUsersRespVO.builder()
@@ -355,41 +370,128 @@ public class UserServiceImpl implements UserService {
                     .build();
         }
 
-        int created = 0, updated = 0;
         List<BulkUpsertUsersRespVO.RowFailure> failures = new ArrayList<>();
 
+        // 1) Row-level validation
+        List<BulkRow> rows = new ArrayList<>(rawRows.size());
         for (CreateUserDTO raw : rawRows) {
             int rowIndex = raw.getRowIndex() != null ? raw.getRowIndex() : 0;
-            String rawEmail = raw.getEmail();
-
             try {
-                validateCreateArgs(rawEmail, raw.getRoleIds());
-
-                String email = normalizeEmail(rawEmail);
-                List<Long> roleIds = normalizeAndCheckRoles(raw.getRoleIds());
-                String remark = raw.getRemark();
-
-                boolean isCreated = self.tryCreateOrFallbackToUpdate(email, remark, roleIds);
-                if (isCreated) created++;
-                else updated++;
-
+                validateCreateArgs(raw.getEmail(), raw.getRoleIds());
+                rows.add(
+                        new BulkRow(
+                                rowIndex,
+                                raw.getEmail(),
+                                normalizeEmail(raw.getEmail()),
+                                raw.getRemark(),
+                                normalizeAndCheckRoles(raw.getRoleIds())));
             } catch (ServiceException e) {
+                failures.add(rowFailure(rowIndex, raw.getEmail(), e.getMessage()));
+            }
+        }
+
+        // 2) Every referenced role must exist, checked with one query
+        Set<Long> referencedRoleIds = new HashSet<>();
+        rows.forEach(row -> referencedRoleIds.addAll(row.roleIds()));
+        Set<Long> existingRoleIds = new HashSet<>();
+        if (!referencedRoleIds.isEmpty()) {
+            roleMapper
+                    .selectBatchIds(referencedRoleIds)
+                    .forEach(role -> existingRoleIds.add(role.getId()));
+        }
+        Map<String, List<BulkRow>> rowsByEmail = new LinkedHashMap<>();
+        for (BulkRow row : rows) {
+            if (!existingRoleIds.containsAll(row.roleIds())) {
                 failures.add(
-                        BulkUpsertUsersRespVO.RowFailure.builder()
-                                .rowIndex(rowIndex)
-                                .email(rawEmail)
-                                .reason(e.getMessage())
-                                .build());
-            } catch (Exception e) {
-                failures.add(
-                        BulkUpsertUsersRespVO.RowFailure.builder()
-                                .rowIndex(rowIndex)
-                                .email(rawEmail)
-                                .reason("INTERNAL_ERROR: " + e.getClass().getSimpleName())
-                                .build());
+                        rowFailure(
+                                row.rowIndex(),
+                                row.rawEmail(),
+                                exception(ROLE_NOT_FOUND).getMessage()));
+                continue;
             }
+            rowsByEmail.computeIfAbsent(row.email(), k -> new ArrayList<>()).add(row);
+        }
+
+        // 3) Split into inserts and updates against the users that already exist
+        Map<String, Long> existingIds = new HashMap<>();
+        for (List<String> emails :
+                Lists.partition(new ArrayList<>(rowsByEmail.keySet()), BULK_BATCH_SIZE)) {
+            userMapper
+                    .selectByEmails(emails)
+                    .forEach(
+                            user -> existingIds.put(normalizeEmail(user.getEmail()), user.getId()));
         }
 
+        // Rows repeating an email apply in file order: the first may create the user, later
+        // ones update it, so the last row's roles and last non-null remark win
+        String operator = StpUtil.getLoginIdAsString();
+        LocalDateTime now = LocalDateTime.now();
+        int created = 0, updated = 0;
+        List<UserDO> inserts = new ArrayList<>();
+        List<UserDO> remarkUpdates = new ArrayList<>();
+        List<Long> updatedIds = new ArrayList<>();
+        Map<Long, List<Long>> targetRoles = new LinkedHashMap<>();
+        for (Map.Entry<String, List<BulkRow>> entry : rowsByEmail.entrySet()) {
+            List<BulkRow> emailRows = entry.getValue();
+            BulkRow last = emailRows.get(emailRows.size() - 1);
+            String remark = null;
+            for (BulkRow row : emailRows) {
+                if (row.remark() != null) remark = row.remark();
+            }
+
+            Long userId = existingIds.get(entry.getKey());
+            if (userId == null) {
+                UserDO user =
+                        UserDO.builder()
+                                .id(IdWorker.getId())
+                                .email(entry.getKey())
+                                .remark(remark)
+                                .status(UserStatusEnum.PENDING.getCode())
+                                .build();
+                user.setCreator(operator);
+                user.setUpdater(operator);
+                user.setCreateTime(now);
+                user.setUpdateTime(now);
+                inserts.add(user);
+                userId = user.getId();
+                created++;
+                updated += emailRows.size() - 1;
+            } else {
+                if (remark != null) {
+                    remarkUpdates.add(UserDO.builder().id(userId).remark(remark).build());
+                }
+                updatedIds.add(userId);
+                updated += emailRows.size();
+            }
+            targetRoles.put(userId, last.roleIds());
+        }
+
+        // 4) Multi-row writes
+        for (List<UserDO> batch : Lists.partition(inserts, BULK_BATCH_SIZE)) {
+            userMapper.insertBatch(batch);
+        }
+        for (List<UserDO> batch : Lists.partition(remarkUpdates, BULK_BATCH_SIZE)) {
+            userMapper.updateRemarkBatch(batch, operator);
+        }
+        syncUserRoles(targetRoles, operator, now);
+
+        // 5) Invite new members and evict updated ones once the batch is committed
+        Long tenantId = getCurrentTenantId();
+        List<RegSearchReqDTO> invites =
+                inserts.stream()
+                        .map(
+                                user ->
+                                        RegSearchReqDTO.builder()
+                                                .organizationId(tenantId)
+                                                .userId(user.getId())
+                                                .recipientEmail(user.getEmail())
+                                                .build())
+                        .toList();
+        afterCommit(() -> invites.forEach(this::sendInviteQuietly));
+        userCacheInvalidationPublisher.publishUsersChanged(updatedIds);
+        permissionSessionRefresher.refreshAfterCommit(updatedIds);
+
+        failures.sort(Comparator.comparingInt(BulkUpsertUsersRespVO.RowFailure::getRowIndex));
         return BulkUpsertUsersRespVO.builder()
                 .totalRows(rawRows.size())
                 .createdCount(created)
@@ -399,43 +501,115 @@ public class UserServiceImpl implements UserService {
                 .build();
     }
 
-    @Override
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public boolean tryCreateOrFallbackToUpdate(String email, String remark, List<Long> roleIds) {
-        try {
-            // A) 先尝试创建
-            CreateUserDTO dto =
-                    CreateUserDTO.builder().email(email).remark(remark).roleIds(roleIds).build();
-            createUserWithRoleIds(dto);
-            return true;
-
-        } catch (ServiceException ex) {
-            if (Objects.equals(ex.getCode(), EMAIL_EXIST.getCode())) {
-                Long userId = userMapper.selectIdByEmail(email);
-                if (userId == null) {
-                    throw new ServiceException(NULL_USERID);
-                }
+    /**
+     * Set-based counterpart of {@link #syncUserRoles(Long, List)} for many users: the current
+     * relations of all users are read at once, then redundant ones are deleted, historical ones
+     * revived and the rest inserted, each with one statement per batch.
+     */
+    private void syncUserRoles(
+            Map<Long, List<Long>> targetRoles, String operator, LocalDateTime now) {
+        if (targetRoles.isEmpty()) {
+            return;
+        }
+        Map<Long, List<UserRoleDO>> relationsByUser = new HashMap<>();
+        for (List<Long> userIds :
+                Lists.partition(new ArrayList<>(targetRoles.keySet()), BULK_BATCH_SIZE)) {
+            userRoleMapper
+                    .selectRawByUserIds(userIds)
+                    .forEach(
+                            ur ->
+                                    relationsByUser
+                                            .computeIfAbsent(ur.getUserId(), k -> new ArrayList<>())
+                                            .add(ur));
+        }
+
+        List<Long> toRemove = new ArrayList<>();
+        List<Long> toRevive = new ArrayList<>();
+        List<UserRoleDO> toInsert = new ArrayList<>();
+        targetRoles.forEach(
+                (userId, roleIds) -> {
+                    Set<Long> target = new HashSet<>(roleIds);
+                    Set<Long> alive = new HashSet<>();
+                    Map<Long, Long> revivable = new HashMap<>();
+                    for (UserRoleDO ur :
+                            relationsByUser.getOrDefault(userId, Collections.emptyList())) {
+                        if (Boolean.TRUE.equals(ur.getDeleted())) {
+                            revivable.putIfAbsent(ur.getRoleId(), ur.getId());
+                        } else if (target.contains(ur.getRoleId())) {
+                            alive.add(ur.getRoleId());
+                        } else {
+                            toRemove.add(ur.getId());
+                        }
+                    }
+                    for (Long roleId : target) {
+                        if (alive.contains(roleId)) {
+                            continue;
+                        }
+                        Long historical = revivable.get(roleId);
+                        if (historical != null) {
+                            toRevive.add(historical);
+                        } else {
+                            UserRoleDO ur =
+                                    UserRoleDO.builder()
+                                            .id(IdWorker.getId())
+                                            .userId(userId)
+                                            .roleId(roleId)
+                                            .build();
+                            ur.setCreator(operator);
+                            ur.setUpdater(operator);
+                            ur.setCreateTime(now);
+                            ur.setUpdateTime(now);
+                            toInsert.add(ur);
+                        }
+                    }
+                });
+
+        for (List<Long> ids : Lists.partition(toRemove, BULK_BATCH_SIZE)) {
+            userRoleMapper.updateDeletedByIds(ids, true, operator);
+        }
+        for (List<Long> ids : Lists.partition(toRevive, BULK_BATCH_SIZE)) {
+            userRoleMapper.updateDeletedByIds(ids, false, operator);
+        }
+        for (List<UserRoleDO> batch : Lists.partition(toInsert, BULK_BATCH_SIZE)) {
+            userRoleMapper.insertBatch(batch);
+        }
+    }
 
-                validateUpdateArgs(roleIds);
+    private void sendInviteQuietly(RegSearchReqDTO req) {
+        try {
+            memberNotificationPublisher.sendMemberInviteEmail(req);
+        } catch (Exception e) {
+            log.warn("Failed to send invite to {}: {}", req.getRecipientEmail(), e.getMessage());
+        }
+    }
 
-                UpdateUserDTO u =
-                        UpdateUserDTO.builder()
-                                .id(userId)
-                                .email(null)
-                                .remark(remark)
-                                .roleIds(roleIds)
-                                .build();
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+    }
 
-                updateUserWithRoleIds(u);
-                return false;
-            }
-            // Other business exceptions (such as ROLE_NOT_FOUND) continue to be thrown to the outer
-            // layer
-            // to record failure
-            throw ex;
-        }
+    private static BulkUpsertUsersRespVO.RowFailure rowFailure(
+            int rowIndex, String email, String reason) {
+        return BulkUpsertUsersRespVO.RowFailure.builder()
+                .rowIndex(rowIndex)
+                .email(email)
+                .reason(reason)
+                .build();
     }
 
+    /** A validated import row */
+    private record BulkRow(
+            int rowIndex, String rawEmail, String email, String remark, List<Long> roleIds) {}
+
     @Override
     public List<Long> getAliveRoleIdsByUserId(Long userId) {
         return userRoleMapper.selectRoleIdsByUserId(userId);
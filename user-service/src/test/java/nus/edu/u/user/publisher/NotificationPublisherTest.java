@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.cloud.spring.pubsub.core.PubSubTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import nus.edu.u.shared.rpc.notification.dto.common.NotificationRequestDTO;
@@ -28,12 +29,14 @@ class NotificationPublisherTest {
     @Mock private PubSubTemplate pubSubTemplate;
 
     private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
     private NotificationPublisher publisher;
 
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        publisher = new NotificationPublisher(pubSubTemplate, objectMapper);
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new NotificationPublisher(pubSubTemplate, objectMapper, meterRegistry);
     }
 
     @Test
@@ -52,6 +55,13 @@ class NotificationPublisherTest {
         String messageId = publisher.publish(req);
 
         assertThat(messageId).isNotNull();
+        assertThat(
+                        meterRegistry
+                                .get(NotificationPublisher.METRIC_NAME)
+                                .tag("outcome", "success")
+                                .timer()
+                                .count())
+                .isEqualTo(1);
         ArgumentCaptor<String> payloadCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Map<String, String>> attrsCaptor = ArgumentCaptor.forClass(Map.class);
         verify(pubSubTemplate)
@@ -3,11 +3,13 @@ package nus.edu.u.user.service.auth;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import cn.dev33.satoken.context.mock.SaTokenContextMockUtil;
 import cn.dev33.satoken.stp.StpUtil;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import nus.edu.u.common.enums.CommonStatusEnum;
@@ -29,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -40,6 +43,9 @@ class AuthServiceImplTest {
     @Mock private UserService userService;
     @Mock private TokenService tokenService;
     @Mock private RoleService roleService;
+    @Mock private PermissionSessionRefresher permissionSessionRefresher;
+
+    @Spy private LoginInfoCache loginInfoCache = new LoginInfoCache(Duration.ofMinutes(1), 100);
 
     @InjectMocks private AuthServiceImpl service;
 
@@ -135,7 +141,8 @@ class AuthServiceImplTest {
         UserPermissionDTO permission = new UserPermissionDTO();
         permission.setPermissionKey("perm");
         when(userService.getUserPermissions(20L)).thenReturn(List.of(permission));
-        when(roleService.getRole(1L)).thenReturn(RoleRespVO.builder().id(1L).name("Admin").build());
+        when(roleService.getRoles(List.of(1L)))
+                .thenReturn(List.of(RoleRespVO.builder().id(1L).name("Admin").build()));
 
         LoginRespVO resp = service.login(req);
 
@@ -166,12 +173,49 @@ class AuthServiceImplTest {
                         .build();
         when(userService.selectUserWithRole(40L)).thenReturn(userRole);
         when(userService.getUserPermissions(40L)).thenReturn(List.of());
-        when(roleService.getRole(1L))
-                .thenReturn(RoleRespVO.builder().id(1L).name("Member").build());
+        when(roleService.getRoles(List.of(1L)))
+                .thenReturn(List.of(RoleRespVO.builder().id(1L).name("Member").build()));
 
         LoginRespVO resp = service.refresh("refresh");
 
         assertThat(resp.getUser().getId()).isEqualTo(40L);
+        assertThat(resp.getRoles()).extracting(RoleRespVO::getName).containsExactly("Member");
+    }
+
+    @Test
+    void refresh_whenLoggedIn_servesRepeatedCallsFromCache() {
+        StpUtil.login(41L);
+        UserRoleDTO userRole =
+                UserRoleDTO.builder()
+                        .userId(41L)
+                        .roles(List.of(RoleDTO.builder().id(1L).roleKey("MEMBER").build()))
+                        .build();
+        when(userService.selectUserWithRole(41L)).thenReturn(userRole);
+        when(userService.getUserPermissions(41L)).thenReturn(List.of());
+        when(roleService.getRoles(List.of(1L))).thenReturn(List.of());
+
+        service.refresh("first");
+        LoginRespVO resp = service.refresh("second");
+
+        assertThat(resp.getRefreshToken()).isEqualTo("second");
+        assertThat(resp.getUser().getId()).isEqualTo(41L);
+        verify(userService, times(1)).selectUserWithRole(41L);
+        verify(userService, times(1)).getUserPermissions(41L);
+        verify(permissionSessionRefresher, times(1)).store(any(), any(), any());
+    }
+
+    @Test
+    void refresh_afterInvalidation_reloads() {
+        StpUtil.login(42L);
+        UserRoleDTO userRole = UserRoleDTO.builder().userId(42L).roles(List.of()).build();
+        when(userService.selectUserWithRole(42L)).thenReturn(userRole);
+        when(userService.getUserPermissions(42L)).thenReturn(List.of());
+
+        service.refresh("refresh");
+        loginInfoCache.invalidate("42");
+        service.refresh("refresh");
+
+        verify(userService, times(2)).selectUserWithRole(42L);
     }
 
     @Test
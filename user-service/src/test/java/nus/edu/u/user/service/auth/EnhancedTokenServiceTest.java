@@ -0,0 +1,103 @@
+package nus.edu.u.user.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class EnhancedTokenServiceTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+
+    @InjectMocks private EnhancedTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "refreshTokenExpireSeconds", 600L);
+    }
+
+    @Test
+    void rotateRefreshToken_rotatesInOneScriptCall() {
+        stubScript(List.of(1L, "7:family"));
+
+        EnhancedTokenService.RefreshResult result = service.rotateRefreshToken("old");
+
+        assertThat(result.isReuseDetected()).isFalse();
+        assertThat(result.getUserId()).isEqualTo(7L);
+        assertThat(result.getFamilyId()).isEqualTo("family");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(redisTemplate)
+                .execute(
+                        any(RedisScript.class),
+                        keys.capture(),
+                        eq("auth:refresh_family:"),
+                        eq("old"),
+                        eq(result.getNewRefreshToken()),
+                        eq("600"));
+        assertThat(keys.getValue())
+                .containsExactly(
+                        "Authorization:login:refresh_token:old",
+                        "Authorization:login:refresh_token:" + result.getNewRefreshToken());
+    }
+
+    @Test
+    void rotateRefreshToken_whenNotActiveInFamily_reportsReuse() {
+        stubScript(List.of(2L, "7:family"));
+
+        EnhancedTokenService.RefreshResult result = service.rotateRefreshToken("old");
+
+        assertThat(result.isReuseDetected()).isTrue();
+        assertThat(result.getFamilyId()).isEqualTo("family");
+        assertThat(result.getNewRefreshToken()).isNull();
+    }
+
+    @Test
+    void rotateRefreshToken_whenTokenGone_returnsNull() {
+        stubScript(List.of());
+
+        assertThat(service.rotateRefreshToken("old")).isNull();
+    }
+
+    @Test
+    void rotateRefreshToken_whenValueMalformed_returnsNull() {
+        stubScript(List.of(0L, "garbage"));
+
+        assertThat(service.rotateRefreshToken("old")).isNull();
+    }
+
+    @Test
+    void rotateRefreshToken_blankToken_skipsRedis() {
+        assertThat(service.rotateRefreshToken("")).isNull();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubScript(List<Object> reply) {
+        when(redisTemplate.execute(
+                        any(RedisScript.class),
+                        anyList(),
+                        anyString(),
+                        anyString(),
+                        anyString(),
+                        anyString()))
+                .thenReturn(reply);
+    }
+}
@@ -0,0 +1,84 @@
+package nus.edu.u.user.service.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import nus.edu.u.user.domain.vo.auth.UserVO;
+import nus.edu.u.user.service.auth.LoginInfoCache.LoginInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LoginInfoCacheTest {
+
+    private LoginInfoCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LoginInfoCache(Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    void load_whenOtherUserInvalidatedMeanwhile_stillCaches() {
+        LoginInfo info = info(1L);
+
+        cache.load(
+                1L,
+                () -> {
+                    cache.invalidate("2");
+                    return info;
+                });
+
+        assertThat(cache.getIfPresent(1L)).isSameAs(info);
+    }
+
+    @Test
+    void load_whenSameUserInvalidatedMeanwhile_doesNotCache() {
+        cache.load(
+                1L,
+                () -> {
+                    cache.invalidate("2,1");
+                    return info(1L);
+                });
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    void load_whenFlushedMeanwhile_doesNotCache() {
+        cache.load(
+                1L,
+                () -> {
+                    cache.invalidate("*");
+                    return info(1L);
+                });
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    void invalidate_evictsListedUsersOnly() {
+        cache.load(1L, () -> info(1L));
+        cache.load(2L, () -> info(2L));
+
+        cache.invalidate("1");
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.getIfPresent(2L)).isNotNull();
+    }
+
+    @Test
+    void invalidate_malformedPayload_flushesEverything() {
+        cache.load(1L, () -> info(1L));
+        cache.load(2L, () -> info(2L));
+
+        cache.invalidate("1,abc");
+
+        assertThat(cache.getIfPresent(1L)).isNull();
+        assertThat(cache.getIfPresent(2L)).isNull();
+    }
+
+    private static LoginInfo info(Long userId) {
+        return new LoginInfo(UserVO.builder().id(userId).build(), List.of());
+    }
+}
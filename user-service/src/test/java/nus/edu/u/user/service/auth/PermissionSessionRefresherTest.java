@@ -0,0 +1,119 @@
+package nus.edu.u.user.service.auth;
+
+import static nus.edu.u.common.constant.CacheConstants.USER_PERMISSION_KEY;
+import static nus.edu.u.common.constant.CacheConstants.USER_ROLE_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import cn.dev33.satoken.context.mock.SaTokenContextMockUtil;
+import cn.dev33.satoken.stp.StpUtil;
+import java.util.List;
+import nus.edu.u.framework.security.satoken.PermissionSnapshotCache;
+import nus.edu.u.user.domain.dto.RoleDTO;
+import nus.edu.u.user.domain.dto.UserPermissionDTO;
+import nus.edu.u.user.domain.dto.UserRoleDTO;
+import nus.edu.u.user.mapper.user.UserMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PermissionSessionRefresherTest {
+
+    @Mock private UserMapper userMapper;
+    @Mock private StringRedisTemplate stringRedisTemplate;
+
+    @InjectMocks private PermissionSessionRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        SaTokenContextMockUtil.setMockContext();
+        StpUtil.login(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        StpUtil.logout(1L);
+        SaTokenContextMockUtil.clearContext();
+    }
+
+    @Test
+    void refreshAfterCommit_rewritesLiveSessionsAndPublishesTheirIds() {
+        when(userMapper.selectUserWithRole(1L)).thenReturn(userRole(1L, "MEMBER"));
+        when(userMapper.selectUserWithPermission(1L))
+                .thenReturn(List.of(permission("system:view")));
+
+        refresher.refreshAfterCommit(List.of(1L, 2L));
+
+        assertThat(StpUtil.getSessionByLoginId(1L).get(USER_ROLE_KEY)).isEqualTo(List.of("MEMBER"));
+        assertThat(StpUtil.getSessionByLoginId(1L).get(USER_PERMISSION_KEY))
+                .isEqualTo(List.of("system:view"));
+        // User 2 has no live session and picks the change up on next login
+        verify(userMapper, never()).selectUserWithRole(2L);
+        verify(stringRedisTemplate).convertAndSend(PermissionSnapshotCache.CHANGE_CHANNEL, "1,2");
+    }
+
+    @Test
+    void refreshAfterCommit_withoutLiveSessions_stillEvictsSnapshots() {
+        refresher.refreshAfterCommit(List.of(2L, 3L));
+
+        verify(userMapper, never()).selectUserWithRole(anyLong());
+        // Snapshots of an earlier session may still be cached on other nodes
+        verify(stringRedisTemplate).convertAndSend(PermissionSnapshotCache.CHANGE_CHANNEL, "2,3");
+    }
+
+    @Test
+    void store_firstWriteToNewSession_publishesNothing() {
+        refresher.store(StpUtil.getSession(), userRole(1L, "ORGANIZER"), List.of());
+
+        assertThat(StpUtil.getSession().get(USER_ROLE_KEY)).isEqualTo(List.of("ORGANIZER"));
+        assertThat(StpUtil.getSession().get(USER_PERMISSION_KEY)).isEqualTo(List.of());
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void store_writesListsAndEvictsStaleSnapshots() {
+        StpUtil.getSession().set(USER_ROLE_KEY, List.of("MEMBER"));
+        StpUtil.getSession().set(USER_PERMISSION_KEY, List.of());
+
+        refresher.store(StpUtil.getSession(), userRole(1L, "ORGANIZER"), List.of());
+
+        assertThat(StpUtil.getSession().get(USER_ROLE_KEY)).isEqualTo(List.of("ORGANIZER"));
+        assertThat(StpUtil.getSession().get(USER_PERMISSION_KEY)).isEqualTo(List.of());
+        verify(stringRedisTemplate).convertAndSend(PermissionSnapshotCache.CHANGE_CHANNEL, "1");
+    }
+
+    @Test
+    void store_whenListsUnchanged_skipsWriteAndPublish() {
+        StpUtil.getSession().set(USER_ROLE_KEY, List.of("ORGANIZER"));
+        refresher.store(StpUtil.getSession(), userRole(1L, "MEMBER"), List.of());
+
+        refresher.store(StpUtil.getSession(), userRole(1L, "MEMBER"), List.of());
+
+        verify(stringRedisTemplate, times(1))
+                .convertAndSend(PermissionSnapshotCache.CHANGE_CHANNEL, "1");
+    }
+
+    private static UserPermissionDTO permission(String key) {
+        UserPermissionDTO permission = new UserPermissionDTO();
+        permission.setPermissionKey(key);
+        return permission;
+    }
+
+    private static UserRoleDTO userRole(Long userId, String roleKey) {
+        return UserRoleDTO.builder()
+                .userId(userId)
+                .roles(List.of(RoleDTO.builder().roleKey(roleKey).build()))
+                .build();
+    }
+}
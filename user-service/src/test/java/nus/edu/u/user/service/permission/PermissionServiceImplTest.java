@@ -3,6 +3,8 @@ package nus.edu.u.user.service.permission;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -13,6 +15,8 @@ import nus.edu.u.user.domain.vo.permission.PermissionReqVO;
 import nus.edu.u.user.domain.vo.permission.PermissionRespVO;
 import nus.edu.u.user.mapper.permission.PermissionMapper;
 import nus.edu.u.user.mapper.role.RolePermissionMapper;
+import nus.edu.u.user.mapper.user.UserRoleMapper;
+import nus.edu.u.user.service.auth.PermissionSessionRefresher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,6 +32,8 @@ class PermissionServiceImplTest {
 
     @Mock private PermissionMapper permissionMapper;
     @Mock private RolePermissionMapper rolePermissionMapper;
+    @Mock private UserRoleMapper userRoleMapper;
+    @Mock private PermissionSessionRefresher permissionSessionRefresher;
 
     @InjectMocks private PermissionServiceImpl service;
 
@@ -117,6 +123,31 @@ class PermissionServiceImplTest {
         assertThat(vo.getName()).isEqualTo("View Dashboard");
     }
 
+    @Test
+    void updatePermission_whenKeyRenamed_refreshesHolderSessions() {
+        when(permissionMapper.selectById(3L))
+                .thenReturn(PermissionDO.builder().id(3L).permissionKey("system:old").build());
+        when(permissionMapper.updateById(any(PermissionDO.class))).thenReturn(1);
+        when(rolePermissionMapper.selectRoleIdsByPermissionIds(List.of(3L)))
+                .thenReturn(List.of(7L));
+        when(userRoleMapper.selectUserIdsByRoleIds(List.of(7L))).thenReturn(List.of(1L, 2L));
+
+        service.updatePermission(3L, reqVO);
+
+        verify(permissionSessionRefresher).refreshAfterCommit(List.of(1L, 2L));
+    }
+
+    @Test
+    void updatePermission_whenKeyUnchanged_leavesSessions() {
+        when(permissionMapper.selectById(3L))
+                .thenReturn(PermissionDO.builder().id(3L).permissionKey("system:view").build());
+        when(permissionMapper.updateById(any(PermissionDO.class))).thenReturn(1);
+
+        service.updatePermission(3L, reqVO);
+
+        verifyNoInteractions(permissionSessionRefresher);
+    }
+
     @Test
     void deletePermission_whenBoundToRole_throws() {
         when(rolePermissionMapper.selectList(any()))
@@ -12,6 +12,7 @@ import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import nus.edu.u.common.exception.ServiceException;
 import nus.edu.u.user.domain.dataobject.permission.PermissionDO;
 import nus.edu.u.user.domain.dataobject.role.RoleDO;
@@ -26,7 +27,9 @@ import nus.edu.u.user.mapper.permission.PermissionMapper;
 import nus.edu.u.user.mapper.role.RoleMapper;
 import nus.edu.u.user.mapper.role.RolePermissionMapper;
 import nus.edu.u.user.mapper.user.UserRoleMapper;
+import nus.edu.u.user.publisher.cache.UserCacheInvalidationPublisher;
 import nus.edu.u.user.service.auth.AuthService;
+import nus.edu.u.user.service.auth.PermissionSessionRefresher;
 import nus.edu.u.user.service.user.UserService;
 import org.apache.ibatis.builder.MapperBuilderAssistant;
 import org.junit.jupiter.api.BeforeAll;
@@ -49,6 +52,8 @@ class RoleServiceImplTest {
     @Mock private UserRoleMapper userRoleMapper;
     @Mock private UserService userService;
     @Mock private AuthService authService;
+    @Mock private UserCacheInvalidationPublisher userCacheInvalidationPublisher;
+    @Mock private PermissionSessionRefresher permissionSessionRefresher;
 
     @InjectMocks private RoleServiceImpl service;
 
@@ -152,6 +157,27 @@ class RoleServiceImplTest {
                 .satisfies(p -> assertThat(p.getName()).isEqualTo("View"));
     }
 
+    @Test
+    void getRoles_loadsRolesAndPermissionsInOneQueryEach() {
+        RoleDO member =
+                RoleDO.builder().id(1L).roleKey("MEMBER").permissionList(List.of(7L)).build();
+        RoleDO reviewer =
+                RoleDO.builder().id(2L).roleKey("REVIEWER").permissionList(List.of(7L, 8L)).build();
+        when(roleMapper.selectBatchIds(List.of(2L, 1L, 3L))).thenReturn(List.of(member, reviewer));
+        when(permissionMapper.selectBatchIds(List.of(7L, 8L)))
+                .thenReturn(
+                        List.of(
+                                PermissionDO.builder().id(7L).permissionKey("system:a").build(),
+                                PermissionDO.builder().id(8L).permissionKey("system:b").build()));
+
+        List<RoleRespVO> roles = service.getRoles(List.of(2L, 1L, 3L));
+
+        assertThat(roles).extracting(RoleRespVO::getId).containsExactly(2L, 1L);
+        assertThat(roles.get(0).getPermissions()).hasSize(2);
+        assertThat(roles.get(1).getIsDefault()).isTrue();
+        verify(permissionMapper, times(1)).selectBatchIds(any());
+    }
+
     @Test
     void deleteRole_whenAssignedUsers_throws() {
         RoleDO role = RoleDO.builder().id(7L).roleKey("CUSTOM").build();
@@ -199,6 +225,27 @@ class RoleServiceImplTest {
         assertThat(resp.getName()).isEqualTo("Reviewer");
     }
 
+    @Test
+    void updateRole_refreshesSessionsOfAffectedRoles() {
+        RoleDO role =
+                RoleDO.builder()
+                        .id(9L)
+                        .name("Reviewer")
+                        .roleKey("REVIEWER")
+                        .permissionList(new ArrayList<>(List.of(1L, 3L)))
+                        .build();
+        when(roleMapper.selectById(9L)).thenReturn(role);
+        when(roleMapper.updateById(any(RoleDO.class))).thenReturn(1);
+        when(rolePermissionMapper.insert(any(RolePermissionDO.class))).thenReturn(1);
+        when(rolePermissionMapper.selectRoleIdsByPermissionIds(Set.of(3L)))
+                .thenReturn(List.of(9L, 12L));
+        when(userRoleMapper.selectUserIdsByRoleIds(Set.of(9L, 12L))).thenReturn(List.of(5L, 6L));
+
+        service.updateRole(9L, reqVO);
+
+        verify(permissionSessionRefresher).refreshAfterCommit(List.of(5L, 6L));
+    }
+
     @Test
     void assignRoles_updatesBindings() {
         RoleAssignReqVO assignReq = new RoleAssignReqVO();
@@ -223,6 +270,26 @@ class RoleServiceImplTest {
         service.assignRoles(assignReq);
 
         verify(userRoleMapper).insert(any(UserRoleDO.class));
+        verify(userCacheInvalidationPublisher).publishAllChanged();
+    }
+
+    @Test
+    void assignRoles_refreshesTargetAndFormerHolderSessions() {
+        RoleAssignReqVO assignReq = new RoleAssignReqVO();
+        assignReq.setUserId(1L);
+        assignReq.setRoles(List.of());
+        UserRoleDTO userRole =
+                UserRoleDTO.builder()
+                        .userId(1L)
+                        .roles(List.of(RoleDTO.builder().id(10L).roleKey("EXIST").build()))
+                        .build();
+        when(userService.selectUserWithRole(1L)).thenReturn(userRole);
+        when(userRoleMapper.selectUserIdsByRoleIds(Set.of(10L))).thenReturn(List.of(1L, 4L));
+        when(userRoleMapper.delete(any())).thenReturn(2);
+
+        service.assignRoles(assignReq);
+
+        verify(permissionSessionRefresher).refreshAfterCommit(Set.of(1L, 4L));
     }
 
     @Test
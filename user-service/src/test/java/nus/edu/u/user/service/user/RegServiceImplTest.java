@@ -6,9 +6,12 @@ import static nus.edu.u.common.enums.ErrorCodeConstants.REG_FAIL;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import java.util.List;
 import nus.edu.u.common.exception.ServiceException;
 import nus.edu.u.user.domain.dataobject.permission.PermissionDO;
 import nus.edu.u.user.domain.dataobject.role.RoleDO;
@@ -27,6 +30,7 @@ import nus.edu.u.user.mapper.role.RolePermissionMapper;
 import nus.edu.u.user.mapper.tenant.TenantMapper;
 import nus.edu.u.user.mapper.user.UserMapper;
 import nus.edu.u.user.mapper.user.UserRoleMapper;
+import nus.edu.u.user.publisher.cache.UserCacheInvalidationPublisher;
 import nus.edu.u.user.publisher.organizer.OrganizerNotificationPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -49,6 +53,7 @@ class RegServiceImplTest {
     @Mock private UserRoleMapper userRoleMapper;
     @Mock private PasswordEncoder passwordEncoder;
     @Mock private OrganizerNotificationPublisher organizerNotificationPublisher;
+    @Mock private UserCacheInvalidationPublisher userCacheInvalidationPublisher;
 
     @InjectMocks private RegServiceImpl service;
 
@@ -66,6 +71,8 @@ class RegServiceImplTest {
         ReflectionTestUtils.setField(service, "roleMapper", roleMapper);
         ReflectionTestUtils.setField(service, "userRoleMapper", userRoleMapper);
         ReflectionTestUtils.setField(service, "passwordEncoder", passwordEncoder);
+        ReflectionTestUtils.setField(
+                service, "userCacheInvalidationPublisher", userCacheInvalidationPublisher);
     }
 
     @Test
@@ -147,6 +154,19 @@ class RegServiceImplTest {
         assertThat(pending.getUsername()).isEqualTo("new-user");
         assertThat(pending.getPassword()).isEqualTo("ENCODED");
         assertThat(pending.getStatus()).isEqualTo(UserStatusEnum.ENABLE.getCode());
+        verify(userCacheInvalidationPublisher).publishUsersChanged(List.of(userId));
+    }
+
+    @Test
+    void registerAsMember_whenUpdateMissesRow_doesNotInvalidate() {
+        RegMemberReqVO request = RegMemberReqVO.builder().userId(userId).password("pw").build();
+        UserDO pending =
+                UserDO.builder().id(userId).status(UserStatusEnum.PENDING.getCode()).build();
+        when(userMapper.selectByIdWithoutTenant(userId)).thenReturn(pending);
+        when(userMapper.updateByIdWithoutTenant(pending)).thenReturn(0);
+
+        assertThat(service.registerAsMember(request)).isFalse();
+        verify(userCacheInvalidationPublisher, never()).publishUsersChanged(any());
     }
 
     @Test
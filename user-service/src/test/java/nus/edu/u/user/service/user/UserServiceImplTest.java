@@ -3,12 +3,11 @@ package nus.edu.u.user.service.user;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,7 +20,7 @@ import java.util.List;
 import nus.edu.u.common.constant.Constants;
 import nus.edu.u.common.enums.ErrorCodeConstants;
 import nus.edu.u.common.exception.ServiceException;
-import nus.edu.u.common.utils.exception.ServiceExceptionUtil;
+import nus.edu.u.user.domain.dataobject.role.RoleDO;
 import nus.edu.u.user.domain.dataobject.user.UserDO;
 import nus.edu.u.user.domain.dataobject.user.UserRoleDO;
 import nus.edu.u.user.domain.dto.CreateUserDTO;
@@ -39,6 +38,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -48,6 +48,7 @@ import org.mockito.quality.Strictness;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
+@SuppressWarnings("unchecked")
 @MockitoSettings(strictness = Strictness.LENIENT)
 class UserServiceImplTest {
 
@@ -61,6 +62,12 @@ class UserServiceImplTest {
     @Mock
     private nus.edu.u.user.publisher.member.MemberNotificationPublisher memberNotificationPublisher;
 
+    @Mock
+    private nus.edu.u.user.publisher.cache.UserCacheInvalidationPublisher
+            userCacheInvalidationPublisher;
+
+    @Mock private nus.edu.u.user.service.auth.PermissionSessionRefresher permissionSessionRefresher;
+
     @BeforeAll
     static void initTableInfo() {
         MybatisConfiguration configuration = new MybatisConfiguration();
@@ -71,7 +78,6 @@ class UserServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(service, "self", service);
         ReflectionTestUtils.setField(service, "userMapper", userMapper);
         ReflectionTestUtils.setField(service, "userRoleMapper", userRoleMapper);
         ReflectionTestUtils.setField(service, "roleMapper", roleMapper);
@@ -415,6 +421,7 @@ class UserServiceImplTest {
         service.softDeleteUser(5L);
 
         verify(userRoleMapper).delete(any());
+        verify(userCacheInvalidationPublisher).publishUsersChanged(List.of(5L));
     }
 
     @Test
@@ -724,47 +731,103 @@ class UserServiceImplTest {
     }
 
     @Test
-    void bulkUpsertUsers_countsCreatedAndUpdated() {
+    void bulkUpsertUsers_insertsNewAndUpdatesExistingInBatches() {
         CreateUserDTO row1 =
                 CreateUserDTO.builder()
-                        .email("new@example.com")
+                        .email("New@Example.com")
+                        .remark("fresh")
                         .roleIds(List.of(10L))
                         .rowIndex(1)
                         .build();
         CreateUserDTO row2 =
                 CreateUserDTO.builder()
                         .email("existing@example.com")
+                        .remark("again")
                         .roleIds(List.of(12L))
                         .rowIndex(2)
                         .build();
-
-        doReturn(true, false)
-                .when(service)
-                .tryCreateOrFallbackToUpdate(anyString(), any(), anyList());
+        when(roleMapper.selectBatchIds(anyCollection())).thenReturn(List.of(role(10L), role(12L)));
+        UserDO existing = UserDO.builder().id(3000L).email("existing@example.com").build();
+        when(userMapper.selectByEmails(anyCollection())).thenReturn(List.of(existing));
+        when(userRoleMapper.selectRawByUserIds(anyCollection()))
+                .thenReturn(
+                        List.of(userRole(1L, 3000L, 11L, false), userRole(2L, 3000L, 12L, true)));
 
         BulkUpsertUsersRespVO resp = service.bulkUpsertUsers(List.of(row1, row2));
 
         assertThat(resp.getCreatedCount()).isEqualTo(1);
         assertThat(resp.getUpdatedCount()).isEqualTo(1);
         assertThat(resp.getFailedCount()).isEqualTo(0);
+
+        ArgumentCaptor<List<UserDO>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(userMapper).insertBatch(inserted.capture());
+        UserDO created = inserted.getValue().get(0);
+        assertThat(created.getEmail()).isEqualTo("new@example.com");
+        assertThat(created.getStatus()).isEqualTo(UserStatusEnum.PENDING.getCode());
+        assertThat(created.getId()).isNotNull();
+
+        ArgumentCaptor<List<UserDO>> remarks = ArgumentCaptor.forClass(List.class);
+        verify(userMapper).updateRemarkBatch(remarks.capture(), eq("999"));
+        assertThat(remarks.getValue()).extracting(UserDO::getRemark).containsExactly("again");
+
+        // Existing user: role 11 dropped, historical role 12 revived; new user: role 10 inserted
+        verify(userRoleMapper).updateDeletedByIds(List.of(1L), true, "999");
+        verify(userRoleMapper).updateDeletedByIds(List.of(2L), false, "999");
+        ArgumentCaptor<List<UserRoleDO>> roles = ArgumentCaptor.forClass(List.class);
+        verify(userRoleMapper).insertBatch(roles.capture());
+        assertThat(roles.getValue())
+                .singleElement()
+                .satisfies(
+                        ur -> {
+                            assertThat(ur.getUserId()).isEqualTo(created.getId());
+                            assertThat(ur.getRoleId()).isEqualTo(10L);
+                        });
+
+        verify(memberNotificationPublisher).sendMemberInviteEmail(any());
+        verify(userCacheInvalidationPublisher).publishUsersChanged(List.of(3000L));
+        verify(userMapper, never()).insert(any(UserDO.class));
+    }
+
+    @Test
+    void bulkUpsertUsers_repeatedEmailCreatesOnceAndLastRowWins() {
+        CreateUserDTO first =
+                CreateUserDTO.builder()
+                        .email("dup@example.com")
+                        .roleIds(List.of(10L))
+                        .rowIndex(1)
+                        .build();
+        CreateUserDTO second =
+                CreateUserDTO.builder()
+                        .email("DUP@example.com")
+                        .roleIds(List.of(12L))
+                        .rowIndex(2)
+                        .build();
+        when(roleMapper.selectBatchIds(anyCollection())).thenReturn(List.of(role(10L), role(12L)));
+
+        BulkUpsertUsersRespVO resp = service.bulkUpsertUsers(List.of(first, second));
+
+        assertThat(resp.getCreatedCount()).isEqualTo(1);
+        assertThat(resp.getUpdatedCount()).isEqualTo(1);
+        ArgumentCaptor<List<UserRoleDO>> roles = ArgumentCaptor.forClass(List.class);
+        verify(userRoleMapper).insertBatch(roles.capture());
+        assertThat(roles.getValue()).extracting(UserRoleDO::getRoleId).containsExactly(12L);
     }
 
     @Test
-    void bulkUpsertUsers_recordsFailureWhenServiceThrowsRuntime() {
+    void bulkUpsertUsers_recordsFailureForUnknownRole() {
         CreateUserDTO row =
                 CreateUserDTO.builder()
                         .email("user@example.com")
-                        .roleIds(List.of(10L))
+                        .roleIds(List.of(10L, 99L))
                         .rowIndex(4)
                         .build();
-        doThrow(new RuntimeException("boom"))
-                .when(service)
-                .tryCreateOrFallbackToUpdate(anyString(), any(), anyList());
+        when(roleMapper.selectBatchIds(anyCollection())).thenReturn(List.of(role(10L)));
 
         BulkUpsertUsersRespVO resp = service.bulkUpsertUsers(List.of(row));
 
         assertThat(resp.getFailedCount()).isEqualTo(1);
-        assertThat(resp.getFailures().get(0).getReason()).contains("INTERNAL_ERROR");
+        assertThat(resp.getFailures().get(0).getRowIndex()).isEqualTo(4);
+        verify(userMapper, never()).insertBatch(anyList());
     }
 
     @Test
@@ -815,67 +878,15 @@ class UserServiceImplTest {
         assertThat(resp.getFailures().get(0).getRowIndex()).isEqualTo(3);
     }
 
-    @Test
-    void tryCreateOrFallbackToUpdate_existingEmailTriggersUpdate() {
-        doThrow(ServiceExceptionUtil.exception(ErrorCodeConstants.EMAIL_EXIST))
-                .when(service)
-                .createUserWithRoleIds(any(CreateUserDTO.class));
-        doReturn(new UserDO()).when(service).updateUserWithRoleIds(any(UpdateUserDTO.class));
-
-        when(userMapper.selectIdByEmail("existing@example.com")).thenReturn(3000L);
-        when(userMapper.selectById(3000L)).thenReturn(new UserDO());
-        when(roleMapper.countByIds(List.of(20L))).thenReturn(1);
-
-        boolean created =
-                service.tryCreateOrFallbackToUpdate("existing@example.com", "remark", List.of(20L));
-
-        assertThat(created).isFalse();
-    }
-
-    @Test
-    void tryCreateOrFallbackToUpdate_missingUserThrows() {
-        doThrow(ServiceExceptionUtil.exception(ErrorCodeConstants.EMAIL_EXIST))
-                .when(service)
-                .createUserWithRoleIds(any(CreateUserDTO.class));
-        when(userMapper.selectIdByEmail("missing@example.com")).thenReturn(null);
-
-        assertThatThrownBy(
-                        () ->
-                                service.tryCreateOrFallbackToUpdate(
-                                        "missing@example.com", "remark", List.of(20L)))
-                .isInstanceOf(ServiceException.class)
-                .extracting("code")
-                .isEqualTo(ErrorCodeConstants.NULL_USERID.getCode());
-    }
-
-    @Test
-    void tryCreateOrFallbackToUpdate_otherServiceExceptionPropagates() {
-        doThrow(ServiceExceptionUtil.exception(ErrorCodeConstants.ROLE_NOT_FOUND))
-                .when(service)
-                .createUserWithRoleIds(any(CreateUserDTO.class));
-
-        assertThatThrownBy(
-                        () ->
-                                service.tryCreateOrFallbackToUpdate(
-                                        "user@example.com", "remark", List.of(10L)))
-                .isInstanceOf(ServiceException.class)
-                .extracting("code")
-                .isEqualTo(ErrorCodeConstants.ROLE_NOT_FOUND.getCode());
+    private static RoleDO role(Long id) {
+        RoleDO role = new RoleDO();
+        role.setId(id);
+        return role;
     }
 
-    @Test
-    void tryCreateOrFallbackToUpdate_whenRoleValidationFails_propagatesException() {
-        doThrow(ServiceExceptionUtil.exception(ErrorCodeConstants.EMAIL_EXIST))
-                .when(service)
-                .createUserWithRoleIds(any(CreateUserDTO.class));
-        when(userMapper.selectIdByEmail("existing@example.com")).thenReturn(4000L);
-
-        assertThatThrownBy(
-                        () ->
-                                service.tryCreateOrFallbackToUpdate(
-                                        "existing@example.com", "remark", List.of()))
-                .isInstanceOf(ServiceException.class)
-                .extracting("code")
-                .isEqualTo(ErrorCodeConstants.EMPTY_ROLEIDS.getCode());
+    private static UserRoleDO userRole(Long id, Long userId, Long roleId, boolean deleted) {
+        UserRoleDO ur = UserRoleDO.builder().id(id).userId(userId).roleId(roleId).build();
+        ur.setDeleted(deleted);
+        return ur;
     }
 }
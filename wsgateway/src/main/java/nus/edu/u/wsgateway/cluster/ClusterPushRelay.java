@@ -0,0 +1,127 @@
+package nus.edu.u.wsgateway.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nus.edu.u.wsgateway.config.WsClusterProperties;
+import nus.edu.u.wsgateway.runtime.LocalConnectionRegistry;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Delivers pushes to a user wherever they are connected. Local sinks are served directly; for other
+ * nodes the payload is published on that node's relay channel, found via the presence map.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterPushRelay {
+
+    /** Message exchanged on the relay channels. */
+    record RelayEnvelope(String userId, String payload) {}
+
+    private final LocalConnectionRegistry registry;
+    private final RedisPresenceTracker presence;
+    private final ReactiveStringRedisTemplate redis;
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final WsClusterProperties properties;
+    private final ObjectMapper mapper;
+
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    @PostConstruct
+    public void start() {
+        String channel = properties.getRelayChannelPrefix() + properties.getNodeId();
+        subscriptions.add(
+                listenerContainer
+                        .receive(ChannelTopic.of(channel))
+                        .subscribe(
+                                message -> deliverLocally(message.getMessage()),
+                                ex ->
+                                        log.error(
+                                                "[WS] relay subscription on {} failed",
+                                                channel,
+                                                ex)));
+        subscriptions.add(
+                Flux.interval(properties.getHeartbeatInterval())
+                        .onBackpressureDrop()
+                        .concatMap(
+                                tick ->
+                                        presence.refresh(registry.onlineUsers())
+                                                .onErrorResume(
+                                                        ex -> {
+                                                            log.warn(
+                                                                    "[WS] presence heartbeat failed: {}",
+                                                                    ex.toString());
+                                                            return Mono.empty();
+                                                        }))
+                        .subscribe());
+        log.info("[WS] cluster relay started nodeId={}", properties.getNodeId());
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+    }
+
+    /**
+     * Push {@code payload} to every connection of {@code userId} in the cluster. Emits true if at
+     * least one node accepted it.
+     */
+    public Mono<Boolean> push(String userId, Object payload) {
+        String json;
+        try {
+            json = mapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("[WS] JSON serialization failed for userId={}: {}", userId, e.getMessage());
+            return Mono.just(false);
+        }
+        boolean local = registry.hasUser(userId) && registry.pushJson(userId, json);
+        return presence.remoteNodesOf(userId)
+                .flatMapMany(Flux::fromIterable)
+                .flatMap(node -> relay(userId, node, json))
+                .reduce(local, Boolean::logicalOr)
+                .onErrorResume(
+                        ex -> {
+                            log.warn("[WS] relay failed for userId={}: {}", userId, ex.toString());
+                            return Mono.just(local);
+                        });
+    }
+
+    private Mono<Boolean> relay(String userId, String node, String json) {
+        String envelope;
+        try {
+            envelope = mapper.writeValueAsString(new RelayEnvelope(userId, json));
+        } catch (JsonProcessingException e) {
+            return Mono.just(false);
+        }
+        return redis.convertAndSend(properties.getRelayChannelPrefix() + node, envelope)
+                .flatMap(
+                        receivers -> {
+                            if (receivers > 0) {
+                                return Mono.just(true);
+                            }
+                            // Nobody listens on that node's channel any more: drop the stale entry
+                            log.debug("[WS] node {} gone, removing presence of {}", node, userId);
+                            return presence.removeNode(userId, node).thenReturn(false);
+                        });
+    }
+
+    private void deliverLocally(String message) {
+        try {
+            RelayEnvelope envelope = mapper.readValue(message, RelayEnvelope.class);
+            registry.pushJson(envelope.userId(), envelope.payload());
+        } catch (JsonProcessingException e) {
+            log.warn("[WS] malformed relay message dropped: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package nus.edu.u.wsgateway.cluster;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import nus.edu.u.wsgateway.config.WsClusterProperties;
+import nus.edu.u.wsgateway.runtime.PresenceTracker;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * User-to-node presence map kept in Redis: one set per user holding the ids of the gateway nodes
+ * the user is connected to.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisPresenceTracker implements PresenceTracker {
+
+    private final ReactiveStringRedisTemplate redis;
+    private final WsClusterProperties properties;
+
+    @Override
+    public void userConnected(String userId) {
+        String key = key(userId);
+        redis.opsForSet()
+                .add(key, properties.getNodeId())
+                .then(redis.expire(key, properties.getPresenceTtl()))
+                .subscribe(
+                        null,
+                        ex ->
+                                log.warn(
+                                        "[WS] presence add failed userId={}: {}",
+                                        userId,
+                                        ex.toString()));
+    }
+
+    @Override
+    public void userDisconnected(String userId) {
+        removeNode(userId, properties.getNodeId())
+                .subscribe(
+                        null,
+                        ex ->
+                                log.warn(
+                                        "[WS] presence remove failed userId={}: {}",
+                                        userId,
+                                        ex.toString()));
+    }
+
+    /** Nodes other than this one that currently hold a connection for the user. */
+    public Mono<Set<String>> remoteNodesOf(String userId) {
+        return redis.opsForSet()
+                .members(key(userId))
+                .filter(node -> !node.equals(properties.getNodeId()))
+                .collect(Collectors.toSet());
+    }
+
+    public Mono<Long> removeNode(String userId, String nodeId) {
+        return redis.opsForSet().remove(key(userId), nodeId);
+    }
+
+    /** Re-announce this node for all locally connected users and push their expiry out. */
+    public Mono<Void> refresh(Collection<String> userIds) {
+        return Flux.fromIterable(userIds)
+                .flatMap(
+                        userId -> {
+                            String key = key(userId);
+                            return redis.opsForSet()
+                                    .add(key, properties.getNodeId())
+                                    .then(redis.expire(key, properties.getPresenceTtl()));
+                        },
+                        16)
+                .then();
+    }
+
+    private String key(String userId) {
+        return properties.getPresenceKeyPrefix() + userId;
+    }
+}
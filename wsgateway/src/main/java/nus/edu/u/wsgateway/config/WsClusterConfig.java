@@ -0,0 +1,18 @@
+package nus.edu.u.wsgateway.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+
+@Configuration
+@EnableConfigurationProperties(WsClusterProperties.class)
+public class WsClusterConfig {
+
+    @Bean(destroyMethod = "destroy")
+    public ReactiveRedisMessageListenerContainer wsRelayListenerContainer(
+            ReactiveRedisConnectionFactory connectionFactory) {
+        return new ReactiveRedisMessageListenerContainer(connectionFactory);
+    }
+}
@@ -0,0 +1,27 @@
+package nus.edu.u.wsgateway.config;
+
+import java.time.Duration;
+import java.util.UUID;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/** Settings for cross-node WebSocket delivery. */
+@Data
+@ConfigurationProperties(prefix = "chronoflow.ws.cluster")
+public class WsClusterProperties {
+
+    /** Unique id of this gateway instance; random per start unless pinned. */
+    private String nodeId = UUID.randomUUID().toString();
+
+    /** Redis key prefix of the per-user presence sets. */
+    private String presenceKeyPrefix = "ws:presence:";
+
+    /** Redis channel prefix of the per-node relay channels. */
+    private String relayChannelPrefix = "ws:node:";
+
+    /** Presence entries expire unless refreshed, so a crashed node drops out on its own. */
+    private Duration presenceTtl = Duration.ofSeconds(90);
+
+    /** How often this node refreshes presence of its connected users. */
+    private Duration heartbeatInterval = Duration.ofSeconds(30);
+}
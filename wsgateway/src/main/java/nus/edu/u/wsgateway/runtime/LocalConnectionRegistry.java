@@ -2,7 +2,11 @@ package nus.edu.u.wsgateway.runtime;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
@@ -11,10 +15,20 @@ import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Sinks;
 
+/**
+ * Per-user outbound streams of the sockets connected to this node.
+ *
+ * <p>As a {@link MeterBinder} it publishes the number of open sockets ({@value #SOCKETS_METRIC})
+ * and of users with at least one socket ({@value #USERS_METRIC}) on this node.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class LocalConnectionRegistry {
+public class LocalConnectionRegistry implements MeterBinder {
+
+    static final String SOCKETS_METRIC = "chronoflow.ws.sockets.active";
+
+    static final String USERS_METRIC = "chronoflow.ws.users.connected";
 
     /** Per-user channel: a multicast sink + subscriber count */
     private static final class Channel {
@@ -24,7 +38,9 @@ public class LocalConnectionRegistry {
     }
 
     private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger activeSockets = new AtomicInteger();
     private final ObjectMapper mapper; // for pushObject
+    private final PresenceTracker presence; // cluster-wide user -> node map
 
     /**
      * Subscribe to a user's outbound stream; auto-refcount + cleanup when last subscriber leaves.
@@ -43,11 +59,16 @@ public class LocalConnectionRegistry {
                 .doOnSubscribe(
                         s -> {
                             int n = ch.subscribers.incrementAndGet();
+                            activeSockets.incrementAndGet();
                             log.info("[WS] userId={} subscribers={}", userId, n);
+                            if (n == 1) {
+                                presence.userConnected(userId);
+                            }
                         })
                 .doFinally(
                         sig -> {
                             int n = ch.subscribers.decrementAndGet();
+                            activeSockets.decrementAndGet();
                             log.info(
                                     "[WS] userId={} disconnected (signal={}), subscribers={}",
                                     userId,
@@ -56,6 +77,7 @@ public class LocalConnectionRegistry {
                             if (n <= 0) {
                                 // No active subscribers: drop channel to free memory
                                 channels.remove(userId);
+                                presence.userDisconnected(userId);
                                 log.info("[WS] remove channel for userId={}", userId);
                             }
                         });
@@ -100,6 +122,21 @@ public class LocalConnectionRegistry {
         return ch != null && ch.subscribers.get() > 0;
     }
 
+    /** Users with at least one subscriber on this node. */
+    public Set<String> onlineUsers() {
+        return Set.copyOf(channels.keySet());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder(SOCKETS_METRIC, activeSockets, AtomicInteger::get)
+                .description("WebSocket connections open on this node")
+                .register(registry);
+        Gauge.builder(USERS_METRIC, channels, Map::size)
+                .description("Users with at least one WebSocket connection on this node")
+                .register(registry);
+    }
+
     /** For metrics/debugging only */
     public int subscriberCount(String userId) {
         Channel ch = channels.get(userId);
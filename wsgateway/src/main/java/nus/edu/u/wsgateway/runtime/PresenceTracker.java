@@ -0,0 +1,9 @@
+package nus.edu.u.wsgateway.runtime;
+
+/** Notified when a user gains their first or loses their last connection on this node. */
+public interface PresenceTracker {
+
+    void userConnected(String userId);
+
+    void userDisconnected(String userId);
+}
@@ -4,10 +4,10 @@ import java.time.Instant;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import nus.edu.u.wsgateway.cluster.ClusterPushRelay;
 import nus.edu.u.wsgateway.domain.NotificationFeedDoc;
 import nus.edu.u.wsgateway.dto.WsPushRequestDTO;
 import nus.edu.u.wsgateway.repositories.NotificationFeedRepository;
-import nus.edu.u.wsgateway.runtime.LocalConnectionRegistry;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
@@ -19,7 +19,7 @@ import reactor.core.publisher.Mono;
 public class FeedAndPushService {
 
     private final NotificationFeedRepository repo;
-    private final LocalConnectionRegistry registry;
+    private final ClusterPushRelay relay;
 
     /**
      * Upsert feed entry (by userId+eventId) and push to online subscribers. - If the pair exists:
@@ -78,40 +78,30 @@ public class FeedAndPushService {
     }
 
     /**
-     * If the user has an active sink, emit the payload. On first successful emission for a given
-     * document, best-effort mark deliveredAt.
+     * Emit the payload to the user's sinks on whichever gateway nodes they are connected to. On
+     * first successful emission for a given document, best-effort mark deliveredAt.
      */
     private Mono<Void> pushIfOnline(NotificationFeedDoc doc, WsPushRequestDTO req) {
-        final String userId = req.getUserId();
-
-        // Fast check: if no subscribers, skip work.
-        if (!registry.hasUser(userId)) {
-            return Mono.empty();
-        }
-
-        // Try to emit to the user's sink (non-blocking, backpressure-aware).
-        boolean pushed = registry.pushObject(userId, req);
-        if (!pushed) {
-            // Could be overflow/terminated/no channel at this instant.
-            // We simply skip deliveredAt in that case.
-            return Mono.empty();
-        }
-
-        // Mark deliveredAt once (best-effort). Ignore races/errors.
-        if (doc.getDeliveredAt() == null) {
-            doc.setDeliveredAt(Instant.now());
-            return repo.save(doc)
-                    .doOnError(
-                            e ->
-                                    log.debug(
-                                            "[WS] deliveredAt save failed for {}: {}",
-                                            doc.getId(),
-                                            e.toString()))
-                    .onErrorResume(e -> Mono.empty())
-                    .then();
-        }
-
-        return Mono.empty();
+        return relay.push(req.getUserId(), req)
+                .flatMap(
+                        pushed -> {
+                            // Not pushed: offline, overflow or terminated sink at this instant.
+                            // We simply skip deliveredAt in that case.
+                            if (!pushed || doc.getDeliveredAt() != null) {
+                                return Mono.<Void>empty();
+                            }
+                            // Mark deliveredAt once (best-effort). Ignore races/errors.
+                            doc.setDeliveredAt(Instant.now());
+                            return repo.save(doc)
+                                    .doOnError(
+                                            e ->
+                                                    log.debug(
+                                                            "[WS] deliveredAt save failed for {}: {}",
+                                                            doc.getId(),
+                                                            e.toString()))
+                                    .onErrorResume(e -> Mono.empty())
+                                    .then();
+                        });
     }
 
     /** Page ordered by createdAt desc; optional 'before' cursor; hard cap limit to [1..100]. */
@@ -0,0 +1,122 @@
+package nus.edu.u.wsgateway.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import nus.edu.u.wsgateway.config.WsClusterProperties;
+import nus.edu.u.wsgateway.runtime.LocalConnectionRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import reactor.core.Disposable;
+
+/** Two gateway nodes sharing one Redis, wired as in production apart from Spring. */
+@Testcontainers(disabledWithoutDocker = true)
+class ClusterPushRelayRedisTest {
+
+    private static final String USER = "u1";
+    private static final String PRESENCE_KEY = "ws:presence:" + USER;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void push_onNodeA_reachesSocketOnNodeB() {
+        startNodes(Duration.ofMillis(200));
+        List<String> received = new CopyOnWriteArrayList<>();
+        Disposable socket = nodeB.registry.stream(USER).subscribe(received::add);
+
+        await().atMost(TIMEOUT).until(() -> members().contains("node-b"));
+        // The first relays can race node B's channel subscription; the heartbeat re-adds presence
+        await().atMost(TIMEOUT)
+                .until(
+                        () ->
+                                Boolean.TRUE.equals(
+                                        nodeA.relay
+                                                .push(USER, Map.of("title", "hi"))
+                                                .block(TIMEOUT)));
+
+        await().atMost(TIMEOUT).until(() -> received.contains("{\"title\":\"hi\"}"));
+        assertThat(nodeA.registry.hasUser(USER)).isFalse();
+        socket.dispose();
+    }
+
+    @Test
+    void socketClosedOnNodeB_removesPresenceAndPushReportsUndelivered() {
+        // No heartbeat during the test, it could re-announce the user just after the close
+        startNodes(Duration.ofMinutes(1));
+        Disposable socket = nodeB.registry.stream(USER).subscribe();
+        await().atMost(TIMEOUT).until(() -> members().contains("node-b"));
+
+        socket.dispose();
+
+        await().atMost(TIMEOUT).until(() -> !members().contains("node-b"));
+        assertThat(nodeA.relay.push(USER, Map.of("title", "hi")).block(TIMEOUT)).isFalse();
+    }
+
+    private void startNodes(Duration heartbeat) {
+        nodeA = new Node("node-a", heartbeat);
+        nodeB = new Node("node-b", heartbeat);
+        nodeA.redis.delete(PRESENCE_KEY).block(TIMEOUT);
+    }
+
+    private List<String> members() {
+        return nodeA.redis.opsForSet().members(PRESENCE_KEY).collectList().block(TIMEOUT);
+    }
+
+    private final class Node {
+
+        final LettuceConnectionFactory connectionFactory;
+        final ReactiveStringRedisTemplate redis;
+        final ReactiveRedisMessageListenerContainer listenerContainer;
+        final LocalConnectionRegistry registry;
+        final ClusterPushRelay relay;
+
+        Node(String nodeId, Duration heartbeat) {
+            WsClusterProperties properties = new WsClusterProperties();
+            properties.setNodeId(nodeId);
+            properties.setHeartbeatInterval(heartbeat);
+            connectionFactory =
+                    new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+            connectionFactory.afterPropertiesSet();
+            redis = new ReactiveStringRedisTemplate(connectionFactory);
+            listenerContainer = new ReactiveRedisMessageListenerContainer(connectionFactory);
+            RedisPresenceTracker presence = new RedisPresenceTracker(redis, properties);
+            registry = new LocalConnectionRegistry(mapper, presence);
+            relay =
+                    new ClusterPushRelay(
+                            registry, presence, redis, listenerContainer, properties, mapper);
+            relay.start();
+        }
+
+        void close() {
+            relay.stop();
+            listenerContainer.destroy();
+            connectionFactory.destroy();
+        }
+    }
+}
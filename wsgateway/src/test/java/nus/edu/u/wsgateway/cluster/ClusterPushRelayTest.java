@@ -0,0 +1,159 @@
+package nus.edu.u.wsgateway.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import nus.edu.u.wsgateway.cluster.ClusterPushRelay.RelayEnvelope;
+import nus.edu.u.wsgateway.config.WsClusterProperties;
+import nus.edu.u.wsgateway.runtime.LocalConnectionRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.ReactiveSubscription.ChannelMessage;
+import org.springframework.data.redis.connection.ReactiveSubscription.Message;
+import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterPushRelayTest {
+
+    private static final String PAYLOAD_JSON = "{\"title\":\"hi\"}";
+
+    @Mock private LocalConnectionRegistry registry;
+    @Mock private ReactiveStringRedisTemplate redis;
+    @Mock private ReactiveSetOperations<String, String> setOps;
+    @Mock private ReactiveRedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Sinks.Many<Message<String, String>> ownChannel =
+            Sinks.many().unicast().onBackpressureBuffer();
+
+    private ClusterPushRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        WsClusterProperties properties = new WsClusterProperties();
+        properties.setNodeId("node-a");
+        lenient().when(redis.opsForSet()).thenReturn(setOps);
+        when(listenerContainer.receive(ChannelTopic.of("ws:node:node-a")))
+                .thenReturn(ownChannel.asFlux());
+        RedisPresenceTracker presence = new RedisPresenceTracker(redis, properties);
+        relay =
+                new ClusterPushRelay(
+                        registry, presence, redis, listenerContainer, properties, mapper);
+        relay.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.stop();
+    }
+
+    @Test
+    void push_userOnlyOnThisNode_deliversLocallyWithoutPublishing() {
+        when(registry.hasUser("u1")).thenReturn(true);
+        when(registry.pushJson("u1", PAYLOAD_JSON)).thenReturn(true);
+        when(setOps.members("ws:presence:u1")).thenReturn(Flux.just("node-a"));
+
+        StepVerifier.create(relay.push("u1", Map.of("title", "hi")))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(redis, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void push_userOnOtherNode_publishesEnvelopeOnThatNodesChannelOnly() throws Exception {
+        when(registry.hasUser("u1")).thenReturn(false);
+        when(setOps.members("ws:presence:u1")).thenReturn(Flux.just("node-a", "node-b"));
+        when(redis.convertAndSend(eq("ws:node:node-b"), anyString())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(relay.push("u1", Map.of("title", "hi")))
+                .expectNext(true)
+                .verifyComplete();
+
+        ArgumentCaptor<String> envelope = ArgumentCaptor.forClass(String.class);
+        verify(redis).convertAndSend(eq("ws:node:node-b"), envelope.capture());
+        verify(redis, never()).convertAndSend(eq("ws:node:node-a"), anyString());
+        verify(registry, never()).pushJson(anyString(), anyString());
+        assertThat(mapper.readValue(envelope.getValue(), RelayEnvelope.class))
+                .isEqualTo(new RelayEnvelope("u1", PAYLOAD_JSON));
+    }
+
+    @Test
+    void push_localAndRemote_deliversBoth() {
+        when(registry.hasUser("u1")).thenReturn(true);
+        when(registry.pushJson("u1", PAYLOAD_JSON)).thenReturn(true);
+        when(setOps.members("ws:presence:u1")).thenReturn(Flux.just("node-a", "node-b"));
+        when(redis.convertAndSend(eq("ws:node:node-b"), anyString())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(relay.push("u1", Map.of("title", "hi")))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(registry).pushJson("u1", PAYLOAD_JSON);
+        verify(redis).convertAndSend(eq("ws:node:node-b"), anyString());
+    }
+
+    @Test
+    void push_remoteNodeWithoutListener_dropsStalePresence() {
+        when(registry.hasUser("u1")).thenReturn(false);
+        when(setOps.members("ws:presence:u1")).thenReturn(Flux.just("node-b"));
+        when(redis.convertAndSend(eq("ws:node:node-b"), anyString())).thenReturn(Mono.just(0L));
+        when(setOps.remove("ws:presence:u1", "node-b")).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(relay.push("u1", Map.of("title", "hi")))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(setOps).remove("ws:presence:u1", "node-b");
+    }
+
+    @Test
+    void push_whenPresenceLookupFails_fallsBackToLocalResult() {
+        when(registry.hasUser("u1")).thenReturn(true);
+        when(registry.pushJson("u1", PAYLOAD_JSON)).thenReturn(true);
+        when(setOps.members("ws:presence:u1"))
+                .thenReturn(Flux.error(new IllegalStateException("redis down")));
+
+        StepVerifier.create(relay.push("u1", Map.of("title", "hi")))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    void relayedMessage_onOwnChannel_isDeliveredLocallyAndNotRepublished() throws Exception {
+        String envelope = mapper.writeValueAsString(new RelayEnvelope("u1", PAYLOAD_JSON));
+
+        ownChannel.tryEmitNext(new ChannelMessage<>("ws:node:node-a", envelope));
+
+        verify(registry).pushJson("u1", PAYLOAD_JSON);
+        verify(setOps, never()).members(anyString());
+        verify(redis, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void relayedMessage_malformed_isDropped() {
+        ownChannel.tryEmitNext(new ChannelMessage<>("ws:node:node-a", "not json"));
+
+        verify(registry, never()).pushJson(anyString(), any());
+    }
+}
@@ -0,0 +1,93 @@
+package nus.edu.u.wsgateway.cluster;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import nus.edu.u.wsgateway.config.WsClusterProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class RedisPresenceTrackerTest {
+
+    private static final Duration TTL = Duration.ofSeconds(90);
+
+    @Mock private ReactiveStringRedisTemplate redis;
+    @Mock private ReactiveSetOperations<String, String> setOps;
+
+    private RedisPresenceTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        WsClusterProperties properties = new WsClusterProperties();
+        properties.setNodeId("node-a");
+        properties.setPresenceTtl(TTL);
+        when(redis.opsForSet()).thenReturn(setOps);
+        tracker = new RedisPresenceTracker(redis, properties);
+    }
+
+    @Test
+    void userConnected_addsNodeAndSetsExpiry() {
+        when(setOps.add("ws:presence:u1", "node-a")).thenReturn(Mono.just(1L));
+        when(redis.expire("ws:presence:u1", TTL)).thenReturn(Mono.just(true));
+
+        tracker.userConnected("u1");
+
+        verify(setOps).add("ws:presence:u1", "node-a");
+        verify(redis).expire("ws:presence:u1", TTL);
+    }
+
+    @Test
+    void userDisconnected_removesOnlyThisNode() {
+        when(setOps.remove("ws:presence:u1", "node-a")).thenReturn(Mono.just(1L));
+
+        tracker.userDisconnected("u1");
+
+        verify(setOps).remove("ws:presence:u1", "node-a");
+        verify(redis, never()).expire(anyString(), any());
+    }
+
+    @Test
+    void remoteNodesOf_excludesThisNode() {
+        when(setOps.members("ws:presence:u1")).thenReturn(Flux.just("node-a", "node-b", "node-c"));
+
+        StepVerifier.create(tracker.remoteNodesOf("u1"))
+                .expectNext(Set.of("node-b", "node-c"))
+                .verifyComplete();
+    }
+
+    @Test
+    void remoteNodesOf_whenOnlyThisNode_isEmpty() {
+        when(setOps.members("ws:presence:u1")).thenReturn(Flux.just("node-a"));
+
+        StepVerifier.create(tracker.remoteNodesOf("u1")).expectNext(Set.of()).verifyComplete();
+    }
+
+    @Test
+    void refresh_reannouncesEveryUserAndPushesExpiryOut() {
+        when(setOps.add(anyString(), anyString())).thenReturn(Mono.just(0L));
+        when(redis.expire(anyString(), eq(TTL))).thenReturn(Mono.just(true));
+
+        StepVerifier.create(tracker.refresh(List.of("u1", "u2"))).verifyComplete();
+
+        verify(setOps).add("ws:presence:u1", "node-a");
+        verify(setOps).add("ws:presence:u2", "node-a");
+        verify(redis).expire("ws:presence:u1", TTL);
+        verify(redis).expire("ws:presence:u2", TTL);
+    }
+}